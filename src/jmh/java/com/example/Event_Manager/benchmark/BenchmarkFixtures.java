@@ -0,0 +1,71 @@
+package com.example.Event_Manager.benchmark;
+
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.review.Review;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.enums.Role;
+import com.example.Event_Manager.models.venue.Venue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// wspolne encje w pamieci dla benchmarkow bez bazy
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "YmVuY2htYXJrLXNlY3JldC1rZXktdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaHMyNTY=";
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(long id, Role role) {
+        return User.builder()
+                .id(id)
+                .firstName("Jan")
+                .lastName("Kowalski" + id)
+                .email("user" + id + "@benchmark.pl")
+                .phoneNumber(String.format("%09d", id))
+                .password("password")
+                .role(role)
+                .status(com.example.Event_Manager.models.user.enums.Status.ACTIVE)
+                .build();
+    }
+
+    static Event event(long id) {
+        Country country = Country.builder().code("PL").name("Polska").build();
+        City city = City.builder().id(id).name("Warszawa").country(country).build();
+        Venue venue = Venue.builder()
+                .id(id)
+                .name("Sala " + id)
+                .address("Ulica " + id)
+                .description("Opis sali")
+                .city(city)
+                .build();
+        Category category = Category.builder().id(id).name("Muzyka").description("Koncerty").build();
+        return Event.builder()
+                .id(id)
+                .name("Koncert " + id)
+                .description("Opis wydarzenia " + id)
+                .startTime(Timestamp.valueOf(LocalDateTime.now().plusDays(7)))
+                .endTime(Timestamp.valueOf(LocalDateTime.now().plusDays(7).plusHours(3)))
+                .status(Status.PUBLISHED)
+                .organizer(user(id, Role.ORGANIZER))
+                .venue(venue)
+                .category(category)
+                .build();
+    }
+
+    static Review review(long id, Event event, User user) {
+        return Review.builder()
+                .id(id)
+                .event(event)
+                .user(user)
+                .rating((int) (id % 10) + 1)
+                .comment("Komentarz " + id)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.Event_Manager.benchmark;
+
+import com.example.Event_Manager.auth.util.JwtUtil;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.enums.Role;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    // 0 = kazde wywolanie weryfikuje podpis, jak przed cache tokenow
+    @Param({"0", "10000"})
+    public long tokenCacheMaxSize;
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", BenchmarkFixtures.JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "tokenCacheMaxSize", tokenCacheMaxSize);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        user = BenchmarkFixtures.user(1L, Role.ATTENDEE);
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    // sciezka filtra: username + walidacja + wersja tokena
+    @Benchmark
+    public boolean authenticateRequest() {
+        return jwtUtil.extractUsername(token) != null
+                && jwtUtil.isTokenValid(token, user)
+                && jwtUtil.extractTokenVersion(token) != null;
+    }
+}
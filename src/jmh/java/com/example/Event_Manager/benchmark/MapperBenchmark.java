@@ -0,0 +1,62 @@
+package com.example.Event_Manager.benchmark;
+
+import com.example.Event_Manager.models.category.mapper.CategoryMapperImpl;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.dto.response.EventDTO;
+import com.example.Event_Manager.models.event.mapper.EventMapper;
+import com.example.Event_Manager.models.event.mapper.EventMapperImpl;
+import com.example.Event_Manager.models.review.Review;
+import com.example.Event_Manager.models.review.dto.response.ReviewDTO;
+import com.example.Event_Manager.models.review.mapper.ReviewMapper;
+import com.example.Event_Manager.models.review.mapper.ReviewMapperImpl;
+import com.example.Event_Manager.models.user.enums.Role;
+import com.example.Event_Manager.models.venue.mapper.VenueMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private EventMapper eventMapper;
+    private ReviewMapper reviewMapper;
+    private Event event;
+    private Review review;
+
+    @Setup
+    public void setUp() {
+        // tylko mappery, bez bazy i reszty kontekstu
+        context = new AnnotationConfigApplicationContext(
+                EventMapperImpl.class,
+                CategoryMapperImpl.class,
+                VenueMapperImpl.class,
+                ReviewMapperImpl.class
+        );
+        eventMapper = context.getBean(EventMapper.class);
+        reviewMapper = context.getBean(ReviewMapper.class);
+        event = BenchmarkFixtures.event(1L);
+        review = BenchmarkFixtures.review(1L, event, BenchmarkFixtures.user(2L, Role.ATTENDEE));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EventDTO eventToDTO() {
+        return eventMapper.toDTO(event);
+    }
+
+    @Benchmark
+    public ReviewDTO reviewToDTO() {
+        return reviewMapper.toDTO(review);
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.Event_Manager.benchmark;
+
+import com.example.Event_Manager.EventManagerApplication;
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.models._util.CursorPage;
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.dto.response.EventDTO;
+import com.example.Event_Manager.models.event.dto.response.EventListItemDTO;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
+import com.example.Event_Manager.models.event.search.EventSearchQuery;
+import com.example.Event_Manager.models.event.service.EventService;
+import com.example.Event_Manager.models.review.Review;
+import com.example.Event_Manager.models.review.dto.response.ReviewSummaryDTO;
+import com.example.Event_Manager.models.review.repository.ReviewRepository;
+import com.example.Event_Manager.models.review.service.EventRatingBucketInitializer;
+import com.example.Event_Manager.models.review.service.ReviewService;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.enums.Role;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// serwisy na pelnym kontekscie Springa i H2 w pamieci; rozmiar danych: -p events=10000 -p reviews=50000
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000"})
+    public int events;
+
+    // wszystkie recenzje trafiaja do jednego eventu, zeby bylo widac koszt podsumowania
+    @Param({"5000"})
+    public int reviews;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private ReviewService reviewService;
+    private Long reviewedEventId;
+    private int pageCount;
+    private int page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EventManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.flyway.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--jwt.secret=" + BenchmarkFixtures.JWT_SECRET,
+                        "--jwt.expiration=3600000",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN"
+                );
+        eventService = context.getBean(EventService.class);
+        reviewService = context.getBean(ReviewService.class);
+        // zapis w jednej transakcji, bo kaskady na relacjach nie przyjmuja odlaczonych encji
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> seed());
+        // indeks i agregaty budowane przy starcie, kiedy baza byla jeszcze pusta
+        context.getBean(EventRatingBucketInitializer.class).initialize();
+        context.getBean(EventSearchIndex.class).rebuild();
+        pageCount = Math.max(events / PAGE_SIZE, 1);
+    }
+
+    private void seed() {
+        Country country = context.getBean(CountryRepository.class)
+                .save(Country.builder().code("PL").name("Polska").build());
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            cities.add(City.builder().name("Miasto " + i).country(country).build());
+        }
+        cities = context.getBean(CityRepository.class).saveAll(cities);
+
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            venues.add(Venue.builder()
+                    .name("Sala " + i)
+                    .address("Ulica " + i)
+                    .description("Opis sali")
+                    .city(cities.get(i % cities.size()))
+                    .build());
+        }
+        venues = context.getBean(VenueRepository.class).saveAll(venues);
+
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            categories.add(Category.builder().name("Kategoria " + i).description("Opis").build());
+        }
+        categories = context.getBean(CategoryRepository.class).saveAll(categories);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            User user = BenchmarkFixtures.user(i, i <= 10 ? Role.ORGANIZER : Role.ATTENDEE);
+            user.setId(null);
+            users.add(user);
+        }
+        users = context.getBean(UserRepository.class).saveAll(users);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Event> eventEntities = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            eventEntities.add(Event.builder()
+                    .name("Event " + i)
+                    .description("Opis wydarzenia numer " + i)
+                    .startTime(Timestamp.valueOf(start.plusHours(i)))
+                    .endTime(Timestamp.valueOf(start.plusHours(i + 2)))
+                    .status(Status.PUBLISHED)
+                    .organizer(users.get(i % 10))
+                    .venue(venues.get(i % venues.size()))
+                    .category(categories.get(i % categories.size()))
+                    .build());
+        }
+        eventEntities = context.getBean(EventRepository.class).saveAll(eventEntities);
+
+        Event reviewedEvent = eventEntities.get(0);
+        reviewedEventId = reviewedEvent.getId();
+        List<Review> reviewEntities = new ArrayList<>(reviews);
+        for (int i = 0; i < reviews; i++) {
+            reviewEntities.add(Review.builder()
+                    .event(reviewedEvent)
+                    .user(users.get(10 + i % 10))
+                    .rating(i % 10 + 1)
+                    .comment("Komentarz " + i)
+                    .build());
+        }
+        context.getBean(ReviewRepository.class).saveAll(reviewEntities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private Pageable nextPage() {
+        page = (page + 1) % pageCount;
+        return PageRequest.of(page, PAGE_SIZE, Sort.by("id"));
+    }
+
+    @Benchmark
+    public Page<EventDTO> getAllEvents() {
+        return eventService.getAllEvents(nextPage());
+    }
+
+    @Benchmark
+    public Page<EventListItemDTO> getEventListItems() {
+        return eventService.getEventListItems(nextPage());
+    }
+
+    @Benchmark
+    public CursorPage<EventDTO> scrollAllEvents() {
+        return eventService.scrollAllEvents(null, PAGE_SIZE, Sort.by("id"));
+    }
+
+    @Benchmark
+    public Page<EventDTO> searchEvents() {
+        return eventService.searchEvents(
+                new EventSearchQuery("opis wydarz", null, null, null, null),
+                PageRequest.of(0, PAGE_SIZE)
+        );
+    }
+
+    @Benchmark
+    public ReviewSummaryDTO getEventReviewSummary() {
+        return reviewService.getEventReviewSummary(reviewedEventId);
+    }
+}
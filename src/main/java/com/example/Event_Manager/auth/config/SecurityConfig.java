@@ -1,6 +1,8 @@
 package com.example.Event_Manager.auth.config;
 
+import com.example.Event_Manager.auth.service.TokenVersionRegistry;
 import com.example.Event_Manager.auth.util.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -29,6 +31,7 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     /*
         umozliwilem pobieranie uzytkonikom bez konta np eventow itd
@@ -47,11 +50,18 @@ public class SecurityConfig {
                                 response.sendError(HttpServletResponse.SC_FORBIDDEN, "Forbidden"))
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // dispatch ASYNC konczy request autoryzowany juz przy dispatchu REQUEST (filtr JWT go pomija)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/public/**").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        // eksport trzyma polaczenie z puli przez caly czas czytania - tylko dla zalogowanych
+                        .requestMatchers(HttpMethod.GET, "/api/events/export", "/api/reviews/event/*/export",
+                                "/api/cities/export").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/events", "/api/events/**",
-                                "/api/categories", "/api/categories/**", "/api/reviews/event/**",
+                                "/api/categories", "/api/categories/**", "/api/reviews/event/**", "/api/reservations/event/**",
                                 "/api/countries", "/api/countries/**", "/api/cities", "/api/cities/**",
                                 "/api/venues", "/api/venues/**").permitAll()
                         .anyRequest().authenticated()
@@ -64,7 +74,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenVersionRegistry);
     }
 
     @Bean
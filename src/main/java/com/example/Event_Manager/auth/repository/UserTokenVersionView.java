@@ -0,0 +1,6 @@
+package com.example.Event_Manager.auth.repository;
+
+public interface UserTokenVersionView {
+    Long getUserId();
+    int getTokenVersion();
+}
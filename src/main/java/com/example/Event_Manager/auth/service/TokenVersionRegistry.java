@@ -0,0 +1,54 @@
+package com.example.Event_Manager.auth.service;
+
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.auth.repository.UserTokenVersionView;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+    private final UserRepository userRepository;
+
+    // userId -> aktualna wersja tokenow, brak wpisu = 0
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void load() {
+        for (UserTokenVersionView view : userRepository.findRevokedTokenVersions()) {
+            versions.put(view.getUserId(), view.getTokenVersion());
+        }
+        log.info("Loaded token versions for {} users", versions.size());
+    }
+
+    public boolean isCurrent(Long userId, Integer tokenVersion) {
+        int expected = versions.getOrDefault(userId, 0);
+        return (tokenVersion == null ? 0 : tokenVersion) == expected;
+    }
+
+    // wywolywane w transakcji zmieniajacej usera, pamiec aktualizujemy dopiero po commicie
+    public void revoke(Long userId) {
+        userRepository.incrementTokenVersion(userId);
+        int version = userRepository.findTokenVersionById(userId).orElse(0);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.merge(userId, version, Math::max);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.merge(userId, version, Math::max);
+            }
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.Event_Manager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EVENTS = "events";
+    public static final String EVENT_SUMMARIES = "eventSummaries";
+    public static final String USER_PRINCIPALS = "userPrincipals";
+
+    // regiony cache L2 Hibernate dla slownikow osadzanych w eventach
+    public static final String COUNTRIES = "countries";
+    public static final String CITIES = "cities";
+    public static final String VENUES = "venues";
+    public static final String CATEGORIES = "categories";
+    public static final String COUNTRY_CITIES = "countries.cities";
+    public static final String CITY_VENUES = "cities.venues";
+
+    private static final List<String> REFERENCE_REGIONS = List.of(
+            COUNTRIES, CITIES, VENUES, CATEGORIES, COUNTRY_CITIES, CITY_VENUES);
+
+    // evict/put dopiero po commicie, inaczej rownolegly odczyt moze wrzucic do cache stary stan
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.events.spec}") String eventCacheSpec,
+            @Value("${cache.principals.spec}") String principalCacheSpec
+    ) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(EVENTS, EVENT_SUMMARIES);
+        caffeineCacheManager.setCacheSpecification(eventCacheSpec);
+        caffeineCacheManager.setAllowNullValues(false);
+        // principal ma krotkie TTL, zeby zmiana w bazie poza UserService tez sie szybko propagowala
+        caffeineCacheManager.registerCustomCache(USER_PRINCIPALS, Caffeine.from(principalCacheSpec).build());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    // osobny provider na kontekst, zeby regiony L2 nie byly wspoldzielone miedzy fabrykami sesji na roznych bazach
+    @Bean(destroyMethod = "close")
+    public CachingProvider hibernateCachingProvider() {
+        return new CaffeineCachingProvider();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CachingProvider hibernateCachingProvider,
+            @Value("${cache.hibernate.max-size}") long maxSize,
+            @Value("${cache.hibernate.query-max-size}") long queryMaxSize,
+            @Value("${cache.hibernate.ttl}") Duration ttl
+    ) {
+        javax.cache.CacheManager cacheManager = hibernateCachingProvider.getCacheManager(
+                hibernateCachingProvider.getDefaultURI(), getClass().getClassLoader());
+        REFERENCE_REGIONS.forEach(region -> cacheManager.createCache(region, regionConfiguration(maxSize, ttl)));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(queryMaxSize, ttl));
+        // znaczniki zmian tabel (po jednym na tabele) nie moga wypasc, inaczej query cache oddalby wynik sprzed zapisu
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>().setStoreByValue(false));
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    // Hibernate trzyma w regionie niemutowalny, rozlozony stan encji, wiec kopiowanie przy kazdym get/put nic nie daje
+    private CaffeineConfiguration<Object, Object> regionConfiguration(long maxSize, Duration ttl) {
+        return new CaffeineConfiguration<>()
+                .setStoreByValue(false)
+                .setMaximumSize(OptionalLong.of(maxSize))
+                .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.Event_Manager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// zadania okresowe (zrzut licznikow zainteresowanych, odswiezanie trendow) ida na taskScheduler z autokonfiguracji
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,235 @@
+package com.example.Event_Manager.datagen;
+
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.interested.Interested;
+import com.example.Event_Manager.models.interested.repository.InterestedRepository;
+import com.example.Event_Manager.models.review.Review;
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
+import com.example.Event_Manager.models.review.repository.ReviewRepository;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.enums.Role;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+// generator danych do testow obciazeniowych: --spring.profiles.active=datagen (patrz application-datagen.properties)
+@Slf4j
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    public static final String ORGANIZER_EMAIL = "organizer%d@datagen.local";
+    public static final String ATTENDEE_EMAIL = "attendee%d@datagen.local";
+
+    private static final String[] WORDS = {
+            "koncert", "festiwal", "jazz", "rock", "teatr", "kino", "warsztaty", "konferencja", "java", "spring",
+            "maraton", "wystawa", "targi", "stand-up", "opera", "balet", "gala", "meetup", "hackathon", "piknik"
+    };
+
+    private final CountryRepository countryRepository;
+    private final CityRepository cityRepository;
+    private final VenueRepository venueRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final ReviewRepository reviewRepository;
+    private final InterestedRepository interestedRepository;
+    private final EventRatingBucketRepository eventRatingBucketRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+
+    @Value("${datagen.countries}")
+    private int countries;
+    @Value("${datagen.cities-per-country}")
+    private int citiesPerCountry;
+    @Value("${datagen.venues-per-city}")
+    private int venuesPerCity;
+    @Value("${datagen.categories}")
+    private int categories;
+    @Value("${datagen.organizers}")
+    private int organizers;
+    @Value("${datagen.attendees}")
+    private int attendees;
+    @Value("${datagen.events}")
+    private int events;
+    @Value("${datagen.reviews}")
+    private int reviews;
+    @Value("${datagen.interests}")
+    private int interests;
+    @Value("${datagen.password}")
+    private String password;
+    @Value("${datagen.batch-size}")
+    private int batchSize;
+    @Value("${datagen.seed}")
+    private long seed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (userRepository.existsByEmail(ORGANIZER_EMAIL.formatted(0))) {
+            log.info("Synthetic data already present, skipping generation");
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Random random = new Random(seed);
+
+        List<String> countryCodes = insert(countries, i ->
+                Country.builder().code("G%03d".formatted(i)).name("Kraj " + i).build(), Country::getCode);
+
+        List<Long> cityIds = insert(countries * citiesPerCountry, i -> City.builder()
+                .name("Miasto " + i)
+                .country(entityManager.getReference(Country.class, countryCodes.get(i % countryCodes.size())))
+                .build(), City::getId);
+
+        List<Long> venueIds = insert(cityIds.size() * venuesPerCity, i -> Venue.builder()
+                .name("Sala " + i)
+                .address("Ulica " + words(random, 1) + " " + (i + 1))
+                .description("Sala " + words(random, 3))
+                .city(entityManager.getReference(City.class, cityIds.get(i % cityIds.size())))
+                .build(), Venue::getId);
+
+        List<Long> categoryIds = insert(categories, i -> Category.builder()
+                .name("Kategoria " + i)
+                .description("Kategoria " + words(random, 2))
+                .build(), Category::getId);
+
+        String encodedPassword = passwordEncoder.encode(password);
+        List<Long> organizerIds = insert(organizers, i ->
+                user(ORGANIZER_EMAIL.formatted(i), "1%08d".formatted(i), Role.ORGANIZER, encodedPassword), User::getId);
+        List<Long> attendeeIds = insert(attendees, i ->
+                user(ATTENDEE_EMAIL.formatted(i), "2%08d".formatted(i), Role.ATTENDEE, encodedPassword), User::getId);
+
+        // czesc eventow w przeszlosci, zeby recenzje mialy sens; reszta rozlozona na najblizszy rok
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> eventIds = insert(events, i -> {
+            LocalDateTime start = now.plusHours(random.nextInt(24 * 365) - 24 * 60);
+            return Event.builder()
+                    .name(capitalize(words(random, 2)) + " " + i)
+                    .description(capitalize(words(random, 12)))
+                    .startTime(Timestamp.valueOf(start))
+                    .endTime(Timestamp.valueOf(start.plusHours(1 + random.nextInt(6))))
+                    .status(Status.PUBLISHED)
+                    .organizer(entityManager.getReference(User.class, pick(random, organizerIds)))
+                    .venue(entityManager.getReference(Venue.class, pick(random, venueIds)))
+                    .category(entityManager.getReference(Category.class, pick(random, categoryIds)))
+                    .build();
+        }, Event::getId);
+
+        insert(reviews, i -> Review.builder()
+                .event(entityManager.getReference(Event.class, pick(random, eventIds)))
+                .user(entityManager.getReference(User.class, pick(random, attendeeIds)))
+                .rating(1 + random.nextInt(10))
+                .comment(capitalize(words(random, 8)))
+                .build(), null);
+
+        // para user-event moze wystapic tylko raz, inaczej toggle w API by ja usunal
+        Set<Long> interestPairs = new HashSet<>();
+        int maxInterests = (int) Math.min(interests, (long) eventIds.size() * attendeeIds.size());
+        insert(maxInterests, i -> {
+            int userIndex;
+            int eventIndex;
+            do {
+                userIndex = random.nextInt(attendeeIds.size());
+                eventIndex = random.nextInt(eventIds.size());
+            } while (!interestPairs.add((long) userIndex * eventIds.size() + eventIndex));
+            return Interested.builder()
+                    .user(entityManager.getReference(User.class, attendeeIds.get(userIndex)))
+                    .event(entityManager.getReference(Event.class, eventIds.get(eventIndex)))
+                    .build();
+        }, null);
+
+        // agregaty ocen liczone od nowa, bo recenzje szly z pominieciem ReviewService
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventRatingBucketRepository.deleteAllInBatch();
+            eventRatingBucketRepository.rebuildFromReviews();
+        });
+
+        log.info("Generated {} events, {} reviews, {} interests, {} organizers and {} attendees in {} ms",
+                eventIds.size(), reviews, maxInterests, organizerIds.size(), attendeeIds.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    // zapis paczkami, kazda paczka w osobnej transakcji z wyczyszczonym kontekstem persystencji;
+    // zwracamy tylko klucze, zeby przy milionach wierszy nie trzymac encji w pamieci
+    private <T, K> List<K> insert(int count, IntFunction<T> factory, Function<T, K> key) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<K> keys = new ArrayList<>(key != null ? count : 0);
+        for (int from = 0; from < count; from += batchSize) {
+            int start = from;
+            int end = Math.min(from + batchSize, count);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < end; i++) {
+                    T entity = factory.apply(i);
+                    entityManager.persist(entity);
+                    if (key != null) {
+                        keys.add(key.apply(entity));
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return keys;
+    }
+
+    private User user(String email, String phoneNumber, Role role, String encodedPassword) {
+        return User.builder()
+                .firstName(role == Role.ORGANIZER ? "Organizator" : "Uczestnik")
+                .lastName(email.substring(0, email.indexOf('@')))
+                .email(email)
+                .phoneNumber(phoneNumber)
+                .password(encodedPassword)
+                .role(role)
+                .status(com.example.Event_Manager.models.user.enums.Status.ACTIVE)
+                .build();
+    }
+
+    private Long pick(Random random, List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
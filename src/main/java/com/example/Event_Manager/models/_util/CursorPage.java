@@ -0,0 +1,11 @@
+package com.example.Event_Manager.models._util;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+}
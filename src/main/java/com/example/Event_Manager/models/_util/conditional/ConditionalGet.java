@@ -0,0 +1,40 @@
+package com.example.Event_Manager.models._util.conditional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// If-None-Match / If-Modified-Since sprawdzane przed zbudowaniem odpowiedzi; 304 nie dotyka body
+@Component
+public class ConditionalGet {
+
+    private final CacheControl cacheControl;
+
+    public ConditionalGet(@Value("${http.cache.max-age}") Duration maxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+    }
+
+    // wersja musi byc odczytana przed body: przy rownoleglej zmianie stary ETag z nowym body wymusi tylko kolejne 200,
+    // a odwrotnie klient utknalby z nieaktualna kopia
+    public <T> ResponseEntity<T> respond(WebRequest request, ResourceVersion version, Supplier<T> body) {
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(version.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(version.etag())
+                .cacheControl(cacheControl);
+        if (version.lastModified() > 0) {
+            response.lastModified(version.lastModified());
+        }
+        return response.body(body.get());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.Event_Manager.models._util.conditional;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+// walidator odpowiedzi liczony z samych znacznikow zmian, bez ladowania encji i budowania DTO
+public record ResourceVersion(
+        String etag,
+        long lastModified
+) {
+
+    // zasob zlozony z kilku wierszy: zmiana ktoregokolwiek podbija jego updated_at, wiec max to Last-Modified calosci
+    public static ResourceVersion of(Date... timestamps) {
+        StringBuilder state = new StringBuilder();
+        long lastModified = -1;
+        for (Date timestamp : timestamps) {
+            long millis = timestamp != null ? timestamp.getTime() : 0;
+            lastModified = Math.max(lastModified, millis);
+            state.append(millis).append(':');
+        }
+        return new ResourceVersion(etag(state), lastModified > 0 ? lastModified : -1);
+    }
+
+    // stan bez wiarygodnej daty zmiany (np. liczniki, z ktorych ubywa) - tylko ETag
+    public static ResourceVersion ofState(Object... parts) {
+        StringBuilder state = new StringBuilder();
+        for (Object part : parts) {
+            state.append(part).append(':');
+        }
+        return new ResourceVersion(etag(state), -1);
+    }
+
+    private static String etag(StringBuilder state) {
+        return '"' + DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)) + '"';
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.Event_Manager.models._util.export;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    // jeden obiekt JSON na linie
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileName(String name) {
+        return name + "." + extension;
+    }
+}
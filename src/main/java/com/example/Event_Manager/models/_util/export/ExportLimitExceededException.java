@@ -0,0 +1,7 @@
+package com.example.Event_Manager.models._util.export;
+
+public class ExportLimitExceededException extends RuntimeException {
+    public ExportLimitExceededException(String message) {
+        super(message);
+    }
+}
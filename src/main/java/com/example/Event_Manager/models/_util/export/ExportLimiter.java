@@ -0,0 +1,55 @@
+package com.example.Event_Manager.models._util.export;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// eksport trzyma polaczenie z puli i watek async tak dlugo, jak klient czyta odpowiedz,
+// wiec liczba rownoleglych eksportow jest ograniczona, a dlugi timeout dostaja tylko one
+@Component
+public class ExportLimiter {
+
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public ExportLimiter(
+            @Value("${export.max-concurrent}") int maxConcurrent,
+            @Value("${export.timeout}") Duration timeout
+    ) {
+        this.permits = new Semaphore(Math.max(maxConcurrent, 1));
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    // request mapping adapter przekazuje do kontrolera ten sam AsyncWebRequest, ktory potem startuje async,
+    // wiec timeout ustawiony tutaj obowiazuje tylko ten request
+    public StreamingResponseBody limit(WebRequest request, StreamingResponseBody body) {
+        if (!permits.tryAcquire()) {
+            throw new ExportLimitExceededException("Too many exports in progress, try again later.");
+        }
+        // zadanie async moze w ogole nie ruszyc (odrzucenie przez executor, rozlaczenie klienta, timeout),
+        // wiec pozwolenie oddaje tez zakonczenie requestu; kto pierwszy, ten oddaje
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        if (request instanceof AsyncWebRequest asyncRequest) {
+            asyncRequest.setTimeout(timeoutMillis);
+            asyncRequest.addCompletionHandler(release);
+        }
+        return out -> {
+            try {
+                body.writeTo(out);
+            } finally {
+                release.run();
+            }
+        };
+    }
+}
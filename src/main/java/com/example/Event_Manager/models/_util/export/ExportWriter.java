@@ -0,0 +1,96 @@
+package com.example.Event_Manager.models._util.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+// zapis eksportu wiersz po wierszu prosto do odpowiedzi; nic poza biezacym wierszem nie zostaje w pamieci
+public class ExportWriter<T> {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final ExportFormat format;
+    private final Writer writer;
+    private final ObjectWriter json;
+    private final List<String> columns;
+    private final Function<T, List<?>> values;
+    private long rows;
+
+    public ExportWriter(ExportFormat format, OutputStream out, ObjectMapper objectMapper,
+                        List<String> columns, Function<T, List<?>> values) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.json = objectMapper.writer();
+        this.columns = columns;
+        this.values = values;
+    }
+
+    public void writeHeader() {
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(columns);
+        }
+    }
+
+    public void write(T row) {
+        try {
+            if (format == ExportFormat.NDJSON) {
+                writer.write(json.writeValueAsString(row));
+                writer.write('\n');
+            } else {
+                writeCsvLine(values.apply(row));
+            }
+            // klient dostaje dane na biezaco, a nie dopiero po zapelnieniu bufora kontenera
+            if (++rows % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsvLine(List<?> line) {
+        try {
+            for (int i = 0; i < line.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvValue(line.get(i)));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
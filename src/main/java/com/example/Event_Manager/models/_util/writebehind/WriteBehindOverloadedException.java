@@ -0,0 +1,7 @@
+package com.example.Event_Manager.models._util.writebehind;
+
+public class WriteBehindOverloadedException extends RuntimeException {
+    public WriteBehindOverloadedException(String message) {
+        super(message);
+    }
+}
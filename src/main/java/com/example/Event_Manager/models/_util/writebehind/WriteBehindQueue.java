@@ -0,0 +1,271 @@
+package com.example.Event_Manager.models._util.writebehind;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// group commit: zapisy z wielu requestow wykonywane jedna transakcja na watku flushera,
+// wiec zamiast commitu na kazde klikniecie jest jeden commit (i batch JDBC insertow) na paczke
+@Slf4j
+@Component
+public class WriteBehindQueue {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final ThreadLocal<Boolean> IN_BATCH = ThreadLocal.withInitial(() -> false);
+
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final WriteDurability durability;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long enqueueTimeoutNanos;
+    private final long commitTimeoutNanos;
+    private final BlockingQueue<PendingWrite<?>> queue;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public WriteBehindQueue(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${write-behind.enabled}") boolean enabled,
+            @Value("${write-behind.durability}") WriteDurability durability,
+            @Value("${write-behind.batch-size}") int batchSize,
+            @Value("${write-behind.max-delay}") Duration maxDelay,
+            @Value("${write-behind.queue-capacity}") int queueCapacity,
+            @Value("${write-behind.enqueue-timeout}") Duration enqueueTimeout,
+            @Value("${write-behind.commit-timeout}") Duration commitTimeout
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.durability = durability;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.commitTimeoutNanos = commitTimeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        this.batchSizes = DistributionSummary.builder("write.behind.batch.size")
+                .description("Writes committed together in one write-behind transaction")
+                .register(meterRegistry);
+        Gauge.builder("write.behind.queue.size", queue, BlockingQueue::size)
+                .description("Writes waiting for the write-behind flusher")
+                .register(meterRegistry);
+    }
+
+    // efekt uboczny zapisu (liczniki, indeksy): w paczce dopiero po jej commicie, bo przy bledzie
+    // paczka jest wycofywana i kazdy zapis wykonywany ponownie osobno; poza paczka od razu
+    public static void afterWrite(Runnable action) {
+        if (!IN_BATCH.get() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("write-behind-flusher").daemon().start(this::flushLoop);
+        log.info("Write-behind enabled: durability={}, batchSize={}, maxDelay={}ms",
+                durability, batchSize, TimeUnit.NANOSECONDS.toMillis(maxDelayNanos));
+    }
+
+    // bez write-behind (albo przy zamykaniu) zapis idzie od razu na watku wolajacego;
+    // `accepted` to odpowiedz dla trybu QUEUED, gdy wyniku zapisu jeszcze nie ma
+    public <R> R submit(Supplier<R> write, R accepted) {
+        if (!running) {
+            return write.get();
+        }
+
+        PendingWrite<R> pending = new PendingWrite<>(write);
+        try {
+            // kolejka ograniczona: przy zatkanej bazie request czeka, a po enqueue-timeout dostaje 503
+            if (!queue.offer(pending, enqueueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new WriteBehindOverloadedException("Too many pending writes, try again later.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteBehindOverloadedException("Interrupted while waiting for the write queue.");
+        }
+        // stop() zdazyl przelaczyc flage i oproznic kolejke przed offer - nikt by tego zapisu juz nie wykonal
+        if (!running && queue.remove(pending)) {
+            return write.get();
+        }
+
+        return durability == WriteDurability.QUEUED ? accepted : pending.await();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = flusher;
+        }
+        // flusher dopisuje wszystko, co zostalo w kolejce, i dopiero wtedy konczy
+        if (current == null) {
+            return;
+        }
+        current.join(SHUTDOWN_TIMEOUT.toMillis());
+
+        // zapisy wstawione po ostatnim oproznieniu kolejki przez flusher; gdy flusher utknal, tylko je odrzucamy
+        List<PendingWrite<?>> left = new ArrayList<>();
+        queue.drainTo(left);
+        if (current.isAlive()) {
+            left.forEach(pending -> pending.fail(new WriteBehindOverloadedException("Write-behind is shutting down.")));
+        } else {
+            left.forEach(PendingWrite::writeAlone);
+        }
+    }
+
+    private void flushLoop() {
+        while (running || !queue.isEmpty()) {
+            List<PendingWrite<?>> batch = new ArrayList<>(batchSize);
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Write-behind flusher interrupted with {} queued writes", queue.size());
+                return;
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                write(batch);
+            } catch (Throwable e) {
+                // Error z zapisu nie moze zabic flushera - wolajacy czekaliby na wynik do commit-timeout,
+                // a kolejne requesty zapychaly kolejke
+                log.error("Write-behind batch of {} failed", batch.size(), e);
+                batch.forEach(pending -> pending.fail(e));
+            }
+        }
+    }
+
+    // paczka konczy sie, gdy jest pelna albo minie max-delay od pierwszego zapisu
+    private void collect(List<PendingWrite<?>> batch) throws InterruptedException {
+        PendingWrite<?> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            PendingWrite<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingWrite<?>> batch) {
+        batchSizes.record(batch.size());
+        boolean committed;
+        IN_BATCH.set(true);
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(PendingWrite::writeInBatch));
+            committed = true;
+        } catch (RuntimeException e) {
+            log.debug("Write-behind batch of {} failed, retrying writes one by one", batch.size(), e);
+            committed = false;
+        } finally {
+            IN_BATCH.set(false);
+        }
+
+        if (committed) {
+            batch.forEach(PendingWrite::complete);
+        } else {
+            // jeden zapis wywrocil paczke (brak eventu, naruszenie ograniczenia...) - calosc poszla do rollbacku,
+            // wiec kazdy zapis powtarzamy osobno, dokladnie tak jak bez write-behind
+            batch.forEach(PendingWrite::writeAlone);
+        }
+    }
+
+    private final class PendingWrite<R> {
+        private final Supplier<R> write;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        private R batchResult;
+
+        private PendingWrite(Supplier<R> write) {
+            this.write = write;
+        }
+
+        private void writeInBatch() {
+            batchResult = write.get();
+        }
+
+        private void complete() {
+            result.complete(batchResult);
+        }
+
+        private void fail(Throwable e) {
+            result.completeExceptionally(e);
+        }
+
+        private void writeAlone() {
+            try {
+                result.complete(write.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                // w trybie QUEUED nikt juz nie czeka na wynik, wiec zostaje tylko log
+                if (durability == WriteDurability.QUEUED) {
+                    log.warn("Queued write failed and was dropped", e);
+                }
+            }
+        }
+
+        private R await() {
+            try {
+                return result.get(commitTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                // wyjatek biznesowy z zapisu (np. EventNotFoundException) trafia do requestu bez zmian
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException("Write-behind write failed", e.getCause());
+            } catch (TimeoutException e) {
+                // zapis moze jeszcze wejsc w kolejnej paczce, ale request nie czeka na niego dluzej
+                throw new WriteBehindOverloadedException("Write was not confirmed in time, try again later.");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for write-behind commit", e);
+            }
+        }
+    }
+}
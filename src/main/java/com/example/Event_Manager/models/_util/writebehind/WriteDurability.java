@@ -0,0 +1,8 @@
+package com.example.Event_Manager.models._util.writebehind;
+
+public enum WriteDurability {
+    // odpowiedz dopiero po commicie paczki z tym zapisem - te same gwarancje co bez write-behind
+    COMMIT,
+    // odpowiedz zaraz po wstawieniu do kolejki; zapis moze przepasc przy awarii procesu
+    QUEUED
+}
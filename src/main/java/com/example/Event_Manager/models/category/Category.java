@@ -1,16 +1,23 @@
 package com.example.Event_Manager.models.category;
 
+import com.example.Event_Manager.config.CacheConfig;
 import com.example.Event_Manager.models.event.Event;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.util.Date;
 import java.util.Set;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.CATEGORIES)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,6 +35,10 @@ public class Category {
     @Column(nullable = false, length = 500, name = "description", columnDefinition = "TEXT")
     private String description;
 
+    @UpdateTimestamp
+    @Column(nullable = false, name = "updated_at")
+    private Date updatedAt;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "category", cascade = CascadeType.ALL)
     private Set<Event> events;
 
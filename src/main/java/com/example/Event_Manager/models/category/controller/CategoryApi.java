@@ -12,6 +12,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
 
 @Validated
 @Tag(name = "Category Management", description = "APIs for managing categories")
@@ -49,10 +50,11 @@ public interface CategoryApi {
             description = "Retrieves a category by its ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category found"),
+            @ApiResponse(responseCode = "304", description = "Category not modified since the ETag or date sent by the client"),
             @ApiResponse(responseCode = "400", description = "Invalid ID provided"),
             @ApiResponse(responseCode = "404", description = "Category not found or does not exist")
     })
-    ResponseEntity<CategoryDTO> getCategoryById(Long id);
+    ResponseEntity<CategoryDTO> getCategoryById(Long id, WebRequest request);
 
     @Operation(summary = "Get all categories",
             description = "Retrieves all paginated categories.")
@@ -1,6 +1,7 @@
 package com.example.Event_Manager.models.category.controller;
 
 import com.example.Event_Manager.models._util.annotations.IsAdmin;
+import com.example.Event_Manager.models._util.conditional.ConditionalGet;
 import com.example.Event_Manager.models.category.dto.request.CreateCategoryDTO;
 import com.example.Event_Manager.models.category.dto.request.UpdateCategoryDTO;
 import com.example.Event_Manager.models.category.dto.response.CategoryDTO;
@@ -14,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -23,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class CategoryController implements CategoryApi {
 
     private final ICategoryService categoryService;
+    private final ConditionalGet conditionalGet;
 
     @PostMapping
     @IsAdmin
@@ -48,8 +51,9 @@ public class CategoryController implements CategoryApi {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryDTO> getCategoryById(@PathVariable Long id) {
-        return ResponseEntity.ok(categoryService.getCategoryById(id));
+    public ResponseEntity<CategoryDTO> getCategoryById(@PathVariable Long id, WebRequest request) {
+        return conditionalGet.respond(request, categoryService.getCategoryVersion(id),
+                () -> categoryService.getCategoryById(id));
     }
 
 
@@ -2,10 +2,16 @@ package com.example.Event_Manager.models.category.repository;
 
 import com.example.Event_Manager.models.category.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findCategoryByName(String name);
     Category findByName(String name);
+
+    @Query("SELECT c.updatedAt FROM Category c WHERE c.id = :id")
+    Optional<Date> findUpdatedAtById(@Param("id") Long id);
 }
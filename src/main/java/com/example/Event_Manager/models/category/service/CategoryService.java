@@ -1,5 +1,7 @@
 package com.example.Event_Manager.models.category.service;
 
+import com.example.Event_Manager.config.CacheConfig;
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
 import com.example.Event_Manager.models.category.Category;
 import com.example.Event_Manager.models.category.dto.request.CreateCategoryDTO;
 import com.example.Event_Manager.models.category.dto.request.UpdateCategoryDTO;
@@ -10,8 +12,10 @@ import com.example.Event_Manager.models.category.exceptions.CategoryNotFoundExce
 import com.example.Event_Manager.models.category.mapper.CategoryMapper;
 import com.example.Event_Manager.models.category.repository.CategoryRepository;
 import com.example.Event_Manager.models.category.validation.CategoryValidation;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,6 +30,7 @@ public class CategoryService implements ICategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
     private final CategoryValidation categoryValidation;
+    private final EventSearchIndex eventSearchIndex;
 
     @Override
     @Transactional
@@ -46,6 +51,7 @@ public class CategoryService implements ICategoryService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)
     public CategoryDTO updateCategory(Long categoryId, UpdateCategoryDTO updateCategoryDTO) {
         categoryValidation.checkIfIdValid(categoryId);
         categoryValidation.checkIfRequestNotNull(updateCategoryDTO);
@@ -60,12 +66,14 @@ public class CategoryService implements ICategoryService {
 
         categoryMapper.updateEntity(categoryToUpdate, updateCategoryDTO);
         Category updatedCategory = categoryRepository.save(categoryToUpdate);
+        eventSearchIndex.reindexCategory(categoryId);
 
         return categoryMapper.toDTO(updatedCategory);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)
     public void deleteCategory(Long categoryId) {
         categoryValidation.checkIfIdValid(categoryId);
 
@@ -85,6 +93,14 @@ public class CategoryService implements ICategoryService {
         return categoryMapper.toDTO(category);
     }
 
+    @Override
+    public ResourceVersion getCategoryVersion(Long categoryId) {
+        categoryValidation.checkIfIdValid(categoryId);
+        return categoryRepository.findUpdatedAtById(categoryId)
+                .map(ResourceVersion::of)
+                .orElseThrow(() -> new CategoryNotFoundException("Category not found in database."));
+    }
+
     @Override
     public Page<CategoryDTO> getAllCategories(Pageable pageable) {
         Page<Category> categories = categoryRepository.findAll(pageable);
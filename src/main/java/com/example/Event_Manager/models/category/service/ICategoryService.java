@@ -1,5 +1,6 @@
 package com.example.Event_Manager.models.category.service;
 
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
 import com.example.Event_Manager.models.category.dto.request.CreateCategoryDTO;
 import com.example.Event_Manager.models.category.dto.request.UpdateCategoryDTO;
 import com.example.Event_Manager.models.category.dto.response.CategoryDTO;
@@ -11,5 +12,6 @@ public interface ICategoryService {
     CategoryDTO updateCategory(Long categoryId, UpdateCategoryDTO updateCategoryDTO);
     void deleteCategory(Long categoryId);
     CategoryDTO getCategoryById(Long categoryId);
+    ResourceVersion getCategoryVersion(Long categoryId);
     Page<CategoryDTO> getAllCategories(Pageable pageable);
 }
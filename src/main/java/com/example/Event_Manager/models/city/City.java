@@ -1,5 +1,6 @@
 package com.example.Event_Manager.models.city;
 
+import com.example.Event_Manager.config.CacheConfig;
 import com.example.Event_Manager.models.country.Country;
 import com.example.Event_Manager.models.venue.Venue;
 import jakarta.persistence.*;
@@ -7,11 +8,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.util.Date;
 import java.util.Set;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.CITIES)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,6 +37,11 @@ public class City {
     @JoinColumn(name = "country_code", referencedColumnName = "code", nullable = false)
     private Country country;
 
+    @UpdateTimestamp
+    @Column(nullable = false, name = "updated_at")
+    private Date updatedAt;
+
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.CITY_VENUES)
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "city", cascade = CascadeType.ALL)
     private Set<Venue> venues;
 
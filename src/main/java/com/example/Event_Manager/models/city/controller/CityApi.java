@@ -1,5 +1,6 @@
 package com.example.Event_Manager.models.city.controller;
 
+import com.example.Event_Manager.models._util.export.ExportFormat;
 import com.example.Event_Manager.models.city.dto.request.CreateCityDTO;
 import com.example.Event_Manager.models.city.dto.request.UpdateCityDTO;
 import com.example.Event_Manager.models.city.dto.response.CityDTO;
@@ -9,8 +10,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,7 +23,7 @@ import java.util.List;
 @Tag(name = "City Management", description = "APIs for managing cities")
 public interface CityApi {
     @Operation(summary = "Get all cities",
-            description = "Retrieves all cities with optional filtering by name and countries.")
+            description = "Retrieves cities with optional filtering by name and countries. The list is capped on the server; use the paged or export endpoint to read every city.")
     @ApiResponse(responseCode = "200", description = "Cities retrieved successfully")
     ResponseEntity<List<CityDTO>> getAll(
             @Parameter(description = "Filter cities by name (case-insensitive partial match)")
@@ -27,13 +32,49 @@ public interface CityApi {
             List<String> countries
     );
 
+    @Operation(summary = "Get cities page",
+            description = "Retrieves a page of cities with optional filtering by name and countries. Page size is capped on the server.")
+    @ApiResponse(responseCode = "200", description = "Cities retrieved successfully")
+    ResponseEntity<Page<CityDTO>> getPage(
+            @Parameter(description = "Filter cities by name (case-insensitive partial match)")
+            String name,
+            @Parameter(description = "Filter cities by country codes (comma-separated, e.g., PL,DE)")
+            List<String> countries,
+            @Parameter(description = "Pagination parameters (page, size, sort)")
+            Pageable pageable
+    );
+
+    @Operation(summary = "Export cities",
+            description = "Streams all cities matching the filters as NDJSON or CSV in a single response.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "429", description = "Too many exports in progress")
+    })
+    ResponseEntity<StreamingResponseBody> export(ExportFormat format, String name, List<String> countries, WebRequest request);
+
+    @Operation(summary = "Autocomplete cities",
+            description = "Returns cities whose name starts with or contains the query (case- and accent-insensitive), "
+                    + "prefix matches first. Served from an in-memory catalogue refreshed after admin changes.")
+    @ApiResponse(responseCode = "200", description = "Matching cities retrieved successfully")
+    ResponseEntity<List<CityDTO>> autocomplete(
+            @Parameter(description = "Text typed by the user")
+            String q,
+            @Parameter(description = "Filter cities by country codes (comma-separated, e.g., PL,DE)")
+            List<String> countries,
+            @Parameter(description = "Maximum number of results, capped by the server")
+            int limit
+    );
+
     @Operation(summary = "Get city by ID",
             description = "Retrieves a city by its ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "City found"),
+            @ApiResponse(responseCode = "304", description = "City not modified since the ETag or date sent by the client"),
             @ApiResponse(responseCode = "404", description = "City not found")
     })
-    ResponseEntity<CityDTO> getById(Long id);
+    ResponseEntity<CityDTO> getById(Long id, WebRequest request);
 
     @Operation(summary = "Create a new city",
             description = "Allows an authenticated user to create a new city.")
@@ -1,16 +1,27 @@
 package com.example.Event_Manager.models.city.controller;
 
 import com.example.Event_Manager.models._util.annotations.IsAdmin;
+import com.example.Event_Manager.models._util.conditional.ConditionalGet;
+import com.example.Event_Manager.models._util.export.ExportFormat;
+import com.example.Event_Manager.models._util.export.ExportLimiter;
 import com.example.Event_Manager.models.city.dto.request.CreateCityDTO;
 import com.example.Event_Manager.models.city.dto.request.UpdateCityDTO;
 import com.example.Event_Manager.models.city.dto.response.CityDTO;
+import com.example.Event_Manager.models.city.service.CityExportService;
 import com.example.Event_Manager.models.city.service.CityService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +32,9 @@ import java.util.List;
 public class CityController implements CityApi {
 
     private final CityService cityService;
+    private final CityExportService cityExportService;
+    private final ExportLimiter exportLimiter;
+    private final ConditionalGet conditionalGet;
 
     @Override
     @GetMapping
@@ -30,10 +44,44 @@ public class CityController implements CityApi {
         return ResponseEntity.ok(cityService.getAll(name, countries));
     }
 
+    @Override
+    @GetMapping("/page")
+    public ResponseEntity<Page<CityDTO>> getPage(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) List<String> countries,
+            @PageableDefault(sort = "name") Pageable pageable) {
+        return ResponseEntity.ok(cityService.getPage(name, countries, pageable));
+    }
+
+    @Override
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) List<String> countries,
+            WebRequest request) {
+        StreamingResponseBody body = exportLimiter.limit(request,
+                out -> cityExportService.exportCities(name, countries, format, out));
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName("cities")).build().toString())
+                .body(body);
+    }
+
+    @Override
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<CityDTO>> autocomplete(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) List<String> countries,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(cityService.autocomplete(q, countries, limit));
+    }
+
     @Override
     @GetMapping("/{id}")
-    public ResponseEntity<CityDTO> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(cityService.getById(id));
+    public ResponseEntity<CityDTO> getById(@PathVariable Long id, WebRequest request) {
+        return conditionalGet.respond(request, cityService.getVersion(id), () -> cityService.getById(id));
     }
 
     @Override
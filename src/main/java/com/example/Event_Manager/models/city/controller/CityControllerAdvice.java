@@ -1,6 +1,7 @@
 package com.example.Event_Manager.models.city.controller;
 
 import com.example.Event_Manager.models._util.ErrorResponse;
+import com.example.Event_Manager.models._util.export.ExportLimitExceededException;
 import com.example.Event_Manager.models.city.exceptions.CityNotFoundException;
 import com.example.Event_Manager.models.country.exceptions.CountryNotFoundException;
 import org.springframework.http.HttpStatus;
@@ -34,5 +35,14 @@ public class CityControllerAdvice {
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
-}
 
+    @ExceptionHandler(ExportLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleExportLimitExceeded(ExportLimitExceededException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
+}
@@ -4,6 +4,7 @@ import com.example.Event_Manager.models.city.City;
 import com.example.Event_Manager.models.city.dto.request.CreateCityDTO;
 import com.example.Event_Manager.models.city.dto.request.UpdateCityDTO;
 import com.example.Event_Manager.models.city.dto.response.CityDTO;
+import com.example.Event_Manager.models.city.repository.CityListView;
 import com.example.Event_Manager.models.country.Country;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -16,8 +17,13 @@ public interface CityMapper {
 
     CityDTO toDTO(City city);
 
+    @Mapping(source = "countryCode", target = "country.code")
+    @Mapping(source = "countryName", target = "country.name")
+    CityDTO toListItemDTO(CityListView city);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "venues", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "country", source = "country")
     @Mapping(target = "name", source = "createCityDTO.name")
     City toEntity(CreateCityDTO createCityDTO, Country country);
@@ -25,6 +31,7 @@ public interface CityMapper {
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "venues", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "country", source = "country")
     @Mapping(target = "name", source = "updateCityDTO.name")
     void updateEntity(@MappingTarget City city, UpdateCityDTO updateCityDTO, Country country);
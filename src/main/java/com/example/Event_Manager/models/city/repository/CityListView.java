@@ -0,0 +1,11 @@
+package com.example.Event_Manager.models.city.repository;
+
+public interface CityListView {
+    Long getId();
+
+    String getName();
+
+    String getCountryCode();
+
+    String getCountryName();
+}
@@ -1,15 +1,85 @@
 package com.example.Event_Manager.models.city.repository;
 
 import com.example.Event_Manager.models.city.City;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CityRepository extends JpaRepository<City, Long> {
-    List<City> findByNameContainingIgnoreCase(String name);
-    List<City> findByCountry_CodeIn(List<String> countryCodes);
-    List<City> findByNameContainingIgnoreCaseAndCountry_CodeIn(String name, List<String> countryCodes);
+
+    String EXPORT_FETCH_SIZE = "500";
+
+    // plaski wiersz z nazwa kraju w jednym zapytaniu, bez encji w persistence context
+    String LIST_SELECT = """
+            SELECT ci.id AS id, ci.name AS name, co.code AS countryCode, co.name AS countryName
+            FROM City ci
+            JOIN ci.country co
+            """;
+    String NAME_FILTER = "(:name IS NULL OR LOWER(ci.name) LIKE LOWER(CONCAT('%', :name, '%')))";
+
+    // strona w query cache jak w CountryRepository.findAllBy; COUNT idzie tylko przy pelnej stronie
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = LIST_SELECT + "WHERE " + NAME_FILTER,
+            countQuery = "SELECT COUNT(ci) FROM City ci WHERE " + NAME_FILTER)
+    Page<CityListView> findListItems(@Param("name") String name, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = LIST_SELECT + "WHERE co.code IN :countries AND " + NAME_FILTER,
+            countQuery = "SELECT COUNT(ci) FROM City ci WHERE ci.country.code IN :countries AND " + NAME_FILTER)
+    Page<CityListView> findListItemsByCountries(@Param("name") String name,
+                                                @Param("countries") Collection<String> countries,
+                                                Pageable pageable);
+
+    // lista bez stronicowania: LIMIT bez zapytania COUNT, jak CountryRepository.findAllBy
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(LIST_SELECT + "WHERE " + NAME_FILTER)
+    List<CityListView> findListItems(@Param("name") String name, Sort sort, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(LIST_SELECT + "WHERE co.code IN :countries AND " + NAME_FILTER)
+    List<CityListView> findListItemsByCountries(@Param("name") String name,
+                                                @Param("countries") Collection<String> countries,
+                                                Sort sort, Limit limit);
+
+    // eksport: kursor z ograniczonym fetch size jak EventRepository.streamListItems
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(LIST_SELECT + "WHERE " + NAME_FILTER + " ORDER BY ci.id")
+    Stream<CityListView> streamListItems(@Param("name") String name);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(LIST_SELECT + "WHERE co.code IN :countries AND " + NAME_FILTER + " ORDER BY ci.id")
+    Stream<CityListView> streamListItemsByCountries(@Param("name") String name,
+                                                    @Param("countries") Collection<String> countries);
+
+    @Query("SELECT c FROM City c JOIN FETCH c.country")
+    List<City> findAllWithCountry();
+
+    @Query("""
+            SELECT ci.updatedAt AS cityUpdatedAt, co.updatedAt AS countryUpdatedAt
+            FROM City ci
+            JOIN ci.country co
+            WHERE ci.id = :id
+            """)
+    Optional<CityVersionView> findVersionById(@Param("id") Long id);
 }
 
@@ -0,0 +1,9 @@
+package com.example.Event_Manager.models.city.repository;
+
+import java.util.Date;
+
+public interface CityVersionView {
+    Date getCityUpdatedAt();
+
+    Date getCountryUpdatedAt();
+}
@@ -0,0 +1,52 @@
+package com.example.Event_Manager.models.city.service;
+
+import com.example.Event_Manager.models._util.export.ExportFormat;
+import com.example.Event_Manager.models._util.export.ExportWriter;
+import com.example.Event_Manager.models.city.dto.response.CityDTO;
+import com.example.Event_Manager.models.city.mapper.CityMapper;
+import com.example.Event_Manager.models.city.repository.CityListView;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+// pelna lista miast (np. zaimportowany zbior swiatowy) strumieniem zamiast jednej wielkiej List<CityDTO>
+@Service
+@RequiredArgsConstructor
+public class CityExportService {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "countryCode", "countryName");
+
+    private final CityRepository cityRepository;
+    private final CityMapper cityMapper;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Timed(value = "cities.export", description = "City list exports")
+    public long exportCities(String name, List<String> countries, ExportFormat format, OutputStream out) {
+        ExportWriter<CityDTO> writer = new ExportWriter<>(format, out, objectMapper, COLUMNS, city -> Arrays.asList(
+                city.id(), city.name(), city.country().code(), city.country().name()));
+        writer.writeHeader();
+
+        String nameFilter = name != null && !name.isBlank() ? name : null;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<CityListView> rows = countries != null && !countries.isEmpty()
+                    ? cityRepository.streamListItemsByCountries(nameFilter, countries)
+                    : cityRepository.streamListItems(nameFilter)) {
+                rows.map(cityMapper::toListItemDTO).forEach(writer::write);
+            }
+        });
+        writer.flush();
+        return writer.rows();
+    }
+}
@@ -1,20 +1,30 @@
 package com.example.Event_Manager.models.city.service;
 
+import com.example.Event_Manager.config.CacheConfig;
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
 import com.example.Event_Manager.models.city.City;
 import com.example.Event_Manager.models.city.dto.request.CreateCityDTO;
 import com.example.Event_Manager.models.city.dto.request.UpdateCityDTO;
 import com.example.Event_Manager.models.city.dto.response.CityDTO;
 import com.example.Event_Manager.models.city.exceptions.CityNotFoundException;
 import com.example.Event_Manager.models.city.mapper.CityMapper;
+import com.example.Event_Manager.models.city.repository.CityListView;
 import com.example.Event_Manager.models.city.repository.CityRepository;
 import com.example.Event_Manager.models.country.Country;
 import com.example.Event_Manager.models.country.exceptions.CountryNotFoundException;
 import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,25 +33,35 @@ public class CityService {
     private final CityRepository cityRepository;
     private final CountryRepository countryRepository;
     private final CityMapper cityMapper;
+    private final GeoCatalogue geoCatalogue;
+    private final EventSearchIndex eventSearchIndex;
 
-    public List<CityDTO> getAll(String name, List<String> countries) {
-        boolean hasName = name != null && !name.isBlank();
-        boolean hasCountries = countries != null && !countries.isEmpty();
-
-        List<City> cities;
-        if (hasName && hasCountries) {
-            cities = cityRepository.findByNameContainingIgnoreCaseAndCountry_CodeIn(name, countries);
-        } else if (hasName) {
-            cities = cityRepository.findByNameContainingIgnoreCase(name);
-        } else if (hasCountries) {
-            cities = cityRepository.findByCountry_CodeIn(countries);
-        } else {
-            cities = cityRepository.findAll();
-        }
+    @Value("${lookup.list.max-results}")
+    private int maxListResults;
 
+    // lista bez stronicowania ucieta do max-results; cala tabela tylko przez getPage albo eksport
+    public List<CityDTO> getAll(String name, List<String> countries) {
+        String nameFilter = name != null && !name.isBlank() ? name : null;
+        Sort sort = Sort.by("id");
+        Limit limit = Limit.of(maxListResults);
+        List<CityListView> cities = countries != null && !countries.isEmpty()
+                ? cityRepository.findListItemsByCountries(nameFilter, countries, sort, limit)
+                : cityRepository.findListItems(nameFilter, sort, limit);
         return cities.stream()
-                .map(cityMapper::toDTO)
-                .collect(Collectors.toList());
+                .map(cityMapper::toListItemDTO)
+                .toList();
+    }
+
+    public Page<CityDTO> getPage(String name, List<String> countries, Pageable pageable) {
+        String nameFilter = name != null && !name.isBlank() ? name : null;
+        Page<CityListView> cities = countries != null && !countries.isEmpty()
+                ? cityRepository.findListItemsByCountries(nameFilter, countries, pageable)
+                : cityRepository.findListItems(nameFilter, pageable);
+        return cities.map(cityMapper::toListItemDTO);
+    }
+
+    public List<CityDTO> autocomplete(String query, List<String> countries, int limit) {
+        return geoCatalogue.findCities(query, countries, limit);
     }
 
     public CityDTO getById(Long id) {
@@ -50,15 +70,23 @@ public class CityService {
         return cityMapper.toDTO(city);
     }
 
+    public ResourceVersion getVersion(Long id) {
+        return cityRepository.findVersionById(id)
+                .map(version -> ResourceVersion.of(version.getCityUpdatedAt(), version.getCountryUpdatedAt()))
+                .orElseThrow(() -> new CityNotFoundException(id));
+    }
+
     public CityDTO create(CreateCityDTO createCityDTO) {
         Country country = countryRepository.findById(createCityDTO.countryCode())
                 .orElseThrow(() -> new CountryNotFoundException(createCityDTO.countryCode()));
 
         City city = cityMapper.toEntity(createCityDTO, country);
         City savedCity = cityRepository.save(city);
+        geoCatalogue.refresh();
         return cityMapper.toDTO(savedCity);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)
     public CityDTO update(Long id, UpdateCityDTO updateCityDTO) {
         City city = cityRepository.findById(id)
                 .orElseThrow(() -> new CityNotFoundException(id));
@@ -68,13 +96,17 @@ public class CityService {
 
         cityMapper.updateEntity(city, updateCityDTO, country);
         City updatedCity = cityRepository.save(city);
+        geoCatalogue.refresh();
+        eventSearchIndex.reindexCity(id);
         return cityMapper.toDTO(updatedCity);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)
     public void delete(Long id) {
         City city = cityRepository.findById(id)
                 .orElseThrow(() -> new CityNotFoundException(id));
         cityRepository.delete(city);
+        geoCatalogue.refresh();
     }
 }
 
@@ -1,16 +1,23 @@
 package com.example.Event_Manager.models.country;
 
+import com.example.Event_Manager.config.CacheConfig;
 import com.example.Event_Manager.models.city.City;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.util.Date;
 import java.util.Set;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.COUNTRIES)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,6 +31,11 @@ public class Country {
     @Column(nullable = false, name = "name")
     private String name;
 
+    @UpdateTimestamp
+    @Column(nullable = false, name = "updated_at")
+    private Date updatedAt;
+
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.COUNTRY_CITIES)
     @OneToMany(mappedBy = "country", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<City> cities;
 }
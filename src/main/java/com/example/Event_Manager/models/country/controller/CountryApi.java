@@ -4,12 +4,16 @@ import com.example.Event_Manager.models.country.dto.request.CreateCountryDTO;
 import com.example.Event_Manager.models.country.dto.request.UpdateCountryDTO;
 import com.example.Event_Manager.models.country.dto.response.CountryDTO;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -50,12 +54,21 @@ public interface CountryApi {
             description = "Retrieves a country by its code.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Country found"),
+            @ApiResponse(responseCode = "304", description = "Country not modified since the ETag or date sent by the client"),
             @ApiResponse(responseCode = "404", description = "Country not found")
     })
-    ResponseEntity<CountryDTO> getByCode(String code);
+    ResponseEntity<CountryDTO> getByCode(String code, WebRequest request);
 
     @Operation(summary = "Get all countries",
-            description = "Retrieves all countries.")
+            description = "Retrieves all countries, capped on the server.")
     @ApiResponse(responseCode = "200", description = "Countries retrieved successfully")
     ResponseEntity<List<CountryDTO>> getAll();
+
+    @Operation(summary = "Get countries page",
+            description = "Retrieves a page of countries. Page size is capped on the server.")
+    @ApiResponse(responseCode = "200", description = "Countries retrieved successfully")
+    ResponseEntity<Page<CountryDTO>> getPage(
+            @Parameter(description = "Pagination parameters (page, size, sort)")
+            Pageable pageable
+    );
 }
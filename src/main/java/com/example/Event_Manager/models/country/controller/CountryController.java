@@ -1,16 +1,21 @@
 package com.example.Event_Manager.models.country.controller;
 
 import com.example.Event_Manager.models._util.annotations.IsAdmin;
+import com.example.Event_Manager.models._util.conditional.ConditionalGet;
 import com.example.Event_Manager.models.country.dto.request.CreateCountryDTO;
 import com.example.Event_Manager.models.country.dto.request.UpdateCountryDTO;
 import com.example.Event_Manager.models.country.dto.response.CountryDTO;
 import com.example.Event_Manager.models.country.service.CountryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +26,7 @@ import java.util.List;
 public class CountryController implements CountryApi {
 
     private final CountryService countryService;
+    private final ConditionalGet conditionalGet;
 
     @Override
     @PostMapping
@@ -50,8 +56,8 @@ public class CountryController implements CountryApi {
 
     @Override
     @GetMapping("/{code}")
-    public ResponseEntity<CountryDTO> getByCode(@PathVariable String code) {
-        return ResponseEntity.ok(countryService.getByCode(code));
+    public ResponseEntity<CountryDTO> getByCode(@PathVariable String code, WebRequest request) {
+        return conditionalGet.respond(request, countryService.getVersion(code), () -> countryService.getByCode(code));
     }
 
     @Override
@@ -59,4 +65,10 @@ public class CountryController implements CountryApi {
     public ResponseEntity<List<CountryDTO>> getAll() {
         return ResponseEntity.ok(countryService.getAll());
     }
+
+    @Override
+    @GetMapping("/page")
+    public ResponseEntity<Page<CountryDTO>> getPage(@PageableDefault(sort = "code") Pageable pageable) {
+        return ResponseEntity.ok(countryService.getPage(pageable));
+    }
 }
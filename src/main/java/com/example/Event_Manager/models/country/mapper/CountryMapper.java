@@ -16,10 +16,12 @@ public interface CountryMapper {
     CountryDTO toDTO(Country country);
 
     @Mapping(target = "cities", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Country toEntity(CreateCountryDTO createCountryDTO);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "cities", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "code", ignore = true)
     void updateEntity(@MappingTarget Country country, UpdateCountryDTO updateCountryDTO);
 }
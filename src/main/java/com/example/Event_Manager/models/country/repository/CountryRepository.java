@@ -1,8 +1,27 @@
 package com.example.Event_Manager.models.country.repository;
 
 import com.example.Event_Manager.models.country.Country;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface CountryRepository extends JpaRepository<Country, String> {}
+public interface CountryRepository extends JpaRepository<Country, String> {
+
+    // wynik w query cache (same klucze), encje z regionu L2; zapis do countries przez Hibernate uniewaznia wynik.
+    // List + Pageable = LIMIT bez zapytania COUNT
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Country> findAllBy(Pageable pageable);
+
+    @Query("SELECT c.updatedAt FROM Country c WHERE c.code = :code")
+    Optional<Date> findUpdatedAtByCode(@Param("code") String code);
+}
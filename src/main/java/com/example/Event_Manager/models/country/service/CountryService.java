@@ -1,5 +1,7 @@
 package com.example.Event_Manager.models.country.service;
 
+import com.example.Event_Manager.config.CacheConfig;
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
 import com.example.Event_Manager.models.country.Country;
 import com.example.Event_Manager.models.country.dto.request.CreateCountryDTO;
 import com.example.Event_Manager.models.country.dto.response.CountryDTO;
@@ -8,7 +10,14 @@ import com.example.Event_Manager.models.country.exceptions.CountryAlreadyExistsE
 import com.example.Event_Manager.models.country.exceptions.CountryNotFoundException;
 import com.example.Event_Manager.models.country.mapper.CountryMapper;
 import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,19 +29,34 @@ public class CountryService {
 
     private final CountryRepository countryRepository;
     private final CountryMapper countryMapper;
+    private final GeoCatalogue geoCatalogue;
 
+    @Value("${lookup.list.max-results}")
+    private int maxListResults;
+
+    // panstw jest kilkaset, ale limit i tak chroni przed zaladowaniem calej tabeli jednym GET
     public List<CountryDTO> getAll() {
-        return countryRepository.findAll().stream()
+        return countryRepository.findAllBy(PageRequest.of(0, maxListResults, Sort.by("code"))).stream()
                 .map(countryMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
+    public Page<CountryDTO> getPage(Pageable pageable) {
+        return countryRepository.findAll(pageable).map(countryMapper::toDTO);
+    }
+
     public CountryDTO getByCode(String code) {
         Country country = countryRepository.findById(code)
                 .orElseThrow(() -> new CountryNotFoundException(code));
         return countryMapper.toDTO(country);
     }
 
+    public ResourceVersion getVersion(String code) {
+        return countryRepository.findUpdatedAtByCode(code)
+                .map(ResourceVersion::of)
+                .orElseThrow(() -> new CountryNotFoundException(code));
+    }
+
     public CountryDTO create(CreateCountryDTO createCountryDTO) {
         String code = createCountryDTO.code();
         if (countryRepository.existsById(code)) {
@@ -43,17 +67,22 @@ public class CountryService {
         return countryMapper.toDTO(savedCountry);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)
     public CountryDTO update(String code, UpdateCountryDTO updateCountryDTO) {
         Country country = countryRepository.findById(code)
                 .orElseThrow(() -> new CountryNotFoundException(code));
         countryMapper.updateEntity(country, updateCountryDTO);
         Country updatedCountry = countryRepository.save(country);
+        // nazwa kraju siedzi w CityDTO w obrazie autocomplete
+        geoCatalogue.refresh();
         return countryMapper.toDTO(updatedCountry);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)
     public void delete(String code) {
         Country country = countryRepository.findById(code)
                 .orElseThrow(() -> new CountryNotFoundException(code));
         countryRepository.delete(country);
+        geoCatalogue.refresh();
     }
 }
@@ -4,11 +4,13 @@ package com.example.Event_Manager.models.event;
 import com.example.Event_Manager.models.category.Category;
 import com.example.Event_Manager.models.event.enums.Status;
 import com.example.Event_Manager.models.interested.Interested;
+import com.example.Event_Manager.models.reservation.Reservation;
 import com.example.Event_Manager.models.review.Review;
 import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.venue.Venue;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -20,11 +22,40 @@ import java.util.Set;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "events")
+// kolumna filtra + id pod domyslne sortowanie list, schemat w db/migration/V2__access_pattern_indexes.sql;
+// status + termin pod EventLifecycle, db/migration/V7__event_lifecycle_indexes.sql
+@Table(
+        name = "events",
+        indexes = {
+                @Index(name = "idx_events_category_id", columnList = "category_id, id"),
+                @Index(name = "idx_events_venue_id", columnList = "venue_id, id"),
+                @Index(name = "idx_events_organizer_id", columnList = "organizer_id, id"),
+                @Index(name = "idx_events_start_time", columnList = "start_time, id"),
+                @Index(name = "idx_events_status_start_time", columnList = "status, start_time, id"),
+                @Index(name = "idx_events_status_end_time", columnList = "status, end_time")
+        }
+)
+@NamedEntityGraph(
+        name = Event.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("organizer"),
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode(value = "venue", subgraph = "venue.city")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "venue.city", attributeNodes = @NamedAttributeNode(value = "city", subgraph = "city.country")),
+                @NamedSubgraph(name = "city.country", attributeNodes = @NamedAttributeNode("country"))
+        }
+)
 public class Event {
 
+    // wszystko czego potrzebuje EventMapper.toDTO, w jednym zapytaniu
+    public static final String DETAIL_GRAPH = "Event.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "events_id")
+    @TableGenerator(name = "events_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "events", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -65,6 +96,20 @@ public class Event {
     @Column(name = "updated_at")
     private Date updatedAt;
 
+    // prowadzony tylko przez InterestCounterBuffer (UPDATE ... + delta), zapis encji go nie nadpisuje
+    @ColumnDefault("0")
+    @Column(nullable = false, name = "interested_count", insertable = false, updatable = false)
+    private Long interestedCount;
+
+    // pula miejsc (null = bez limitu) i zajete miejsca zmieniaja tylko warunkowe UPDATE z ReservationService,
+    // zapis encji ich nie nadpisuje
+    @Column(name = "capacity", updatable = false)
+    private Integer capacity;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, name = "reserved_count", insertable = false, updatable = false)
+    private Integer reservedCount;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "event", cascade = CascadeType.ALL)
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -75,4 +120,9 @@ public class Event {
     @EqualsAndHashCode.Exclude
     private Set<Interested> interestedUsers;
 
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "event", cascade = CascadeType.ALL)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<Reservation> reservations;
+
 }
@@ -1,9 +1,14 @@
 package com.example.Event_Manager.models.event.controller;
 
+import com.example.Event_Manager.models._util.CursorPage;
+import com.example.Event_Manager.models._util.export.ExportFormat;
 import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
 import com.example.Event_Manager.models.event.dto.request.UpdateEventDTO;
 import com.example.Event_Manager.models.event.dto.response.EventDTO;
+import com.example.Event_Manager.models.event.dto.response.EventImportReportDTO;
+import com.example.Event_Manager.models.event.dto.response.EventListItemDTO;
 import com.example.Event_Manager.models.event.dto.response.EventSummaryDTO;
+import com.example.Event_Manager.models.event.dto.response.TrendingEventDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -11,10 +16,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Validated
 @Tag(name = "Event Management", description = "APIs for managing events")
@@ -29,6 +40,22 @@ public interface EventApi {
     })
     ResponseEntity<EventDTO> createEvent(@Valid CreateEventDTO createEventDTO);
 
+    @Operation(summary = "Import events from JSON",
+            description = "Creates events from a JSON array of create-event requests. The body is read as a stream and saved in chunks; the response reports the result of every row.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see per-row results"),
+            @ApiResponse(responseCode = "400", description = "Body is not a JSON array")
+    })
+    ResponseEntity<EventImportReportDTO> importEventsJson(InputStream body) throws IOException;
+
+    @Operation(summary = "Import events from CSV",
+            description = "Creates events from CSV with a header row (name, description, startDate, endDate, venueId, categoryId). The body is read as a stream and saved in chunks; the response reports the result of every row.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see per-row results"),
+            @ApiResponse(responseCode = "400", description = "CSV header is missing required columns")
+    })
+    ResponseEntity<EventImportReportDTO> importEventsCsv(InputStream body) throws IOException;
+
     @Operation(summary = "Update an existing event",
             description = "Allows updating an existing event.")
     @ApiResponses(value = {
@@ -54,9 +81,10 @@ public interface EventApi {
             description = "Retrieves an event by its ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Event found"),
+            @ApiResponse(responseCode = "304", description = "Event not modified since the ETag or date sent by the client"),
             @ApiResponse(responseCode = "404", description = "Event not found")
     })
-    ResponseEntity<EventDTO> getEventById(Long id);
+    ResponseEntity<EventDTO> getEventById(Long id, WebRequest request);
 
     @Operation(summary = "Get all events",
             description = "Retrieves paginated all events.")
@@ -91,13 +119,14 @@ public interface EventApi {
     })
     ResponseEntity<Page<EventDTO>> getEventsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable);
 
-    @Operation(summary = "Search events by name",
-            description = "Searches paginated events by name.")
+    @Operation(summary = "Search events",
+            description = "Full-text search over event name, description, category, venue and city. Words are matched by prefix and results are ranked by relevance. Optional filters: category, city and start date window.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "No events found matching the search criteria")
     })
-    ResponseEntity<Page<EventDTO>> searchEventsByName(String name, Pageable pageable);
+    ResponseEntity<Page<EventDTO>> searchEventsByName(String name, Long categoryId, Long cityId,
+                                                     LocalDateTime start, LocalDateTime end, Pageable pageable);
 
     @Operation(summary = "Get events by organizer ID",
             description = "Retrieves paginated events by organizer ID.")
@@ -122,4 +151,140 @@ public interface EventApi {
             @ApiResponse(responseCode = "404", description = "No events found for the given organizer name")
     })
     ResponseEntity<Page<EventDTO>> getEventsByOrganizerName(String organizerName, Pageable pageable);
+
+    @Operation(summary = "Get compact event list",
+            description = "Retrieves paginated events as flat list items without description and nested objects.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "No events found")
+    })
+    ResponseEntity<Page<EventListItemDTO>> getEventListItems(Pageable pageable);
+
+    @Operation(summary = "Get compact event list by category",
+            description = "Retrieves paginated list items of events by category ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Category not found or no events found for this category")
+    })
+    ResponseEntity<Page<EventListItemDTO>> getEventListItemsByCategory(Long categoryId, Pageable pageable);
+
+    @Operation(summary = "Get compact event list by venue",
+            description = "Retrieves paginated list items of events by venue ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Venue not found or no events found for this venue")
+    })
+    ResponseEntity<Page<EventListItemDTO>> getEventListItemsByVenue(Long venueId, Pageable pageable);
+
+    @Operation(summary = "Get compact event list by date range",
+            description = "Retrieves paginated list items of events within a date range.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "No events found in the specified date range")
+    })
+    ResponseEntity<Page<EventListItemDTO>> getEventListItemsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    @Operation(summary = "Search compact event list by name",
+            description = "Searches paginated list items of events by name.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "No events found matching the search criteria")
+    })
+    ResponseEntity<Page<EventListItemDTO>> searchEventListItemsByName(String name, Pageable pageable);
+
+    @Operation(summary = "Get compact event list by organizer ID",
+            description = "Retrieves paginated list items of events by organizer ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Organizer not found or no events found for this organizer")
+    })
+    ResponseEntity<Page<EventListItemDTO>> getEventListItemsByOrganizer(Long organizerId, Pageable pageable);
+
+    @Operation(summary = "Get upcoming events",
+            description = "Retrieves paginated list items of published events that have not started yet, soonest first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "No upcoming events found")
+    })
+    ResponseEntity<Page<EventListItemDTO>> getUpcomingEventListItems(Pageable pageable);
+
+    @Operation(summary = "Get ongoing events",
+            description = "Retrieves paginated list items of events happening now. Statuses are advanced in the background when start and end times pass.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "No ongoing events found")
+    })
+    ResponseEntity<Page<EventListItemDTO>> getOngoingEventListItems(Pageable pageable);
+
+    @Operation(summary = "Get trending events",
+            description = "Retrieves events with the most new interest in the recent time window, refreshed periodically.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trending events retrieved successfully")
+    })
+    ResponseEntity<List<TrendingEventDTO>> getTrendingEvents(int limit);
+
+    @Operation(summary = "Export events",
+            description = "Streams all events, optionally filtered by category, venue or start date range, as NDJSON or CSV in a single response. Replaces paging through the whole catalogue.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format or invalid date"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "429", description = "Too many exports in progress")
+    })
+    ResponseEntity<StreamingResponseBody> exportEvents(ExportFormat format, Long categoryId, Long venueId,
+                                                       LocalDateTime start, LocalDateTime end, WebRequest request);
+
+    @Operation(summary = "Scroll all events",
+            description = "Retrieves events using a continuation cursor instead of page numbers. Pass nextCursor from the previous response to get the next slice.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort"),
+            @ApiResponse(responseCode = "404", description = "No events found")
+    })
+    ResponseEntity<CursorPage<EventDTO>> scrollAllEvents(String cursor, int size, Sort sort);
+
+    @Operation(summary = "Scroll events by category",
+            description = "Retrieves events by category ID using a continuation cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort"),
+            @ApiResponse(responseCode = "404", description = "Category not found or no events found for this category")
+    })
+    ResponseEntity<CursorPage<EventDTO>> scrollEventsByCategory(Long categoryId, String cursor, int size, Sort sort);
+
+    @Operation(summary = "Scroll events by venue",
+            description = "Retrieves events by venue ID using a continuation cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort"),
+            @ApiResponse(responseCode = "404", description = "Venue not found or no events found for this venue")
+    })
+    ResponseEntity<CursorPage<EventDTO>> scrollEventsByVenue(Long venueId, String cursor, int size, Sort sort);
+
+    @Operation(summary = "Scroll events by date range",
+            description = "Retrieves events within a date range using a continuation cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort"),
+            @ApiResponse(responseCode = "404", description = "No events found in the specified date range")
+    })
+    ResponseEntity<CursorPage<EventDTO>> scrollEventsByDateRange(LocalDateTime start, LocalDateTime end, String cursor, int size, Sort sort);
+
+    @Operation(summary = "Scroll events by name",
+            description = "Searches events by name using a continuation cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort"),
+            @ApiResponse(responseCode = "404", description = "No events found matching the search criteria")
+    })
+    ResponseEntity<CursorPage<EventDTO>> scrollEventsByName(String name, String cursor, int size, Sort sort);
+
+    @Operation(summary = "Scroll events by organizer ID",
+            description = "Retrieves events by organizer ID using a continuation cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort"),
+            @ApiResponse(responseCode = "404", description = "Organizer not found or no events found for this organizer")
+    })
+    ResponseEntity<CursorPage<EventDTO>> scrollEventsByOrganizer(Long organizerId, String cursor, int size, Sort sort);
 }
\ No newline at end of file
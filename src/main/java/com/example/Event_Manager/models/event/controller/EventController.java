@@ -1,23 +1,44 @@
 package com.example.Event_Manager.models.event.controller;
 
+import com.example.Event_Manager.models._util.CursorPage;
+import com.example.Event_Manager.models._util.conditional.ConditionalGet;
+import com.example.Event_Manager.models._util.export.ExportFormat;
+import com.example.Event_Manager.models._util.export.ExportLimiter;
 import com.example.Event_Manager.models._util.annotations.IsOrganizer;
 import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
 import com.example.Event_Manager.models.event.dto.request.UpdateEventDTO;
 import com.example.Event_Manager.models.event.dto.response.EventDTO;
+import com.example.Event_Manager.models.event.dto.response.EventImportReportDTO;
+import com.example.Event_Manager.models.event.dto.response.EventListItemDTO;
 import com.example.Event_Manager.models.event.dto.response.EventSummaryDTO;
+import com.example.Event_Manager.models.event.dto.response.TrendingEventDTO;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.search.EventSearchQuery;
+import com.example.Event_Manager.models.event.service.EventExportService;
+import com.example.Event_Manager.models.event.service.EventImportService;
 import com.example.Event_Manager.models.event.service.EventService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/events")
@@ -26,6 +47,10 @@ import java.time.LocalDateTime;
 @Validated
 public class EventController implements EventApi {
     private final EventService eventService;
+    private final EventImportService eventImportService;
+    private final EventExportService eventExportService;
+    private final ExportLimiter exportLimiter;
+    private final ConditionalGet conditionalGet;
 
     @PostMapping
     @IsOrganizer
@@ -35,6 +60,18 @@ public class EventController implements EventApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(eventService.createEvent(createEventDTO));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @IsOrganizer
+    public ResponseEntity<EventImportReportDTO> importEventsJson(InputStream body) throws IOException {
+        return ResponseEntity.ok(eventImportService.importJson(body));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @IsOrganizer
+    public ResponseEntity<EventImportReportDTO> importEventsCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(eventImportService.importCsv(body));
+    }
+
     @PutMapping("/{id}")
     @IsOrganizer
     public ResponseEntity<EventDTO> updateEvent(
@@ -55,9 +92,10 @@ public class EventController implements EventApi {
 
     @GetMapping("/{id}")
     public ResponseEntity<EventDTO> getEventById(
-            @PathVariable Long id
+            @PathVariable Long id,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(eventService.getEventById(id));
+        return conditionalGet.respond(request, eventService.getEventVersion(id), () -> eventService.getEventById(id));
     }
 
     @GetMapping
@@ -95,9 +133,14 @@ public class EventController implements EventApi {
     @GetMapping("/search")
     public ResponseEntity<Page<EventDTO>> searchEventsByName(
             @RequestParam String name,
-            @PageableDefault(sort = "id") Pageable pageable
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long cityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @PageableDefault Pageable pageable
     ) {
-        return ResponseEntity.ok(eventService.searchEventsByName(name, pageable));
+        return ResponseEntity.ok(eventService.searchEvents(
+                new EventSearchQuery(name, categoryId, cityId, start, end), pageable));
     }
 
     @GetMapping("/organizer/{organizerId}")
@@ -121,4 +164,151 @@ public class EventController implements EventApi {
     ) {
         return ResponseEntity.ok(eventService.getEventsByOrganizer(organizerName, pageable));
     }
+
+    @GetMapping("/compact")
+    public ResponseEntity<Page<EventListItemDTO>> getEventListItems(
+            @PageableDefault(sort = "id") Pageable pageable
+    ) {
+        return ResponseEntity.ok(eventService.getEventListItems(pageable));
+    }
+
+    @GetMapping("/compact/category/{categoryId}")
+    public ResponseEntity<Page<EventListItemDTO>> getEventListItemsByCategory(
+            @PathVariable Long categoryId,
+            @PageableDefault(sort = "id") Pageable pageable
+    ) {
+        return ResponseEntity.ok(eventService.getEventListItemsByCategory(categoryId, pageable));
+    }
+
+    @GetMapping("/compact/venue/{venueId}")
+    public ResponseEntity<Page<EventListItemDTO>> getEventListItemsByVenue(
+            @PathVariable Long venueId,
+            @PageableDefault(sort = "id") Pageable pageable
+    ) {
+        return ResponseEntity.ok(eventService.getEventListItemsByVenue(venueId, pageable));
+    }
+
+    @GetMapping("/compact/date-range")
+    public ResponseEntity<Page<EventListItemDTO>> getEventListItemsByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @PageableDefault(sort = "id") Pageable pageable
+    ) {
+        return ResponseEntity.ok(eventService.getEventListItemsByDateRange(start, end, pageable));
+    }
+
+    @GetMapping("/compact/search")
+    public ResponseEntity<Page<EventListItemDTO>> searchEventListItemsByName(
+            @RequestParam String name,
+            @PageableDefault(sort = "id") Pageable pageable
+    ) {
+        return ResponseEntity.ok(eventService.searchEventListItemsByName(name, pageable));
+    }
+
+    @GetMapping("/compact/organizer/{organizerId}")
+    public ResponseEntity<Page<EventListItemDTO>> getEventListItemsByOrganizer(
+            @PathVariable Long organizerId,
+            @PageableDefault(sort = "id") Pageable pageable
+    ) {
+        return ResponseEntity.ok(eventService.getEventListItemsByOrganizer(organizerId, pageable));
+    }
+
+    @GetMapping("/compact/upcoming")
+    public ResponseEntity<Page<EventListItemDTO>> getUpcomingEventListItems(
+            @PageableDefault(sort = {"startTime", "id"}) Pageable pageable
+    ) {
+        return ResponseEntity.ok(eventService.getEventListItemsByStatus(Status.PUBLISHED, pageable));
+    }
+
+    @GetMapping("/compact/ongoing")
+    public ResponseEntity<Page<EventListItemDTO>> getOngoingEventListItems(
+            @PageableDefault(sort = {"startTime", "id"}) Pageable pageable
+    ) {
+        return ResponseEntity.ok(eventService.getEventListItemsByStatus(Status.ONGOING, pageable));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingEventDTO>> getTrendingEvents(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(eventService.getTrendingEvents(limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long venueId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            WebRequest request
+    ) {
+        StreamingResponseBody body = exportLimiter.limit(request,
+                out -> eventExportService.exportEvents(categoryId, venueId, start, end, format, out));
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName("events")).build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<EventDTO>> scrollAllEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @SortDefault(sort = "id") Sort sort
+    ) {
+        return ResponseEntity.ok(eventService.scrollAllEvents(cursor, size, sort));
+    }
+
+    @GetMapping("/scroll/category/{categoryId}")
+    public ResponseEntity<CursorPage<EventDTO>> scrollEventsByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @SortDefault(sort = "id") Sort sort
+    ) {
+        return ResponseEntity.ok(eventService.scrollEventsByCategory(categoryId, cursor, size, sort));
+    }
+
+    @GetMapping("/scroll/venue/{venueId}")
+    public ResponseEntity<CursorPage<EventDTO>> scrollEventsByVenue(
+            @PathVariable Long venueId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @SortDefault(sort = "id") Sort sort
+    ) {
+        return ResponseEntity.ok(eventService.scrollEventsByVenue(venueId, cursor, size, sort));
+    }
+
+    @GetMapping("/scroll/date-range")
+    public ResponseEntity<CursorPage<EventDTO>> scrollEventsByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @SortDefault(sort = "id") Sort sort
+    ) {
+        return ResponseEntity.ok(eventService.scrollEventsByDateRange(start, end, cursor, size, sort));
+    }
+
+    @GetMapping("/scroll/search")
+    public ResponseEntity<CursorPage<EventDTO>> scrollEventsByName(
+            @RequestParam String name,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @SortDefault(sort = "id") Sort sort
+    ) {
+        return ResponseEntity.ok(eventService.scrollEventsByName(name, cursor, size, sort));
+    }
+
+    @GetMapping("/scroll/organizer/{organizerId}")
+    public ResponseEntity<CursorPage<EventDTO>> scrollEventsByOrganizer(
+            @PathVariable Long organizerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @SortDefault(sort = "id") Sort sort
+    ) {
+        return ResponseEntity.ok(eventService.scrollEventsByOrganizer(organizerId, cursor, size, sort));
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.example.Event_Manager.models._util.RequestEmptyException;
 import com.example.Event_Manager.models.category.exceptions.CategoryNotFoundException;
 import com.example.Event_Manager.models.event.exceptions.*;
 import com.example.Event_Manager.models._util.ErrorResponse;
+import com.example.Event_Manager.models._util.export.ExportLimitExceededException;
 import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
 import com.example.Event_Manager.models.venue.exceptions.VenueNotFoundException;
 import org.springframework.http.HttpStatus;
@@ -146,4 +147,34 @@ public class EventControllerAdvice {
         );
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(InvalidEventImportException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidEventImport(InvalidEventImportException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(ExportLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleExportLimitExceeded(ExportLimitExceededException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.Event_Manager.models.event.dto.response;
+
+import java.util.List;
+
+public record EventImportReportDTO(
+        int total,
+        int imported,
+        int failed,
+        List<EventImportResultDTO> rows
+) {
+}
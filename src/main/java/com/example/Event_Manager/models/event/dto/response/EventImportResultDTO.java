@@ -0,0 +1,10 @@
+package com.example.Event_Manager.models.event.dto.response;
+
+import java.util.List;
+
+public record EventImportResultDTO(
+        int row,
+        Long eventId,
+        List<String> errors
+) {
+}
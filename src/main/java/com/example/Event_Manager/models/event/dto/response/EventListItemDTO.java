@@ -0,0 +1,20 @@
+package com.example.Event_Manager.models.event.dto.response;
+
+import com.example.Event_Manager.models.event.enums.Status;
+
+import java.time.LocalDateTime;
+
+public record EventListItemDTO(
+        Long id,
+        String name,
+        Status eventStatus,
+        LocalDateTime date,
+        Long categoryId,
+        String categoryName,
+        Long venueId,
+        String venueName,
+        String cityName,
+        Long organizerId,
+        Long interestedCount
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.Event_Manager.models.event.dto.response;
+
+public record TrendingEventDTO(
+        EventListItemDTO event,
+        long recentInterest
+) {
+}
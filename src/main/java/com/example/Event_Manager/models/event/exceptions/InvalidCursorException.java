@@ -0,0 +1,7 @@
+package com.example.Event_Manager.models.event.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.Event_Manager.models.event.exceptions;
+
+public class InvalidEventImportException extends RuntimeException {
+    public InvalidEventImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.Event_Manager.models.event.importing;
+
+import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
+import com.example.Event_Manager.models.event.exceptions.InvalidEventImportException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// CSV (RFC 4180) z naglowkiem; kolumny nazywaja sie jak pola CreateEventDTO, kolejnosc dowolna
+public class CsvEventImportReader implements EventImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "startDate", "endDate", "venueId", "categoryId");
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int row;
+    private boolean finished;
+
+    public CsvEventImportReader(InputStream body) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<String> header = readRecord();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).strip(), i);
+            }
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidEventImportException("CSV header is missing columns: " + String.join(", ", missing));
+        }
+    }
+
+    @Override
+    public EventImportRow next() throws IOException {
+        List<String> record;
+        do {
+            if (finished) {
+                return null;
+            }
+            try {
+                record = readRecord();
+            } catch (InvalidEventImportException e) {
+                finished = true;
+                return EventImportRow.failed(row + 1, e.getMessage());
+            }
+            if (record == null) {
+                finished = true;
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        row++;
+        try {
+            return EventImportRow.parsed(row, new CreateEventDTO(
+                    field(record, "name", Function.identity()),
+                    field(record, "description", Function.identity()),
+                    field(record, "startDate", LocalDateTime::parse),
+                    field(record, "endDate", LocalDateTime::parse),
+                    field(record, "venueId", Long::valueOf),
+                    field(record, "categoryId", Long::valueOf)
+            ));
+        } catch (InvalidEventImportException e) {
+            return EventImportRow.failed(row, e.getMessage());
+        }
+    }
+
+    // pusta komorka = brak wartosci, tak samo jak pominiete pole w JSON
+    private <T> T field(List<String> record, String column, Function<String, T> parser) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size() || record.get(index).isBlank()) {
+            return null;
+        }
+        String value = record.get(index).strip();
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidEventImportException("Invalid value in column " + column + ": " + value);
+        }
+    }
+
+    // jeden rekord; pola w cudzyslowach moga zawierac przecinki i nowe linie, "" to cudzyslow
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new InvalidEventImportException("Unterminated quoted field.");
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.Event_Manager.models.event.importing;
+
+import java.io.IOException;
+
+// czyta import wiersz po wierszu prosto ze strumienia requestu, bez wczytywania calego body do pamieci
+public interface EventImportReader {
+
+    // null = koniec danych
+    EventImportRow next() throws IOException;
+}
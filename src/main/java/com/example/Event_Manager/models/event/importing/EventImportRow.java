@@ -0,0 +1,15 @@
+package com.example.Event_Manager.models.event.importing;
+
+import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
+
+// numer wiersza z pliku (od 1) i albo sparsowany event, albo powod, dla ktorego nie dalo sie go odczytac
+public record EventImportRow(int row, CreateEventDTO event, String error) {
+
+    public static EventImportRow parsed(int row, CreateEventDTO event) {
+        return new EventImportRow(row, event, null);
+    }
+
+    public static EventImportRow failed(int row, String error) {
+        return new EventImportRow(row, null, error);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.Event_Manager.models.event.importing;
+
+import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
+import com.example.Event_Manager.models.event.exceptions.InvalidEventImportException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// tablica JSON obiektow CreateEventDTO; parser strumieniowy trzyma w pamieci tylko biezacy element
+public class JsonEventImportReader implements EventImportReader {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private int row;
+    private boolean finished;
+
+    public JsonEventImportReader(ObjectMapper objectMapper, InputStream body) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.createParser(body);
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidEventImportException("JSON import body must be an array of events.");
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidEventImportException("JSON import body must be an array of events.");
+        }
+    }
+
+    @Override
+    public EventImportRow next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        JsonNode node;
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                finished = true;
+                return null;
+            }
+            row++;
+            node = parser.readValueAsTree();
+        } catch (JsonProcessingException e) {
+            // po bledzie skladni nie wiadomo, gdzie zaczyna sie kolejny element - konczymy na tym wierszu
+            finished = true;
+            return EventImportRow.failed(row, "Malformed JSON: " + e.getOriginalMessage());
+        }
+
+        if (!node.isObject()) {
+            return EventImportRow.failed(row, "Event must be a JSON object.");
+        }
+        try {
+            return EventImportRow.parsed(row, objectMapper.treeToValue(node, CreateEventDTO.class));
+        } catch (JsonProcessingException e) {
+            return EventImportRow.failed(row, "Invalid value: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.Event_Manager.models.event.lifecycle;
+
+import com.example.Event_Manager.config.CacheConfig;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+// PUBLISHED -> ONGOING -> COMPLETED zbiorczymi UPDATE. Terminy startow i koncow z najblizszego horizon siedza
+// w kolejce w pamieci; tick sprawdza tylko jej poczatek, baza jest dotykana dopiero gdy jakis termin minie
+@Slf4j
+@Component
+public class EventLifecycle {
+
+    private static final Set<Status> NOT_STARTED = EnumSet.of(Status.PUBLISHED);
+    private static final Set<Status> NOT_ENDED = EnumSet.of(Status.PUBLISHED, Status.ONGOING);
+    private static final Set<Status> LIFECYCLE_STATUSES = EnumSet.of(Status.PUBLISHED, Status.ONGOING, Status.COMPLETED);
+
+    private final EventRepository eventRepository;
+    private final CacheManager cacheManager;
+    private final PlatformTransactionManager transactionManager;
+    private final long horizonMillis;
+
+    // najblizsze terminy przejsc (epoch millis); duplikaty sie skladaja, nieaktualne daja tylko pusty UPDATE
+    private final NavigableSet<Long> dueTimes = new TreeSet<>();
+    private long loadedUntil;
+
+    public EventLifecycle(
+            EventRepository eventRepository,
+            CacheManager cacheManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${event.lifecycle.horizon}") Duration horizon
+    ) {
+        this.eventRepository = eventRepository;
+        this.cacheManager = cacheManager;
+        this.transactionManager = transactionManager;
+        this.horizonMillis = Math.max(horizon.toMillis(), 1);
+    }
+
+    public static Status statusAt(Date startTime, Date endTime, Date now) {
+        if (!now.before(endTime)) {
+            return Status.COMPLETED;
+        }
+        return now.before(startTime) ? Status.PUBLISHED : Status.ONGOING;
+    }
+
+    // zmiana terminow przy edycji przestawia status od razu (takze wstecz), bez czekania na tick
+    public void reconcile(Event event) {
+        if (LIFECYCLE_STATUSES.contains(event.getStatus())) {
+            event.setStatus(statusAt(event.getStartTime(), event.getEndTime(), new Date()));
+        }
+        schedule(event);
+    }
+
+    public void schedule(Event event) {
+        schedule(List.of(event));
+    }
+
+    // w transakcji terminy trafiaja do kolejki dopiero po commicie - wczesniejszy tick nie widzialby wiersza
+    // i zdjalby termin z kolejki bez zmiany statusu
+    public void schedule(Collection<Event> events) {
+        List<Long> times = new ArrayList<>(events.size() * 2);
+        for (Event event : events) {
+            if (NOT_ENDED.contains(event.getStatus())) {
+                times.add(event.getStartTime().getTime());
+                times.add(event.getEndTime().getTime());
+            }
+        }
+        if (times.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(times);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(times);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${event.lifecycle.tick-interval}", initialDelayString = "${event.lifecycle.tick-interval}")
+    public synchronized void tick() {
+        long now = System.currentTimeMillis();
+        try {
+            if (now >= loadedUntil) {
+                load(now + horizonMillis);
+            }
+            if (dueTimes.isEmpty() || dueTimes.first() > now) {
+                return;
+            }
+            advance(new Date(now));
+            dueTimes.headSet(now, true).clear();
+        } catch (RuntimeException e) {
+            log.error("Event lifecycle tick failed, due transitions will be retried", e);
+        }
+    }
+
+    private synchronized void enqueue(Collection<Long> times) {
+        // terminy za horizon doczyta nastepne ladowanie kolejki
+        times.stream().filter(time -> time < loadedUntil).forEach(dueTimes::add);
+    }
+
+    // zaleglosci (status nie przesuniety przed restartem) wchodza do kolejki jako terminy juz minione
+    private void load(long until) {
+        Date untilDate = new Date(until);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            eventRepository.findStartTimesUntil(NOT_STARTED, untilDate).forEach(time -> dueTimes.add(time.getTime()));
+            eventRepository.findEndTimesUntil(NOT_ENDED, untilDate).forEach(time -> dueTimes.add(time.getTime()));
+        });
+        loadedUntil = until;
+    }
+
+    // najpierw konce, zeby event, ktory zaczal sie i skonczyl miedzy tickami, poszedl od razu do COMPLETED
+    private void advance(Date now) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> changed = transactionTemplate.execute(status -> {
+            List<Long> completed = eventRepository.findIdsToComplete(NOT_ENDED, now);
+            int completedRows = eventRepository.completeEnded(NOT_ENDED, Status.COMPLETED, now);
+            List<Long> started = eventRepository.findIdsToStart(NOT_STARTED, now);
+            int startedRows = eventRepository.startBegun(NOT_STARTED, Status.ONGOING, now);
+
+            // UPDATE zlapal wiersz zapisany miedzy SELECT a UPDATE - nie wiemy ktory
+            if (completedRows != completed.size() || startedRows != started.size()) {
+                return null;
+            }
+            List<Long> ids = new ArrayList<>(completed);
+            ids.addAll(started);
+            return ids;
+        });
+
+        // podsumowanie eventu nie zawiera statusu, wiec wystarczy cache EventDTO
+        Cache events = cacheManager.getCache(CacheConfig.EVENTS);
+        if (changed == null) {
+            events.clear();
+            log.info("Event lifecycle advanced events changed concurrently, event cache cleared");
+        } else if (!changed.isEmpty()) {
+            changed.forEach(events::evict);
+            log.info("Event lifecycle advanced {} events", changed.size());
+        }
+    }
+}
@@ -6,7 +6,9 @@ import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
 import com.example.Event_Manager.models.event.dto.request.UpdateEventDTO;
 import com.example.Event_Manager.models.event.dto.response.EventDTO;
+import com.example.Event_Manager.models.event.dto.response.EventListItemDTO;
 import com.example.Event_Manager.models.event.dto.response.EventSummaryDTO;
+import com.example.Event_Manager.models.event.repository.EventListItemView;
 import com.example.Event_Manager.models.venue.Venue;
 import com.example.Event_Manager.models.venue.mapper.VenueMapper;
 import org.mapstruct.*;
@@ -22,13 +24,21 @@ public interface EventMapper {
     @Mapping(source = "startTime", target = "date")
     EventSummaryDTO toSummaryDTO(Event event);
 
+    @Mapping(source = "status", target = "eventStatus")
+    @Mapping(source = "startTime", target = "date")
+    EventListItemDTO toListItemDTO(EventListItemView view);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "reviews", ignore = true)
     @Mapping(target = "interestedUsers", ignore = true)
+    @Mapping(target = "interestedCount", ignore = true)
+    @Mapping(target = "reservedCount", ignore = true)
+    @Mapping(target = "reservations", ignore = true)
     @Mapping(target = "organizer", ignore = true)
+    @Mapping(source = "venue.capacity", target = "capacity")
     @Mapping(source = "dto.name", target = "name")
     @Mapping(source = "dto.description", target = "description")
     @Mapping(source = "dto.startDate", target = "startTime")
@@ -44,6 +54,11 @@ public interface EventMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "reviews", ignore = true)
     @Mapping(target = "interestedUsers", ignore = true)
+    @Mapping(target = "interestedCount", ignore = true)
+    @Mapping(target = "reservedCount", ignore = true)
+    @Mapping(target = "reservations", ignore = true)
+    // pojemnosc przy zmianie sali ustawia EventService przez warunkowy UPDATE
+    @Mapping(target = "capacity", ignore = true)
     @Mapping(target = "organizer", ignore = true)
     @Mapping(source = "dto.name", target = "name")
     @Mapping(source = "dto.description", target = "description")
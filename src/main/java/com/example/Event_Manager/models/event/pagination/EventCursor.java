@@ -0,0 +1,10 @@
+package com.example.Event_Manager.models.event.pagination;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+public record EventCursor(
+        Sort sort,
+        ScrollPosition position
+) {
+}
@@ -0,0 +1,140 @@
+package com.example.Event_Manager.models.event.pagination;
+
+import com.example.Event_Manager.models.event.exceptions.InvalidCursorException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// token niesie (klucz sortowania, id) ostatniego rekordu i kierunek, kolejne strony ignoruja parametr sort
+@Component
+public class EventCursorCodec {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String ID = "id";
+    private static final String START_TIME = "startTime";
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of(ID, "name", START_TIME);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public EventCursor decode(String cursor, Sort requestedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return new EventCursor(resolveSort(requestedSort), ScrollPosition.keyset());
+        }
+
+        Token token;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            token = objectMapper.readValue(json, Token.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidCursorException("Cursor is malformed.");
+        }
+        if (token.p() == null || !SORTABLE_PROPERTIES.contains(token.p()) || token.d() == null || token.id() == null) {
+            throw new InvalidCursorException("Cursor is malformed.");
+        }
+
+        Sort.Direction direction = Sort.Direction.fromOptionalString(token.d())
+                .orElseThrow(() -> new InvalidCursorException("Cursor is malformed."));
+        Sort sort = keysetSort(token.p(), direction);
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (!ID.equals(token.p())) {
+            keys.put(token.p(), readValue(token.p(), token.k()));
+        }
+        keys.put(ID, token.id());
+        return new EventCursor(sort, ScrollPosition.forward(keys));
+    }
+
+    public String encode(Sort sort, ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded.");
+        }
+        Sort.Order order = sort.iterator().next();
+        Map<String, Object> keys = keyset.getKeys();
+        Object id = keys.get(ID);
+
+        Token token = new Token(
+                order.getProperty(),
+                order.getDirection().name(),
+                ID.equals(order.getProperty()) ? null : writeValue(keys.get(order.getProperty())),
+                id instanceof Number number ? number.longValue() : null
+        );
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(token));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode cursor.", e);
+        }
+    }
+
+    public int resolveSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    private Sort resolveSort(Sort requestedSort) {
+        if (requestedSort == null || requestedSort.isUnsorted()) {
+            return keysetSort(ID, Sort.Direction.ASC);
+        }
+
+        Sort.Order primary = null;
+        for (Sort.Order order : requestedSort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new InvalidCursorException("Sorting by '" + order.getProperty() + "' is not supported in cursor mode.");
+            }
+            if (primary == null) {
+                primary = order;
+            } else if (!ID.equals(order.getProperty())) {
+                throw new InvalidCursorException("Cursor mode supports a single sort property.");
+            }
+        }
+        return keysetSort(primary.getProperty(), primary.getDirection());
+    }
+
+    private Sort keysetSort(String property, Sort.Direction direction) {
+        if (ID.equals(property)) {
+            return Sort.by(direction, ID);
+        }
+        return Sort.by(new Sort.Order(direction, property), new Sort.Order(direction, ID));
+    }
+
+    private String writeValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toInstant().toString();
+        }
+        return value.toString();
+    }
+
+    private Object readValue(String property, String value) {
+        if (value == null) {
+            throw new InvalidCursorException("Cursor is malformed.");
+        }
+        if (START_TIME.equals(property)) {
+            try {
+                return Timestamp.from(Instant.parse(value));
+            } catch (RuntimeException e) {
+                throw new InvalidCursorException("Cursor is malformed.");
+            }
+        }
+        return value;
+    }
+
+    private record Token(String p, String d, String k, Long id) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.Event_Manager.models.event.repository;
+
+import com.example.Event_Manager.models.event.enums.Status;
+
+import java.util.Date;
+
+public interface EventCapacityView {
+    Long getId();
+
+    Status getStatus();
+
+    Date getStartTime();
+
+    Integer getCapacity();
+
+    Integer getReservedCount();
+}
@@ -0,0 +1,29 @@
+package com.example.Event_Manager.models.event.repository;
+
+import com.example.Event_Manager.models.event.enums.Status;
+
+import java.util.Date;
+
+public interface EventListItemView {
+    Long getId();
+
+    String getName();
+
+    Status getStatus();
+
+    Date getStartTime();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    Long getVenueId();
+
+    String getVenueName();
+
+    String getCityName();
+
+    Long getOrganizerId();
+
+    Long getInterestedCount();
+}
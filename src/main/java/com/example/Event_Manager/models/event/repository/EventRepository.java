@@ -1,27 +1,236 @@
 package com.example.Event_Manager.models.event.repository;
 
 import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.enums.Status;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    String EXPORT_FETCH_SIZE = "500";
+
+    // plaski wiersz do list, bez description i bez encji w persistence context
+    String LIST_ITEM_SELECT = """
+            SELECT e.id AS id, e.name AS name, e.status AS status, e.startTime AS startTime,
+                   c.id AS categoryId, c.name AS categoryName,
+                   v.id AS venueId, v.name AS venueName, ci.name AS cityName,
+                   o.id AS organizerId, e.interestedCount AS interestedCount
+            FROM Event e
+            JOIN e.category c
+            JOIN e.venue v
+            LEFT JOIN v.city ci
+            LEFT JOIN e.organizer o
+            """;
+
+    @Override
+    @EntityGraph(Event.DETAIL_GRAPH)
+    Page<Event> findAll(Pageable pageable);
+
+    @EntityGraph(Event.DETAIL_GRAPH)
     Optional<Event> findEventById(Long eventId);
 
+    @EntityGraph(Event.DETAIL_GRAPH)
+    List<Event> findByIdIn(Collection<Long> eventIds);
+
+    // znaczniki zmian wszystkiego, co wchodzi do EventDTO - do ETagu bez ladowania grafu
+    @Query("""
+            SELECT COALESCE(e.updatedAt, e.createdAt) AS eventUpdatedAt,
+                   c.updatedAt AS categoryUpdatedAt,
+                   v.updatedAt AS venueUpdatedAt,
+                   ci.updatedAt AS cityUpdatedAt,
+                   co.updatedAt AS countryUpdatedAt
+            FROM Event e
+            LEFT JOIN e.category c
+            LEFT JOIN e.venue v
+            LEFT JOIN v.city ci
+            LEFT JOIN ci.country co
+            WHERE e.id = :eventId
+            """)
+    Optional<EventVersionView> findVersionById(@Param("eventId") Long eventId);
+
+    @Query("SELECT COALESCE(e.updatedAt, e.createdAt) FROM Event e WHERE e.id = :eventId")
+    Optional<Date> findLastModifiedById(@Param("eventId") Long eventId);
+
+    // blokada wiersza eventu, zeby serializowac zapisy agregatow per event
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e.id FROM Event e WHERE e.id = :eventId")
+    Optional<Long> lockById(@Param("eventId") Long eventId);
+
+    // zrzut zbuforowanych przyrostow z InterestCounterBuffer, jedno zapytanie na wartosc przyrostu
+    @Modifying
+    @Query("UPDATE Event e SET e.interestedCount = e.interestedCount + :delta WHERE e.id IN :eventIds")
+    int adjustInterestedCount(@Param("eventIds") Collection<Long> eventIds, @Param("delta") long delta);
+
+    // rezerwacje: sprawdzenie puli i przyrost licznika jedna instrukcja - blokada wiersza tylko do commitu,
+    // bez SELECT ... FOR UPDATE; 0 wierszy = brak eventu, event juz trwa albo brak miejsc
+    @Modifying
+    @Query("""
+            UPDATE Event e SET e.reservedCount = e.reservedCount + :seats
+            WHERE e.id = :eventId AND e.status = :status AND e.startTime > :now
+              AND (e.capacity IS NULL OR e.reservedCount + :seats <= e.capacity)
+            """)
+    int reserveSeats(@Param("eventId") Long eventId, @Param("seats") int seats,
+                     @Param("status") Status status, @Param("now") Date now);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.reservedCount = e.reservedCount - :seats WHERE e.id = :eventId")
+    int releaseSeats(@Param("eventId") Long eventId, @Param("seats") int seats);
+
+    // pula nie moze spasc ponizej juz sprzedanych miejsc
+    @Modifying
+    @Query("""
+            UPDATE Event e SET e.capacity = :capacity
+            WHERE e.id = :eventId AND (:capacity IS NULL OR e.reservedCount <= :capacity)
+            """)
+    int changeCapacity(@Param("eventId") Long eventId, @Param("capacity") Integer capacity);
+
+    @Query("""
+            SELECT e.id AS id, e.status AS status, e.startTime AS startTime,
+                   e.capacity AS capacity, e.reservedCount AS reservedCount
+            FROM Event e
+            WHERE e.id = :eventId
+            """)
+    Optional<EventCapacityView> findCapacityById(@Param("eventId") Long eventId);
+
+    // cykl zycia (EventLifecycle): terminy i przejscia czytane po indeksach (status, start_time) i (status, end_time)
+    @Query("SELECT DISTINCT e.startTime FROM Event e WHERE e.status IN :statuses AND e.startTime <= :until")
+    List<Date> findStartTimesUntil(@Param("statuses") Collection<Status> statuses, @Param("until") Date until);
+
+    @Query("SELECT DISTINCT e.endTime FROM Event e WHERE e.status IN :statuses AND e.endTime <= :until")
+    List<Date> findEndTimesUntil(@Param("statuses") Collection<Status> statuses, @Param("until") Date until);
+
+    @Query("SELECT e.id FROM Event e WHERE e.status IN :statuses AND e.startTime <= :now")
+    List<Long> findIdsToStart(@Param("statuses") Collection<Status> statuses, @Param("now") Date now);
+
+    @Query("SELECT e.id FROM Event e WHERE e.status IN :statuses AND e.endTime <= :now")
+    List<Long> findIdsToComplete(@Param("statuses") Collection<Status> statuses, @Param("now") Date now);
+
+    // updatedAt recznie - bulk UPDATE omija @UpdateTimestamp, a od niego zalezy ETag eventu
+    @Modifying
+    @Query("""
+            UPDATE Event e SET e.status = :status, e.updatedAt = :now
+            WHERE e.status IN :statuses AND e.startTime <= :now
+            """)
+    int startBegun(@Param("statuses") Collection<Status> statuses, @Param("status") Status status, @Param("now") Date now);
+
+    @Modifying
+    @Query("""
+            UPDATE Event e SET e.status = :status, e.updatedAt = :now
+            WHERE e.status IN :statuses AND e.endTime <= :now
+            """)
+    int completeEnded(@Param("statuses") Collection<Status> statuses, @Param("status") Status status, @Param("now") Date now);
+
+    @EntityGraph(Event.DETAIL_GRAPH)
     Page<Event> findByCategory_Id(Long categoryId, Pageable pageable);
 
+    @EntityGraph(Event.DETAIL_GRAPH)
     Page<Event> findByVenue_Id(Long venueId, Pageable pageable);
 
+    @EntityGraph(Event.DETAIL_GRAPH)
     Page<Event> findByStartTimeBetween(Date startDate, Date endDate, Pageable pageable);
 
+    @EntityGraph(Event.DETAIL_GRAPH)
     Page<Event> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
+    @EntityGraph(Event.DETAIL_GRAPH)
     Page<Event> findByOrganizer_Id(Long organizerId, Pageable pageable);
 
+    @EntityGraph(Event.DETAIL_GRAPH)
     Page<Event> findByOrganizerFullNameContainingIgnoreCase(String organizerName, Pageable pageable);
+
+    // keyset - bez OFFSET i bez COUNT(*)
+    @EntityGraph(Event.DETAIL_GRAPH)
+    Window<Event> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Event.DETAIL_GRAPH)
+    Window<Event> findByCategory_Id(Long categoryId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Event.DETAIL_GRAPH)
+    Window<Event> findByVenue_Id(Long venueId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Event.DETAIL_GRAPH)
+    Window<Event> findByVenue_City_Id(Long cityId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Event.DETAIL_GRAPH)
+    Window<Event> findByStartTimeBetween(Date startDate, Date endDate, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Event.DETAIL_GRAPH)
+    Window<Event> findByNameContainingIgnoreCase(String name, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Event.DETAIL_GRAPH)
+    Window<Event> findByOrganizer_Id(Long organizerId, ScrollPosition position, Sort sort, Limit limit);
+
+    @Query(value = LIST_ITEM_SELECT,
+            countQuery = "SELECT COUNT(e) FROM Event e")
+    Page<EventListItemView> findListItems(Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE c.id = :categoryId",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.category.id = :categoryId")
+    Page<EventListItemView> findListItemsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE v.id = :venueId",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.venue.id = :venueId")
+    Page<EventListItemView> findListItemsByVenueId(@Param("venueId") Long venueId, Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE e.startTime BETWEEN :startDate AND :endDate",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.startTime BETWEEN :startDate AND :endDate")
+    Page<EventListItemView> findListItemsByStartTimeBetween(@Param("startDate") Date startDate,
+                                                           @Param("endDate") Date endDate,
+                                                           Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :name, '%'))",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    Page<EventListItemView> findListItemsByNameContaining(@Param("name") String name, Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE o.id = :organizerId",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.organizer.id = :organizerId")
+    Page<EventListItemView> findListItemsByOrganizerId(@Param("organizerId") Long organizerId, Pageable pageable);
+
+    // "nadchodzace" i "trwajace" to zwykly filtr po statusie, ktory przesuwa EventLifecycle
+    @Query(value = LIST_ITEM_SELECT + "WHERE e.status = :status",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.status = :status")
+    Page<EventListItemView> findListItemsByStatus(@Param("status") Status status, Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + "WHERE e.id IN :eventIds")
+    List<EventListItemView> findListItemsByIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // eksport: kursor tylko do przodu z ograniczonym fetch size zamiast stron z OFFSET i COUNT;
+    // wymaga otwartej transakcji na czas czytania strumienia
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(LIST_ITEM_SELECT + """
+            WHERE (:categoryId IS NULL OR c.id = :categoryId)
+              AND (:venueId IS NULL OR v.id = :venueId)
+              AND (:startDate IS NULL OR e.startTime >= :startDate)
+              AND (:endDate IS NULL OR e.startTime <= :endDate)
+            ORDER BY e.id
+            """)
+    Stream<EventListItemView> streamListItems(@Param("categoryId") Long categoryId,
+                                              @Param("venueId") Long venueId,
+                                              @Param("startDate") Date startDate,
+                                              @Param("endDate") Date endDate);
 }
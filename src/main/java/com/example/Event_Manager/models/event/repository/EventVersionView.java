@@ -0,0 +1,15 @@
+package com.example.Event_Manager.models.event.repository;
+
+import java.util.Date;
+
+public interface EventVersionView {
+    Date getEventUpdatedAt();
+
+    Date getCategoryUpdatedAt();
+
+    Date getVenueUpdatedAt();
+
+    Date getCityUpdatedAt();
+
+    Date getCountryUpdatedAt();
+}
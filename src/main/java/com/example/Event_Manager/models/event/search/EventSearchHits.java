@@ -0,0 +1,9 @@
+package com.example.Event_Manager.models.event.search;
+
+import java.util.List;
+
+public record EventSearchHits(
+        List<Long> eventIds,
+        long totalHits
+) {
+}
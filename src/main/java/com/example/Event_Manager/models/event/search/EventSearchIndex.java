@@ -0,0 +1,363 @@
+package com.example.Event_Manager.models.event.search;
+
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.venue.Venue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// indeks odwrocony w pamieci: term -> (eventId -> waga), budowany na starcie i aktualizowany z EventService
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchIndex {
+
+    private static final float NAME_BOOST = 3.0f;
+    private static final float CATEGORY_BOOST = 1.5f;
+    private static final float VENUE_BOOST = 1.5f;
+    private static final float CITY_BOOST = 1.2f;
+    private static final float DESCRIPTION_BOOST = 1.0f;
+    private static final float PREFIX_MATCH_FACTOR = 0.7f;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // przy wiecej pasujacych termach zostaja najkrotsze (najblizsze wpisanemu prefiksowi), potem te z wieksza liczba eventow
+    private static final Comparator<Map.Entry<String, Map<Long, Float>>> EXPANSION_RANK =
+            Comparator.<Map.Entry<String, Map<Long, Float>>>comparingInt(entry -> entry.getKey().length())
+                    .thenComparing(entry -> entry.getValue().size(), Comparator.reverseOrder())
+                    .thenComparing(Map.Entry::getKey);
+
+    private final EventRepository eventRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${search.prefix.max-expansions}")
+    private int maxPrefixExpansions;
+
+    @Value("${search.reindex-delay}")
+    private Duration reindexDelay;
+
+    private final Set<String> scheduledReindexes = ConcurrentHashMap.newKeySet();
+
+    private final ConcurrentSkipListMap<String, Map<Long, Float>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Set<Long> indexedIds = new HashSet<>();
+        try {
+            scroll(position -> eventRepository.findAllBy(position, Sort.by("id"), Limit.of(REBUILD_BATCH_SIZE)),
+                    TransactionDefinition.PROPAGATION_REQUIRED,
+                    event -> {
+                        putDocument(toDocument(event));
+                        indexedIds.add(event.getId());
+                    });
+            // dokumenty, ktorych nie ma juz w bazie, wypadaja z indeksu
+            documents.keySet().stream()
+                    .filter(eventId -> !indexedIds.contains(eventId))
+                    .toList()
+                    .forEach(this::removeDocument);
+            log.info("Event search index built with {} events", documents.size());
+        } catch (RuntimeException e) {
+            log.error("Event search index rebuild failed, search results will be incomplete", e);
+        }
+    }
+
+    public void index(Event event) {
+        Document previous = putDocument(toDocument(event));
+        restoreOnRollback(event.getId(), previous);
+    }
+
+    public void remove(Long eventId) {
+        Document previous = removeDocument(eventId);
+        restoreOnRollback(eventId, previous);
+    }
+
+    // dokument trzyma nazwy kategorii, sali i miasta oraz id miasta, wiec ich zmiana przeindeksowuje eventy
+    public void reindexCategory(Long categoryId) {
+        reindexAfterCommit("category:" + categoryId, position -> eventRepository.findByCategory_Id(categoryId, position, Sort.by("id"), Limit.of(REBUILD_BATCH_SIZE)));
+    }
+
+    public void reindexVenue(Long venueId) {
+        reindexAfterCommit("venue:" + venueId, position -> eventRepository.findByVenue_Id(venueId, position, Sort.by("id"), Limit.of(REBUILD_BATCH_SIZE)));
+    }
+
+    public void reindexCity(Long cityId) {
+        reindexAfterCommit("city:" + cityId, position -> eventRepository.findByVenue_City_Id(cityId, position, Sort.by("id"), Limit.of(REBUILD_BATCH_SIZE)));
+    }
+
+    // id z indeksu, ktorych nie ma juz w bazie (np. usuniete z pominieciem serwisu)
+    public void evict(Collection<Long> eventIds) {
+        eventIds.forEach(this::removeDocument);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public EventSearchHits search(EventSearchQuery query, Pageable pageable) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query.text())));
+        if (tokens.isEmpty()) {
+            return new EventSearchHits(List.of(), 0);
+        }
+
+        int totalDocuments = Math.max(documents.size(), 1);
+        Map<Long, Float> scores = null;
+        for (String token : tokens) {
+            Map<Long, Float> tokenScores = scoreToken(token, totalDocuments);
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                // kazdy token musi trafic (AND)
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((eventId, score) -> score + tokenScores.get(eventId));
+            }
+            if (scores.isEmpty()) {
+                return new EventSearchHits(List.of(), 0);
+            }
+        }
+
+        Long fromMillis = toMillis(query.from());
+        Long toMillis = toMillis(query.to());
+        List<Map.Entry<Long, Float>> ranked = new ArrayList<>(scores.size());
+        for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+            Document document = documents.get(entry.getKey());
+            if (document != null && document.matches(query.categoryId(), query.cityId(), fromMillis, toMillis)) {
+                ranked.add(entry);
+            }
+        }
+        ranked.sort(Map.Entry.<Long, Float>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), ranked.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), ranked.size());
+        List<Long> eventIds = ranked.subList(fromIndex, toIndex).stream()
+                .map(Map.Entry::getKey)
+                .toList();
+        return new EventSearchHits(eventIds, ranked.size());
+    }
+
+    private Map<Long, Float> scoreToken(String token, int totalDocuments) {
+        Map<Long, Float> tokenScores = new HashMap<>();
+        collect(tokenScores, postings.get(token), 1.0f, totalDocuments);
+
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            for (Map<Long, Float> posting : topExpansions(token)) {
+                collect(tokenScores, posting, PREFIX_MATCH_FACTOR, totalDocuments);
+            }
+        }
+        return tokenScores;
+    }
+
+    // krotki prefiks moze pasowac do tysiecy termow, wiec do punktacji idzie najwyzej search.prefix.max-expansions najlepszych
+    private List<Map<Long, Float>> topExpansions(String token) {
+        PriorityQueue<Map.Entry<String, Map<Long, Float>>> best = new PriorityQueue<>(EXPANSION_RANK.reversed());
+        for (Map.Entry<String, Map<Long, Float>> entry : postings.subMap(token, false, token + Character.MAX_VALUE, false).entrySet()) {
+            best.add(Map.entry(entry.getKey(), entry.getValue()));
+            if (best.size() > maxPrefixExpansions) {
+                best.poll();
+            }
+        }
+        return best.stream().map(Map.Entry::getValue).toList();
+    }
+
+    private void collect(Map<Long, Float> tokenScores, Map<Long, Float> posting, float factor, int totalDocuments) {
+        if (posting == null || posting.isEmpty()) {
+            return;
+        }
+        float idf = (float) Math.log(1.0 + (double) totalDocuments / posting.size());
+        posting.forEach((eventId, weight) -> tokenScores.merge(eventId, weight * idf * factor, Math::max));
+    }
+
+    private synchronized Document putDocument(Document document) {
+        Document previous = documents.put(document.id(), document);
+        if (previous != null) {
+            unlink(previous);
+        }
+        document.terms().forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(document.id(), weight));
+        return previous;
+    }
+
+    private synchronized Document removeDocument(Long eventId) {
+        Document previous = documents.remove(eventId);
+        if (previous != null) {
+            unlink(previous);
+        }
+        return previous;
+    }
+
+    private void unlink(Document document) {
+        for (String term : document.terms().keySet()) {
+            postings.computeIfPresent(term, (key, posting) -> {
+                posting.remove(document.id());
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+
+    // w transakcji dopiero po commicie, zeby nie czytac niezatwierdzonych nazw
+    private void reindexAfterCommit(String target, Function<ScrollPosition, Window<Event>> loader) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduleReindex(target, loader);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleReindex(target, loader);
+            }
+        });
+    }
+
+    // jak GeoCatalogue.scheduleRebuild: na watku schedulera, seria zmian tej samej kategorii/sali/miasta = jeden reindeks
+    private void scheduleReindex(String target, Function<ScrollPosition, Window<Event>> loader) {
+        if (!scheduledReindexes.add(target)) {
+            return;
+        }
+        taskScheduler.schedule(() -> {
+            scheduledReindexes.remove(target);
+            reindex(loader);
+        }, Instant.now().plus(reindexDelay));
+    }
+
+    private void reindex(Function<ScrollPosition, Window<Event>> loader) {
+        try {
+            scroll(loader, TransactionDefinition.PROPAGATION_REQUIRES_NEW, event -> putDocument(toDocument(event)));
+        } catch (RuntimeException e) {
+            log.error("Event search reindex failed, affected events keep stale names until the next rebuild", e);
+        }
+    }
+
+    // REQUIRES_NEW: kazda paczka we wlasnej transakcji, zeby persistence context nie rosl z liczba eventow;
+    // rebuild zostaje przy REQUIRED, zeby wolany w transakcji (testy) widzial jej dane
+    private void scroll(Function<ScrollPosition, Window<Event>> loader, int propagation, Consumer<Event> consumer) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(propagation);
+        transactionTemplate.setReadOnly(true);
+
+        ScrollPosition position = ScrollPosition.keyset();
+        while (true) {
+            ScrollPosition current = position;
+            Window<Event> window = transactionTemplate.execute(status -> {
+                Window<Event> batch = loader.apply(current);
+                if (batch != null) {
+                    batch.forEach(consumer);
+                }
+                return batch;
+            });
+            if (window == null || window.isEmpty() || !window.hasNext()) {
+                return;
+            }
+            position = window.positionAt(window.size() - 1);
+        }
+    }
+
+    // zmiany ida do indeksu od razu, a przy rollbacku przywracamy poprzedni stan dokumentu
+    private void restoreOnRollback(Long eventId, Document previous) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                if (previous == null) {
+                    removeDocument(eventId);
+                } else {
+                    putDocument(previous);
+                }
+            }
+        });
+    }
+
+    private Document toDocument(Event event) {
+        Map<String, Float> terms = new HashMap<>();
+        addField(terms, event.getName(), NAME_BOOST);
+        addField(terms, event.getDescription(), DESCRIPTION_BOOST);
+
+        Category category = event.getCategory();
+        if (category != null) {
+            addField(terms, category.getName(), CATEGORY_BOOST);
+        }
+
+        Venue venue = event.getVenue();
+        City city = venue != null ? venue.getCity() : null;
+        if (venue != null) {
+            addField(terms, venue.getName(), VENUE_BOOST);
+        }
+        if (city != null) {
+            addField(terms, city.getName(), CITY_BOOST);
+        }
+
+        return new Document(
+                event.getId(),
+                category != null ? category.getId() : null,
+                city != null ? city.getId() : null,
+                event.getStartTime() != null ? event.getStartTime().getTime() : null,
+                Map.copyOf(terms)
+        );
+    }
+
+    private void addField(Map<String, Float> terms, String value, float boost) {
+        for (String token : SearchTokenizer.tokenize(value)) {
+            terms.merge(token, boost, Float::sum);
+        }
+    }
+
+    private Long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : null;
+    }
+
+    private record Document(Long id, Long categoryId, Long cityId, Long startTime, Map<String, Float> terms) {
+
+        boolean matches(Long categoryFilter, Long cityFilter, Long fromMillis, Long toMillis) {
+            if (categoryFilter != null && !categoryFilter.equals(categoryId)) {
+                return false;
+            }
+            if (cityFilter != null && !cityFilter.equals(cityId)) {
+                return false;
+            }
+            if (fromMillis != null && (startTime == null || startTime < fromMillis)) {
+                return false;
+            }
+            return toMillis == null || (startTime != null && startTime <= toMillis);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.Event_Manager.models.event.search;
+
+import java.time.LocalDateTime;
+
+public record EventSearchQuery(
+        String text,
+        Long categoryId,
+        Long cityId,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+}
@@ -0,0 +1,59 @@
+package com.example.Event_Manager.models.event.service;
+
+import com.example.Event_Manager.models._util.export.ExportFormat;
+import com.example.Event_Manager.models._util.export.ExportWriter;
+import com.example.Event_Manager.models.event.dto.response.EventListItemDTO;
+import com.example.Event_Manager.models.event.mapper.EventMapper;
+import com.example.Event_Manager.models.event.repository.EventListItemView;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+// caly katalog (opcjonalnie filtrowany) jednym zapytaniem czytanym kursorem, bez Page, OFFSET i COUNT
+@Service
+@RequiredArgsConstructor
+public class EventExportService {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "eventStatus", "date", "categoryId", "categoryName",
+            "venueId", "venueName", "cityName", "organizerId", "interestedCount");
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Timed(value = "events.export", description = "Event catalogue exports")
+    public long exportEvents(Long categoryId, Long venueId, LocalDateTime start, LocalDateTime end,
+                             ExportFormat format, OutputStream out) {
+        ExportWriter<EventListItemDTO> writer = new ExportWriter<>(format, out, objectMapper, COLUMNS, event -> Arrays.asList(
+                event.id(), event.name(), event.eventStatus(), event.date(), event.categoryId(), event.categoryName(),
+                event.venueId(), event.venueName(), event.cityName(), event.organizerId(), event.interestedCount()));
+        writer.writeHeader();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<EventListItemView> rows = eventRepository.streamListItems(categoryId, venueId, toDate(start), toDate(end))) {
+                rows.map(eventMapper::toListItemDTO).forEach(writer::write);
+            }
+        });
+        writer.flush();
+        return writer.rows();
+    }
+
+    private Date toDate(LocalDateTime dateTime) {
+        return dateTime != null ? Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant()) : null;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.Event_Manager.models.event.service;
+
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
+import com.example.Event_Manager.models.event.dto.response.EventImportReportDTO;
+import com.example.Event_Manager.models.event.dto.response.EventImportResultDTO;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.importing.CsvEventImportReader;
+import com.example.Event_Manager.models.event.importing.EventImportReader;
+import com.example.Event_Manager.models.event.importing.EventImportRow;
+import com.example.Event_Manager.models.event.importing.JsonEventImportReader;
+import com.example.Event_Manager.models.event.lifecycle.EventLifecycle;
+import com.example.Event_Manager.models.event.mapper.EventMapper;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// import paczkami po chunk-size wierszy: jedno zapytanie o kategorie i jedno o sale na paczke,
+// inserty batchami JDBC w jednej transakcji na paczke; body czytane strumieniowo
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventImportService {
+
+    private final EventMapper eventMapper;
+    private final CategoryRepository categoryRepository;
+    private final VenueRepository venueRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventLifecycle eventLifecycle;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+
+    @Value("${event.import.chunk-size}")
+    private int chunkSize;
+
+    @Timed(value = "events.import", description = "Bulk event imports")
+    public EventImportReportDTO importJson(InputStream body) throws IOException {
+        return importEvents(new JsonEventImportReader(objectMapper, body));
+    }
+
+    @Timed(value = "events.import", description = "Bulk event imports")
+    public EventImportReportDTO importCsv(InputStream body) throws IOException {
+        return importEvents(new CsvEventImportReader(body));
+    }
+
+    private EventImportReportDTO importEvents(EventImportReader reader) throws IOException {
+        List<EventImportResultDTO> results = new ArrayList<>();
+        List<EventImportRow> chunk = new ArrayList<>(chunkSize);
+        EventImportRow row;
+        while ((row = reader.next()) != null) {
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                results.addAll(importChunk(chunk));
+                chunk.clear();
+            }
+        }
+        results.addAll(importChunk(chunk));
+
+        int imported = (int) results.stream().filter(result -> result.eventId() != null).count();
+        return new EventImportReportDTO(results.size(), imported, results.size() - imported, results);
+    }
+
+    private List<EventImportResultDTO> importChunk(List<EventImportRow> chunk) {
+        Map<Integer, EventImportResultDTO> results = new HashMap<>();
+        List<EventImportRow> valid = new ArrayList<>(chunk.size());
+        for (EventImportRow row : chunk) {
+            List<String> errors = validate(row);
+            if (errors.isEmpty()) {
+                valid.add(row);
+            } else {
+                results.put(row.row(), new EventImportResultDTO(row.row(), null, errors));
+            }
+        }
+        insert(valid).forEach(result -> results.put(result.row(), result));
+
+        return chunk.stream().map(row -> results.get(row.row())).toList();
+    }
+
+    // te same reguly co @Valid CreateEventDTO na POST /api/events
+    private List<String> validate(EventImportRow row) {
+        if (row.event() == null) {
+            return List.of(row.error());
+        }
+        return validator.validate(row.event()).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private List<EventImportResultDTO> insert(List<EventImportRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            return transactionTemplate.execute(status -> {
+                Map<Long, Category> categories = byId(categoryRepository.findAllById(ids(rows, CreateEventDTO::categoryId)), Category::getId);
+                Map<Long, Venue> venues = byId(venueRepository.findAllById(ids(rows, CreateEventDTO::venueId)), Venue::getId);
+
+                List<EventImportResultDTO> results = new ArrayList<>(rows.size());
+                List<Event> saved = new ArrayList<>(rows.size());
+                for (EventImportRow row : rows) {
+                    Category category = categories.get(row.event().categoryId());
+                    Venue venue = venues.get(row.event().venueId());
+                    if (category == null || venue == null) {
+                        List<String> errors = new ArrayList<>();
+                        if (category == null) {
+                            errors.add("Category not found");
+                        }
+                        if (venue == null) {
+                            errors.add("Venue not found");
+                        }
+                        results.add(new EventImportResultDTO(row.row(), null, errors));
+                        continue;
+                    }
+
+                    Event event = eventMapper.toEntity(row.event(), category, venue);
+                    event.setStatus(Status.PUBLISHED);
+                    entityManager.persist(event);
+                    saved.add(event);
+                    results.add(new EventImportResultDTO(row.row(), event.getId(), List.of()));
+                }
+                entityManager.flush();
+                saved.forEach(eventSearchIndex::index);
+                eventLifecycle.schedule(saved);
+                // kontekst persystencji nie rosnie z kazda paczka
+                entityManager.clear();
+                return results;
+            });
+        } catch (RuntimeException e) {
+            if (rows.size() == 1) {
+                log.warn("Event import row {} could not be saved", rows.get(0).row(), e);
+                return List.of(new EventImportResultDTO(rows.get(0).row(), null, List.of("Event could not be saved.")));
+            }
+            // paczka poszla do rollbacku przez jeden wiersz - zapisujemy wiersze osobno, zeby wskazac ktory
+            return rows.stream()
+                    .flatMap(row -> insert(List.of(row)).stream())
+                    .toList();
+        }
+    }
+
+    private Set<Long> ids(List<EventImportRow> rows, Function<CreateEventDTO, Long> id) {
+        return rows.stream()
+                .map(row -> id.apply(row.event()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private <T> Map<Long, T> byId(List<T> entities, Function<T, Long> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.Event_Manager.models.event.service;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.config.CacheConfig;
+import com.example.Event_Manager.models._util.CursorPage;
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
 import com.example.Event_Manager.models.category.Category;
 import com.example.Event_Manager.models.category.exceptions.CategoryNotFoundException;
 import com.example.Event_Manager.models.category.repository.CategoryRepository;
@@ -9,14 +12,27 @@ import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
 import com.example.Event_Manager.models.event.dto.request.UpdateEventDTO;
 import com.example.Event_Manager.models.event.dto.response.EventDTO;
+import com.example.Event_Manager.models.event.dto.response.EventListItemDTO;
 import com.example.Event_Manager.models.event.dto.response.EventSummaryDTO;
+import com.example.Event_Manager.models.event.dto.response.TrendingEventDTO;
 import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.exceptions.EventCapacityExceededException;
 import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
 import com.example.Event_Manager.models.event.exceptions.EventsNotFoundException;
 import com.example.Event_Manager.models.event.exceptions.OrganizerNotFoundException;
+import com.example.Event_Manager.models.event.lifecycle.EventLifecycle;
 import com.example.Event_Manager.models.event.mapper.EventMapper;
+import com.example.Event_Manager.models.event.pagination.EventCursor;
+import com.example.Event_Manager.models.event.pagination.EventCursorCodec;
+import com.example.Event_Manager.models.event.repository.EventListItemView;
 import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.repository.EventVersionView;
+import com.example.Event_Manager.models.event.search.EventSearchHits;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
+import com.example.Event_Manager.models.event.search.EventSearchQuery;
+import com.example.Event_Manager.models.event.trending.TrendingEvents;
 import com.example.Event_Manager.models.event.validation.EventValidation;
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
 import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.user.validation.UserValidation;
 import com.example.Event_Manager.models.venue.Venue;
@@ -24,14 +40,28 @@ import com.example.Event_Manager.models.venue.exceptions.VenueNotFoundException;
 import com.example.Event_Manager.models.venue.repository.VenueRepository;
 import com.example.Event_Manager.models.venue.validation.VenueValidation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -46,9 +76,15 @@ public class EventService implements IEventService {
     private final CategoryRepository categoryRepository;
     private final VenueRepository venueRepository;
     private final EventRepository eventRepository;
+    private final EventRatingBucketRepository eventRatingBucketRepository;
+    private final EventCursorCodec eventCursorCodec;
+    private final EventSearchIndex eventSearchIndex;
+    private final TrendingEvents trendingEvents;
+    private final EventLifecycle eventLifecycle;
 
     @Override
     @Transactional
+    @CachePut(cacheNames = CacheConfig.EVENTS, key = "#result.id")
     public EventDTO createEvent(CreateEventDTO eventDTO) {
         eventValidation.checkIfRequestNotNull(eventDTO);
 
@@ -64,12 +100,18 @@ public class EventService implements IEventService {
         event.setStatus(Status.PUBLISHED);
 
         Event savedEvent = eventRepository.save(event);
+        eventSearchIndex.index(savedEvent);
+        eventLifecycle.schedule(savedEvent);
 
         return eventMapper.toDTO(savedEvent);
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_SUMMARIES, key = "#eventId")
+    })
     public EventDTO updateEvent(Long eventId, UpdateEventDTO eventDTO) {
         eventValidation.checkIfRequestNotNull(eventDTO);
         eventValidation.checkIfIdValid(eventId);
@@ -86,23 +128,40 @@ public class EventService implements IEventService {
                 .orElseThrow(() -> new VenueNotFoundException("Venue not found"));
         venueValidation.checkIfObjectExist(venue);
 
+        // przeniesienie na inna sale bierze jej pojemnosc (null = bez limitu), ale nie ponizej juz zarezerwowanych miejsc;
+        // na tej samej sali pojemnosc eventu zmienia tylko ReservationService.changeCapacity
+        boolean venueChanged = eventToUpdate.getVenue() == null || !eventToUpdate.getVenue().getId().equals(venue.getId());
+        if (venueChanged && eventRepository.changeCapacity(eventId, venue.getCapacity()) == 0) {
+            throw new EventCapacityExceededException("Capacity of the new venue is lower than the "
+                    + eventToUpdate.getReservedCount() + " seats already reserved.");
+        }
+
         eventMapper.updateEntity(eventToUpdate, eventDTO, category, venue);
+        eventLifecycle.reconcile(eventToUpdate);
         Event updatedEvent = eventRepository.save(eventToUpdate);
+        eventSearchIndex.index(updatedEvent);
 
         return eventMapper.toDTO(updatedEvent);
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_SUMMARIES, key = "#eventId")
+    })
     public void deleteEvent(Long eventId) {
         eventValidation.checkIfIdValid(eventId);
         if (!eventRepository.existsById(eventId)) {
             throw new EventNotFoundException("Event with this id is not in database.");
         }
+        eventRatingBucketRepository.deleteByEventId(eventId);
         eventRepository.deleteById(eventId);
+        eventSearchIndex.remove(eventId);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.EVENTS, key = "#eventId")
     public EventDTO getEventById(Long eventId) {
         eventValidation.checkIfIdValid(eventId);
         Event event = eventRepository.findEventById(eventId)
@@ -110,6 +169,15 @@ public class EventService implements IEventService {
         return eventMapper.toDTO(event);
     }
 
+    @Override
+    public ResourceVersion getEventVersion(Long eventId) {
+        eventValidation.checkIfIdValid(eventId);
+        EventVersionView version = eventRepository.findVersionById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event not found in database."));
+        return ResourceVersion.of(version.getEventUpdatedAt(), version.getCategoryUpdatedAt(),
+                version.getVenueUpdatedAt(), version.getCityUpdatedAt(), version.getCountryUpdatedAt());
+    }
+
     @Override
     public Page<EventDTO> getAllEvents(Pageable pageable) {
 
@@ -171,17 +239,38 @@ public class EventService implements IEventService {
 
     @Override
     public Page<EventDTO> searchEventsByName(String name, Pageable pageable) {
-        if (name == null || name.trim().isEmpty()) {
+        return searchEvents(new EventSearchQuery(name, null, null, null, null), pageable);
+    }
+
+    @Override
+    public Page<EventDTO> searchEvents(EventSearchQuery query, Pageable pageable) {
+        if (query.text() == null || query.text().trim().isEmpty()) {
             throw new EventNotFoundException("Event name cannot be empty or blank.");
         }
 
-        Page<Event> eventsPage = eventRepository.findByNameContainingIgnoreCase(name, pageable);
+        EventSearchHits hits = eventSearchIndex.search(query, pageable);
 
-        if (eventsPage.isEmpty()) {
-            throw new EventsNotFoundException("No events found with name containing: " + name);
+        if (hits.totalHits() == 0) {
+            throw new EventsNotFoundException("No events found matching: " + query.text());
         }
 
-        return eventsPage.map(eventMapper::toDTO);
+        // indeks zwraca tylko id w kolejnosci rankingu, encje dociagamy jednym zapytaniem
+        Map<Long, Event> eventsById = eventRepository.findByIdIn(hits.eventIds()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<EventDTO> content = hits.eventIds().stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .map(eventMapper::toDTO)
+                .toList();
+
+        // id bez wiersza w bazie wypadaja z indeksu i z sumy, zeby strona nie obiecywala wiecej wynikow niz ma
+        List<Long> staleIds = hits.eventIds().stream()
+                .filter(eventId -> !eventsById.containsKey(eventId))
+                .toList();
+        if (!staleIds.isEmpty()) {
+            eventSearchIndex.evict(staleIds);
+        }
+        return new PageImpl<>(content, pageable, hits.totalHits() - staleIds.size());
     }
 
     @Override
@@ -202,6 +291,177 @@ public class EventService implements IEventService {
     }
 
     @Override
+    public Page<EventListItemDTO> getEventListItems(Pageable pageable) {
+        Page<EventListItemView> eventsPage = eventRepository.findListItems(pageable);
+
+        if (eventsPage.isEmpty()) {
+            throw new EventsNotFoundException("No events found in database.");
+        }
+
+        return eventsPage.map(eventMapper::toListItemDTO);
+    }
+
+    @Override
+    public Page<EventListItemDTO> getEventListItemsByCategory(Long categoryId, Pageable pageable) {
+        categoryValidation.checkIfIdValid(categoryId);
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new CategoryNotFoundException("Category not found"));
+        categoryValidation.checkIfObjectExist(category);
+
+        Page<EventListItemView> eventsPage = eventRepository.findListItemsByCategoryId(categoryId, pageable);
+
+        if (eventsPage.isEmpty()) {
+            throw new EventsNotFoundException("No events found for category with id: " + categoryId);
+        }
+
+        return eventsPage.map(eventMapper::toListItemDTO);
+    }
+
+    @Override
+    public Page<EventListItemDTO> getEventListItemsByVenue(Long venueId, Pageable pageable) {
+        venueValidation.checkIfIdValid(venueId);
+        Venue venue = venueRepository.findById(venueId)
+                .orElseThrow(() -> new VenueNotFoundException("Venue not found"));
+        venueValidation.checkIfObjectExist(venue);
+
+        Page<EventListItemView> eventsPage = eventRepository.findListItemsByVenueId(venueId, pageable);
+
+        if (eventsPage.isEmpty()) {
+            throw new EventsNotFoundException("No events found for venue with id: " + venueId);
+        }
+
+        return eventsPage.map(eventMapper::toListItemDTO);
+    }
+
+    @Override
+    public Page<EventListItemDTO> getEventListItemsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        Date startDate = Date.from(start.atZone(ZoneId.systemDefault()).toInstant());
+        Date endDate = Date.from(end.atZone(ZoneId.systemDefault()).toInstant());
+
+        Page<EventListItemView> eventsPage = eventRepository.findListItemsByStartTimeBetween(startDate, endDate, pageable);
+
+        if (eventsPage.isEmpty()) {
+            throw new EventsNotFoundException("No events found in date range.");
+        }
+
+        return eventsPage.map(eventMapper::toListItemDTO);
+    }
+
+    @Override
+    public Page<EventListItemDTO> searchEventListItemsByName(String name, Pageable pageable) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new EventNotFoundException("Event name cannot be empty or blank.");
+        }
+
+        Page<EventListItemView> eventsPage = eventRepository.findListItemsByNameContaining(name, pageable);
+
+        if (eventsPage.isEmpty()) {
+            throw new EventsNotFoundException("No events found with name containing: " + name);
+        }
+
+        return eventsPage.map(eventMapper::toListItemDTO);
+    }
+
+    @Override
+    public Page<EventListItemDTO> getEventListItemsByOrganizer(Long organizerId, Pageable pageable) {
+        userValidation.checkIfIdValid(organizerId);
+
+        User organizer = userRepository.findById(organizerId)
+                .orElseThrow(() -> new OrganizerNotFoundException("Organizer not found"));
+        userValidation.checkIfObjectExist(organizer);
+
+        Page<EventListItemView> eventsPage = eventRepository.findListItemsByOrganizerId(organizerId, pageable);
+
+        if (eventsPage.isEmpty()) {
+            throw new EventsNotFoundException("No events found for organizer with id: " + organizerId);
+        }
+
+        return eventsPage.map(eventMapper::toListItemDTO);
+    }
+
+    @Override
+    public Page<EventListItemDTO> getEventListItemsByStatus(Status status, Pageable pageable) {
+        Page<EventListItemView> eventsPage = eventRepository.findListItemsByStatus(status, pageable);
+
+        if (eventsPage.isEmpty()) {
+            throw new EventsNotFoundException("No events found with status: " + status);
+        }
+
+        return eventsPage.map(eventMapper::toListItemDTO);
+    }
+
+    // ranking z pamieci, odswiezany w tle - pusta lista to brak aktywnosci w oknie, nie blad
+    @Override
+    public List<TrendingEventDTO> getTrendingEvents(int limit) {
+        return trendingEvents.top(limit);
+    }
+
+    @Override
+    public CursorPage<EventDTO> scrollAllEvents(String cursor, int size, Sort sort) {
+        return scroll(cursor, size, sort, eventRepository::findAllBy,
+                "No events found in database.");
+    }
+
+    @Override
+    public CursorPage<EventDTO> scrollEventsByCategory(Long categoryId, String cursor, int size, Sort sort) {
+        categoryValidation.checkIfIdValid(categoryId);
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new CategoryNotFoundException("Category not found"));
+        categoryValidation.checkIfObjectExist(category);
+
+        return scroll(cursor, size, sort,
+                (position, keysetSort, limit) -> eventRepository.findByCategory_Id(categoryId, position, keysetSort, limit),
+                "No events found for category with id: " + categoryId);
+    }
+
+    @Override
+    public CursorPage<EventDTO> scrollEventsByVenue(Long venueId, String cursor, int size, Sort sort) {
+        venueValidation.checkIfIdValid(venueId);
+        Venue venue = venueRepository.findById(venueId)
+                .orElseThrow(() -> new VenueNotFoundException("Venue not found"));
+        venueValidation.checkIfObjectExist(venue);
+
+        return scroll(cursor, size, sort,
+                (position, keysetSort, limit) -> eventRepository.findByVenue_Id(venueId, position, keysetSort, limit),
+                "No events found for venue with id: " + venueId);
+    }
+
+    @Override
+    public CursorPage<EventDTO> scrollEventsByDateRange(LocalDateTime start, LocalDateTime end, String cursor, int size, Sort sort) {
+        Date startDate = Date.from(start.atZone(ZoneId.systemDefault()).toInstant());
+        Date endDate = Date.from(end.atZone(ZoneId.systemDefault()).toInstant());
+
+        return scroll(cursor, size, sort,
+                (position, keysetSort, limit) -> eventRepository.findByStartTimeBetween(startDate, endDate, position, keysetSort, limit),
+                "No events found in date range.");
+    }
+
+    @Override
+    public CursorPage<EventDTO> scrollEventsByName(String name, String cursor, int size, Sort sort) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new EventNotFoundException("Event name cannot be empty or blank.");
+        }
+
+        return scroll(cursor, size, sort,
+                (position, keysetSort, limit) -> eventRepository.findByNameContainingIgnoreCase(name, position, keysetSort, limit),
+                "No events found with name containing: " + name);
+    }
+
+    @Override
+    public CursorPage<EventDTO> scrollEventsByOrganizer(Long organizerId, String cursor, int size, Sort sort) {
+        userValidation.checkIfIdValid(organizerId);
+
+        User organizer = userRepository.findById(organizerId)
+                .orElseThrow(() -> new OrganizerNotFoundException("Organizer not found"));
+        userValidation.checkIfObjectExist(organizer);
+
+        return scroll(cursor, size, sort,
+                (position, keysetSort, limit) -> eventRepository.findByOrganizer_Id(organizerId, position, keysetSort, limit),
+                "No events found for organizer with id: " + organizerId);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.EVENT_SUMMARIES, key = "#eventId")
     public EventSummaryDTO getEventSummary(Long eventId) {
         eventValidation.checkIfIdValid(eventId);
         Event event = eventRepository.findEventById(eventId)
@@ -227,4 +487,30 @@ public class EventService implements IEventService {
         }
         return eventsPage.map(eventMapper::toDTO);
     }
-}
\ No newline at end of file
+
+    private CursorPage<EventDTO> scroll(String cursor, int size, Sort sort, ScrollQuery query, String emptyMessage) {
+        EventCursor eventCursor = eventCursorCodec.decode(cursor, sort);
+        Window<Event> window = query.fetch(eventCursor.position(), eventCursor.sort(),
+                Limit.of(eventCursorCodec.resolveSize(size)));
+
+        // pusta pierwsza strona zachowuje sie jak w trybie Page, dalsze strony moga byc puste
+        if (window.isEmpty() && eventCursor.position().isInitial()) {
+            throw new EventsNotFoundException(emptyMessage);
+        }
+
+        String nextCursor = window.hasNext()
+                ? eventCursorCodec.encode(eventCursor.sort(), window.positionAt(window.size() - 1))
+                : null;
+        return new CursorPage<>(
+                window.getContent().stream().map(eventMapper::toDTO).toList(),
+                window.size(),
+                nextCursor,
+                window.hasNext()
+        );
+    }
+
+    @FunctionalInterface
+    private interface ScrollQuery {
+        Window<Event> fetch(ScrollPosition position, Sort sort, Limit limit);
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.Event_Manager.models.event.service;
 
+import com.example.Event_Manager.models._util.CursorPage;
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
 import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
 import com.example.Event_Manager.models.event.dto.request.UpdateEventDTO;
 import com.example.Event_Manager.models.event.dto.response.EventDTO;
+import com.example.Event_Manager.models.event.dto.response.EventListItemDTO;
 import com.example.Event_Manager.models.event.dto.response.EventSummaryDTO;
+import com.example.Event_Manager.models.event.dto.response.TrendingEventDTO;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.search.EventSearchQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface IEventService {
 
@@ -15,15 +23,33 @@ public interface IEventService {
     EventDTO updateEvent(Long eventId, UpdateEventDTO eventDTO);
     void deleteEvent(Long eventId);
     EventDTO getEventById(Long eventId);
+    ResourceVersion getEventVersion(Long eventId);
 
     Page<EventDTO> getAllEvents(Pageable pageable);
     Page<EventDTO> getEventsByCategory(Long categoryId, Pageable pageable);
     Page<EventDTO> getEventsByVenue(Long venueId, Pageable pageable);
     Page<EventDTO> getEventsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable);
     Page<EventDTO> searchEventsByName(String name, Pageable pageable);
+    Page<EventDTO> searchEvents(EventSearchQuery query, Pageable pageable);
     Page<EventDTO> getEventsByOrganizer(Long organizerId, Pageable pageable);
     Page<EventDTO> getEventsByOrganizer(String organizerName, Pageable pageable);
 
+    Page<EventListItemDTO> getEventListItems(Pageable pageable);
+    Page<EventListItemDTO> getEventListItemsByCategory(Long categoryId, Pageable pageable);
+    Page<EventListItemDTO> getEventListItemsByVenue(Long venueId, Pageable pageable);
+    Page<EventListItemDTO> getEventListItemsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable);
+    Page<EventListItemDTO> searchEventListItemsByName(String name, Pageable pageable);
+    Page<EventListItemDTO> getEventListItemsByOrganizer(Long organizerId, Pageable pageable);
+    Page<EventListItemDTO> getEventListItemsByStatus(Status status, Pageable pageable);
+    List<TrendingEventDTO> getTrendingEvents(int limit);
+
+    CursorPage<EventDTO> scrollAllEvents(String cursor, int size, Sort sort);
+    CursorPage<EventDTO> scrollEventsByCategory(Long categoryId, String cursor, int size, Sort sort);
+    CursorPage<EventDTO> scrollEventsByVenue(Long venueId, String cursor, int size, Sort sort);
+    CursorPage<EventDTO> scrollEventsByDateRange(LocalDateTime start, LocalDateTime end, String cursor, int size, Sort sort);
+    CursorPage<EventDTO> scrollEventsByName(String name, String cursor, int size, Sort sort);
+    CursorPage<EventDTO> scrollEventsByOrganizer(Long organizerId, String cursor, int size, Sort sort);
+
     EventSummaryDTO getEventSummary(Long eventId);
 
 }
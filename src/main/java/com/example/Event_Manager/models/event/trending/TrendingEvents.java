@@ -0,0 +1,142 @@
+package com.example.Event_Manager.models.event.trending;
+
+import com.example.Event_Manager.models.event.dto.response.TrendingEventDTO;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.mapper.EventMapper;
+import com.example.Event_Manager.models.event.repository.EventListItemView;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// okno przesuwne z kubelkow czasowych: klikniecia ida do biezacego kubelka, a odczyt dostaje
+// gotowy ranking top-K policzony przy ostatnim odswiezeniu, bez zapytania do interested
+@Slf4j
+@Component
+public class TrendingEvents {
+
+    private static final Set<Status> LISTED_STATUSES = EnumSet.of(Status.PUBLISHED, Status.ONGOING);
+    private static final Comparator<Map.Entry<Long, Long>> BY_SCORE =
+            Map.Entry.<Long, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int maxSize;
+
+    // starsze kubelki, najnowszy na poczatku; dotyka ich tylko refresh()
+    private final Deque<Map<Long, LongAdder>> closedBuckets = new ArrayDeque<>();
+    private volatile Map<Long, LongAdder> currentBucket = new ConcurrentHashMap<>();
+    private long currentBucketStart = System.currentTimeMillis();
+    private volatile List<TrendingEventDTO> ranking = List.of();
+
+    public TrendingEvents(
+            EventRepository eventRepository,
+            EventMapper eventMapper,
+            @Value("${trending.window}") Duration window,
+            @Value("${trending.buckets}") int bucketCount,
+            @Value("${trending.max-size}") int maxSize
+    ) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.bucketCount = Math.max(bucketCount, 1);
+        this.bucketMillis = Math.max(window.toMillis() / this.bucketCount, 1);
+        this.maxSize = maxSize;
+    }
+
+    public void record(Long eventId, long delta) {
+        currentBucket.computeIfAbsent(eventId, id -> new LongAdder()).add(delta);
+    }
+
+    public List<TrendingEventDTO> top(int limit) {
+        List<TrendingEventDTO> current = ranking;
+        return current.subList(0, Math.max(0, Math.min(limit, current.size())));
+    }
+
+    @Scheduled(fixedDelayString = "${trending.refresh-interval}")
+    public synchronized void refresh() {
+        rotate(System.currentTimeMillis());
+
+        Map<Long, Long> scores = new HashMap<>();
+        addScores(scores, currentBucket);
+        closedBuckets.forEach(bucket -> addScores(scores, bucket));
+
+        // kopiec min o rozmiarze K - O(n log K) zamiast sortowania wszystkich eventow z okna
+        PriorityQueue<Map.Entry<Long, Long>> heap = new PriorityQueue<>(maxSize + 1, BY_SCORE);
+        for (Map.Entry<Long, Long> entry : scores.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            heap.offer(entry);
+            if (heap.size() > maxSize) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<Long, Long>> top = new ArrayList<>(heap);
+        top.sort(BY_SCORE.reversed());
+
+        try {
+            ranking = load(top);
+        } catch (RuntimeException e) {
+            log.error("Trending events refresh failed, serving previous ranking", e);
+        }
+    }
+
+    private void rotate(long now) {
+        long elapsedBuckets = (now - currentBucketStart) / bucketMillis;
+        if (elapsedBuckets <= 0) {
+            return;
+        }
+        // zapis, ktory zlapal jeszcze stary kubelek, i tak trafi do okna - kubelek zostaje w closedBuckets
+        closedBuckets.addFirst(currentBucket);
+        currentBucket = new ConcurrentHashMap<>();
+        for (long i = 1; i < Math.min(elapsedBuckets, bucketCount); i++) {
+            closedBuckets.addFirst(Map.of());
+        }
+        while (closedBuckets.size() > bucketCount - 1) {
+            closedBuckets.removeLast();
+        }
+        currentBucketStart += elapsedBuckets * bucketMillis;
+    }
+
+    private void addScores(Map<Long, Long> scores, Map<Long, LongAdder> bucket) {
+        bucket.forEach((eventId, adder) -> scores.merge(eventId, adder.sum(), Long::sum));
+    }
+
+    // szczegoly eventow jednym zapytaniem po id; eventy usuniete lub juz nieaktualne wypadaja
+    private List<TrendingEventDTO> load(List<Map.Entry<Long, Long>> top) {
+        if (top.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, EventListItemView> events = eventRepository.findListItemsByIdIn(top.stream().map(Map.Entry::getKey).toList())
+                .stream()
+                .collect(Collectors.toMap(EventListItemView::getId, Function.identity()));
+
+        List<TrendingEventDTO> result = new ArrayList<>(top.size());
+        for (Map.Entry<Long, Long> entry : top) {
+            EventListItemView event = events.get(entry.getKey());
+            if (event != null && LISTED_STATUSES.contains(event.getStatus())) {
+                result.add(new TrendingEventDTO(eventMapper.toListItemDTO(event), entry.getValue()));
+            }
+        }
+        return List.copyOf(result);
+    }
+}
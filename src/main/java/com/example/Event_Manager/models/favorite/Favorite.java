@@ -15,7 +15,10 @@ import java.util.Date;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "favorites")
+@Table(
+        name = "favorites",
+        uniqueConstraints = @UniqueConstraint(name = "uk_favorites_user_organizer", columnNames = {"user_id", "organizer_id"})
+)
 public class Favorite {
 
     @Id
@@ -1,6 +1,7 @@
 package com.example.Event_Manager.models.favorite.controller;
 
 import com.example.Event_Manager.models._util.ErrorResponse;
+import com.example.Event_Manager.models._util.writebehind.WriteBehindOverloadedException;
 import com.example.Event_Manager.models.favorite.exceptions.InvalidFavoriteActionException;
 import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
 import org.springframework.http.HttpStatus;
@@ -24,4 +25,10 @@ public class FavoriteControllerAdvice {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage(), LocalDateTime.now()));
     }
+
+    @ExceptionHandler(WriteBehindOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleWriteBehindOverloaded(WriteBehindOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage(), LocalDateTime.now()));
+    }
 }
\ No newline at end of file
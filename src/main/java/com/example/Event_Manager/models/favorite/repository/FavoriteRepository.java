@@ -1,9 +1,14 @@
 package com.example.Event_Manager.models.favorite.repository;
 
 import com.example.Event_Manager.models.favorite.Favorite;
+import com.example.Event_Manager.models.user.enums.Role;
+import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +17,20 @@ import java.util.Optional;
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     Optional<Favorite> findByUserIdAndOrganizerId(Long userId, Long organizerId);
     Page<Favorite> findAllByUserId(Long userId, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Favorite f WHERE f.user.id = :userId AND f.organizer.id = :organizerId")
+    int deleteByUserIdAndOrganizerId(@Param("userId") Long userId, @Param("organizerId") Long organizerId);
+
+    // wstawia tylko gdy oba konta istnieja i cel ma podana role, duplikat odbija sie od uk_favorites_user_organizer
+    @Modifying
+    @Transactional
+    @Query("""
+            INSERT INTO Favorite (user, organizer, favoritedAt)
+            SELECT u, o, CURRENT_TIMESTAMP
+            FROM User u, User o
+            WHERE u.id = :userId AND o.id = :organizerId AND o.role = :role
+            """)
+    int insertIfOrganizerExists(@Param("userId") Long userId, @Param("organizerId") Long organizerId, @Param("role") Role role);
 }
\ No newline at end of file
@@ -1,24 +1,21 @@
 package com.example.Event_Manager.models.favorite.service;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
-import com.example.Event_Manager.models.favorite.Favorite;
+import com.example.Event_Manager.models._util.writebehind.WriteBehindQueue;
 import com.example.Event_Manager.models.favorite.dto.response.FavoriteDTO;
 import com.example.Event_Manager.models.favorite.exceptions.InvalidFavoriteActionException;
 import com.example.Event_Manager.models.favorite.mapper.FavoriteMapper;
 import com.example.Event_Manager.models.favorite.repository.FavoriteRepository;
-import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.user.enums.Role;
 import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
 import com.example.Event_Manager.models.user.validation.UserValidation;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Counted;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
-import java.util.Optional;
-
 @Service
 @RequiredArgsConstructor
 public class FavoriteService {
@@ -27,8 +24,9 @@ public class FavoriteService {
     private final UserRepository userRepository;
     private final FavoriteMapper favoriteMapper;
     private final UserValidation userValidation;
+    private final WriteBehindQueue writeBehindQueue;
 
-    @Transactional
+    @Counted(value = "favorites.toggled", description = "Favorite organizer toggles")
     public String toggleFavorite(Long userId, Long organizerId) {
         userValidation.checkIfIdValid(userId);
         userValidation.checkIfIdValid(organizerId);
@@ -38,32 +36,31 @@ public class FavoriteService {
             throw new InvalidFavoriteActionException("You cannot add yourself to favorites.");
         }
 
-        Optional<Favorite> existingFavorite = favoriteRepository.findByUserIdAndOrganizerId(userId, organizerId);
+        return writeBehindQueue.submit(() -> toggle(userId, organizerId), "Favorite change accepted");
+    }
 
-        if (existingFavorite.isPresent()) {
-            favoriteRepository.delete(existingFavorite.get());
+    private String toggle(Long userId, Long organizerId) {
+        if (favoriteRepository.deleteByUserIdAndOrganizerId(userId, organizerId) > 0) {
             return "Removed from favorites";
-        } else {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new UserNotFoundException("User not found" + userId + " not found"));
-
-            User organizer = userRepository.findById(organizerId)
-                    .orElseThrow(() -> new UserNotFoundException("Organizer not found" + userId + " not found"));
-
-            //walidacja czy "organizator" ma role organizatora
-            if (organizer.getRole() != Role.ORGANIZER) {
-                throw new InvalidFavoriteActionException("You can only favorite users with ORGANIZER role.");
+        }
+        try {
+            if (favoriteRepository.insertIfOrganizerExists(userId, organizerId, Role.ORGANIZER) > 0) {
+                return "Added to favorites";
             }
-
-            Favorite favorite = Favorite.builder()
-                    .user(user)
-                    .organizer(organizer)
-                    .favoritedAt(new Date())
-                    .build();
-
-            favoriteRepository.save(favorite);
+        } catch (DataIntegrityViolationException e) {
+            //rownolegle zadanie wstawilo ten sam wiersz przed nami
             return "Added to favorites";
         }
+
+        //nic nie wstawiono - dopiero teraz sprawdzamy dlaczego
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found" + userId + " not found");
+        }
+        if (!userRepository.existsById(organizerId)) {
+            throw new UserNotFoundException("Organizer not found" + organizerId + " not found");
+        }
+        //"organizator" nie ma roli organizatora
+        throw new InvalidFavoriteActionException("You can only favorite users with ORGANIZER role.");
     }
 
     public Page<FavoriteDTO> getUserFavorites(Long userId, Pageable pageable) {
@@ -0,0 +1,132 @@
+package com.example.Event_Manager.models.geo;
+
+import com.example.Event_Manager.models.city.dto.response.CityDTO;
+import com.example.Event_Manager.models.city.mapper.CityMapper;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.dto.response.VenueDTO;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// autocomplete miast i sal z pamieci: odczyt bierze aktualny GeoSnapshot, zapis admina podmienia go na nowy
+@Slf4j
+@Component
+public class GeoCatalogue {
+
+    private final CityRepository cityRepository;
+    private final VenueRepository venueRepository;
+    private final CityMapper cityMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskScheduler taskScheduler;
+    private final Duration refreshDelay;
+    private final int maxResults;
+
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private volatile GeoSnapshot snapshot = GeoSnapshot.EMPTY;
+
+    public GeoCatalogue(
+            CityRepository cityRepository,
+            VenueRepository venueRepository,
+            CityMapper cityMapper,
+            PlatformTransactionManager transactionManager,
+            TaskScheduler taskScheduler,
+            @Value("${geo.catalogue.refresh-delay}") Duration refreshDelay,
+            @Value("${geo.autocomplete.max-results}") int maxResults
+    ) {
+        this.cityRepository = cityRepository;
+        this.venueRepository = venueRepository;
+        this.cityMapper = cityMapper;
+        this.transactionManager = transactionManager;
+        this.taskScheduler = taskScheduler;
+        this.refreshDelay = refreshDelay;
+        this.maxResults = maxResults;
+    }
+
+    public List<CityDTO> findCities(String query, Collection<String> countryCodes, int limit) {
+        return snapshot.findCities(query, countryCodes, Math.min(limit, maxResults));
+    }
+
+    public List<VenueDTO> findVenues(String query, Collection<Long> cityIds, int limit) {
+        return snapshot.findVenues(query, cityIds, Math.min(limit, maxResults));
+    }
+
+    // okresowe przeladowanie lapie zmiany zrobione z pominieciem serwisow (import, reczny SQL)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${geo.catalogue.refresh-interval}", initialDelayString = "${geo.catalogue.refresh-interval}")
+    public synchronized void rebuild() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        try {
+            GeoSnapshot rebuilt = transactionTemplate.execute(status -> load());
+            if (rebuilt != null) {
+                snapshot = rebuilt;
+                log.info("Geo catalogue built with {} cities and {} venues", rebuilt.cityCount(), rebuilt.venueCount());
+            }
+        } catch (RuntimeException e) {
+            log.error("Geo catalogue rebuild failed, autocomplete keeps the previous snapshot", e);
+        }
+    }
+
+    // wolane z serwisow po zapisie; w transakcji przebudowa dopiero po commicie, zeby nie czytac niezatwierdzonych zmian
+    public void refresh() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduleRebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleRebuild();
+            }
+        });
+    }
+
+    // przebudowa na watku schedulera, nie na watku requestu; seria zapisow w ciagu refresh-delay daje jedna przebudowe.
+    // flaga schodzi przed wczytaniem, wiec zapis zatwierdzony w trakcie przebudowy planuje kolejna
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        taskScheduler.schedule(() -> {
+            rebuildScheduled.set(false);
+            rebuild();
+        }, Instant.now().plus(refreshDelay));
+    }
+
+    private GeoSnapshot load() {
+        List<CityDTO> cities = cityRepository.findAllWithCountry().stream()
+                .map(cityMapper::toDTO)
+                .toList();
+        // sale dostaja te same instancje CityDTO co lista miast
+        Map<Long, CityDTO> citiesById = cities.stream()
+                .collect(Collectors.toMap(CityDTO::id, Function.identity()));
+        List<VenueDTO> venues = venueRepository.findAllWithCity().stream()
+                .map(venue -> toDTO(venue, citiesById))
+                .toList();
+        return new GeoSnapshot(cities, venues);
+    }
+
+    private VenueDTO toDTO(Venue venue, Map<Long, CityDTO> citiesById) {
+        CityDTO city = venue.getCity() != null ? citiesById.get(venue.getCity().getId()) : null;
+        return new VenueDTO(venue.getId(), venue.getName(), venue.getAddress(), venue.getDescription(), venue.getCapacity(), city);
+    }
+}
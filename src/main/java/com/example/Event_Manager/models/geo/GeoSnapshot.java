@@ -0,0 +1,156 @@
+package com.example.Event_Manager.models.geo;
+
+import com.example.Event_Manager.models.city.dto.response.CityDTO;
+import com.example.Event_Manager.models.event.search.SearchTokenizer;
+import com.example.Event_Manager.models.venue.dto.response.VenueDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+// niemutowalny obraz miast i sal: nazwy znormalizowane i posortowane, plus listy indeksow po kraju/miescie;
+// przy zmianie budowany jest caly nowy obraz, wiec odczyt nie potrzebuje zadnych blokad
+public final class GeoSnapshot {
+
+    public static final GeoSnapshot EMPTY = new GeoSnapshot(List.of(), List.of());
+
+    private final NameIndex<CityDTO, String> cities;
+    private final NameIndex<VenueDTO, Long> venues;
+
+    public GeoSnapshot(List<CityDTO> cities, List<VenueDTO> venues) {
+        this.cities = new NameIndex<>(cities, CityDTO::name, city -> city.country() != null ? city.country().code() : null);
+        this.venues = new NameIndex<>(venues, VenueDTO::name, venue -> venue.city() != null ? venue.city().id() : null);
+    }
+
+    public List<CityDTO> findCities(String query, Collection<String> countryCodes, int limit) {
+        return cities.find(query, countryCodes, limit);
+    }
+
+    public List<VenueDTO> findVenues(String query, Collection<Long> cityIds, int limit) {
+        return venues.find(query, cityIds, limit);
+    }
+
+    public int cityCount() {
+        return cities.size();
+    }
+
+    public int venueCount() {
+        return venues.size();
+    }
+
+    private static final class NameIndex<T, G> {
+
+        private final List<T> items;
+        private final String[] keys;
+        private final Map<G, int[]> byGroup;
+
+        NameIndex(List<T> source, Function<T, String> name, Function<T, G> group) {
+            List<Entry<T>> entries = source.stream()
+                    .map(item -> new Entry<>(normalize(name.apply(item)), item))
+                    .sorted(Comparator.comparing(Entry::key))
+                    .toList();
+            this.items = entries.stream().map(Entry::item).toList();
+            this.keys = entries.stream().map(Entry::key).toArray(String[]::new);
+
+            Map<G, List<Integer>> positions = new HashMap<>();
+            for (int i = 0; i < items.size(); i++) {
+                G key = group.apply(items.get(i));
+                if (key != null) {
+                    positions.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+                }
+            }
+            Map<G, int[]> groups = new HashMap<>();
+            positions.forEach((key, list) -> groups.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+            this.byGroup = Map.copyOf(groups);
+        }
+
+        int size() {
+            return items.size();
+        }
+
+        // najpierw trafienia od poczatku nazwy, potem w srodku; w obu grupach alfabetycznie
+        List<T> find(String query, Collection<G> groups, int limit) {
+            if (limit <= 0) {
+                return List.of();
+            }
+            String prefix = query != null ? normalize(query.strip()) : "";
+            int[] candidates = candidates(groups);
+
+            List<T> result = new ArrayList<>(Math.min(limit, 16));
+            if (prefix.isEmpty()) {
+                for (int i = 0; i < count(candidates) && result.size() < limit; i++) {
+                    result.add(items.get(at(candidates, i)));
+                }
+                return result;
+            }
+
+            if (candidates == null) {
+                // bez filtra prefiksy leza obok siebie w posortowanej tablicy
+                int from = lowerBound(prefix);
+                for (int i = from; i < keys.length && keys[i].startsWith(prefix) && result.size() < limit; i++) {
+                    result.add(items.get(i));
+                }
+            } else {
+                for (int i = 0; i < candidates.length && result.size() < limit; i++) {
+                    if (keys[candidates[i]].startsWith(prefix)) {
+                        result.add(items.get(candidates[i]));
+                    }
+                }
+            }
+            for (int i = 0; i < count(candidates) && result.size() < limit; i++) {
+                String key = keys[at(candidates, i)];
+                if (!key.startsWith(prefix) && key.contains(prefix)) {
+                    result.add(items.get(at(candidates, i)));
+                }
+            }
+            return result;
+        }
+
+        // null = wszystkie pozycje, inaczej posortowana suma list z wybranych grup
+        private int[] candidates(Collection<G> groups) {
+            if (groups == null || groups.isEmpty()) {
+                return null;
+            }
+            return groups.stream()
+                    .distinct()
+                    .map(byGroup::get)
+                    .filter(Objects::nonNull)
+                    .flatMapToInt(Arrays::stream)
+                    .sorted()
+                    .toArray();
+        }
+
+        private int count(int[] candidates) {
+            return candidates == null ? items.size() : candidates.length;
+        }
+
+        private int at(int[] candidates, int i) {
+            return candidates == null ? i : candidates[i];
+        }
+
+        private int lowerBound(String prefix) {
+            int position = Arrays.binarySearch(keys, prefix);
+            if (position < 0) {
+                return -position - 1;
+            }
+            // przy powtorzonych nazwach cofamy sie do pierwszej
+            while (position > 0 && keys[position - 1].equals(prefix)) {
+                position--;
+            }
+            return position;
+        }
+
+        private static String normalize(String name) {
+            return name != null ? SearchTokenizer.normalize(name) : "";
+        }
+
+        private record Entry<T>(String key, T item) {
+        }
+    }
+}
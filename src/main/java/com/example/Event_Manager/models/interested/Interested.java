@@ -14,7 +14,10 @@ import java.util.Date;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "interested")
+@Table(
+        name = "interested",
+        uniqueConstraints = @UniqueConstraint(name = "uk_interested_user_event", columnNames = {"user_id", "event_id"})
+)
 public class Interested {
 
     @Id
@@ -1,6 +1,7 @@
 package com.example.Event_Manager.models.interested.controller;
 
 import com.example.Event_Manager.models._util.ErrorResponse;
+import com.example.Event_Manager.models._util.writebehind.WriteBehindOverloadedException;
 import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
 import com.example.Event_Manager.models.interested.exceptions.InterestedNotFoundException;
 import com.example.Event_Manager.models.interested.exceptions.InvalidInterestException;
@@ -44,4 +45,10 @@ public class InterestedControllerAdvice {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), LocalDateTime.now()));
     }
-}
+
+    @ExceptionHandler(WriteBehindOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleWriteBehindOverloaded(WriteBehindOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage(), LocalDateTime.now()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.example.Event_Manager.models.interested.counter;
+
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// przyrosty events.interested_count zbierane w pamieci i zrzucane do bazy paczkami,
+// zamiast UPDATE na wierszu eventu przy kazdym kliknieciu
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestCounterBuffer {
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // LongAdder rozklada rownolegle klikniecia w ten sam event na osobne komorki;
+    // wpis bez klikniec od poprzedniego zrzutu jest usuwany, zeby mapa nie rosla z kazdym eventem
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void record(Long eventId, long delta) {
+        LongAdder adder = pending.computeIfAbsent(eventId, id -> new LongAdder());
+        adder.add(delta);
+        // adder zdjety przez drain w miedzyczasie: to, czego drain nie zdazyl zebrac, przenosimy do aktualnego wpisu;
+        // sumThenReset zeruje kazda komorke atomowo, wiec kazdy przyrost zbiera dokladnie jedna strona
+        if (pending.get(eventId) != adder) {
+            long orphaned = adder.sumThenReset();
+            if (orphaned != 0) {
+                record(eventId, orphaned);
+            }
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${interest.counter.flush-interval}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // przyrosty sa zwykle male (+1, +2, -1...), wiec grupa po wartosci daje kilka UPDATE ... IN
+        Map<Long, List<Long>> eventIdsByDelta = new HashMap<>();
+        deltas.forEach((eventId, delta) -> eventIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(eventId));
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    eventIdsByDelta.forEach((delta, eventIds) -> {
+                        for (int from = 0; from < eventIds.size(); from += FLUSH_CHUNK_SIZE) {
+                            List<Long> chunk = eventIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, eventIds.size()));
+                            eventRepository.adjustInterestedCount(chunk, delta);
+                        }
+                    }));
+            log.debug("Flushed interest counters for {} events", deltas.size());
+        } catch (RuntimeException e) {
+            // nic nie ginie - przyrosty wracaja do bufora na nastepny zrzut
+            deltas.forEach(this::record);
+            log.warn("Interest counter flush failed for {} events, will retry", deltas.size(), e);
+        }
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((eventId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta == 0 && pending.remove(eventId, adder)) {
+                // klikniecie miedzy sumThenReset a remove trafilo juz do zdjetego addera
+                delta = adder.sumThenReset();
+            }
+            if (delta != 0) {
+                deltas.merge(eventId, delta, Long::sum);
+            }
+        });
+        return deltas;
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.Event_Manager.models.interested.repository;
 
 import com.example.Event_Manager.models.interested.Interested;
+import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,5 +17,19 @@ public interface InterestedRepository extends JpaRepository<Interested, Long> {
     Optional<Interested> findByUserIdAndEventId(Long userId, Long eventId);
     Page<Interested> findAllByUserId(Long userId, Pageable pageable);
 
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Interested i WHERE i.user.id = :userId AND i.event.id = :eventId")
+    int deleteByUserIdAndEventId(@Param("userId") Long userId, @Param("eventId") Long eventId);
 
+    // wstawia tylko gdy user i event istnieja, duplikat odbija sie od uk_interested_user_event
+    @Modifying
+    @Transactional
+    @Query("""
+            INSERT INTO Interested (user, event, markedAt)
+            SELECT u, e, CURRENT_TIMESTAMP
+            FROM User u, Event e
+            WHERE u.id = :userId AND e.id = :eventId
+            """)
+    int insertIfReferencesExist(@Param("userId") Long userId, @Param("eventId") Long eventId);
 }
@@ -1,23 +1,23 @@
 package com.example.Event_Manager.models.interested.service;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
-import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models._util.writebehind.WriteBehindQueue;
 import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
 import com.example.Event_Manager.models.event.repository.EventRepository;
-import com.example.Event_Manager.models.interested.Interested;
+import com.example.Event_Manager.models.event.trending.TrendingEvents;
+import com.example.Event_Manager.models.interested.counter.InterestCounterBuffer;
 import com.example.Event_Manager.models.interested.dto.response.InterestedDTO;
 import com.example.Event_Manager.models.interested.repository.InterestedRepository;
-import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
 import com.example.Event_Manager.models.user.validation.UserValidation;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Counted;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.ZoneId;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -26,32 +26,47 @@ public class InterestedService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final UserValidation userValidation;
+    private final InterestCounterBuffer interestCounterBuffer;
+    private final TrendingEvents trendingEvents;
+    private final WriteBehindQueue writeBehindQueue;
 
-    @Transactional
+    @Counted(value = "interests.toggled", description = "Interest toggles on events")
     public String toggleInterest(Long userId, Long eventId) {
         userValidation.checkIfIdValid(userId);
-        Optional<Interested> existingInterest = interestedRepository.findByUserIdAndEventId(userId, eventId);
-        if (existingInterest.isPresent()) {
-            //jak jest to usuwamy, czyli uzytkownik odznaczyl
-            interestedRepository.delete(existingInterest.get());
-            return "Removed from interested";
-        } else {
-            //jak nie ma, tworzymy nowego
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new UserNotFoundException("User not found" + userId + " not found"));
-
-            Event event = eventRepository.findById(eventId)
-                    .orElseThrow(() -> new EventNotFoundException("Event not found" + eventId + " not found"));
-
-            Interested interested = Interested.builder()
-                    .user(user)
-                    .event(event)
-                    .build();
+        return writeBehindQueue.submit(() -> toggle(userId, eventId), "Interest change accepted");
+    }
 
-            interestedRepository.save(interested);
+    private String toggle(Long userId, Long eventId) {
+        //jak jest to usuwamy, czyli uzytkownik odznaczyl
+        if (interestedRepository.deleteByUserIdAndEventId(userId, eventId) > 0) {
+            recordInterest(eventId, -1);
+            return "Removed from interested";
+        }
+        //jak nie ma, wstawiamy bez blokad - podwojne klikniecie zatrzyma unikalny klucz
+        try {
+            if (interestedRepository.insertIfReferencesExist(userId, eventId) > 0) {
+                recordInterest(eventId, 1);
+                return "Added to interested";
+            }
+        } catch (DataIntegrityViolationException e) {
+            //rownolegle zadanie wstawilo ten sam wiersz przed nami
             return "Added to interested";
         }
+        //nic nie wstawiono, wiec brakuje usera albo eventu
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found" + userId + " not found");
+        }
+        throw new EventNotFoundException("Event not found" + eventId + " not found");
     }
+
+    //licznik w events i ranking trendow dostaja tylko zmiane, ktora faktycznie zapisal ten request
+    private void recordInterest(Long eventId, long delta) {
+        WriteBehindQueue.afterWrite(() -> {
+            interestCounterBuffer.record(eventId, delta);
+            trendingEvents.record(eventId, delta);
+        });
+    }
+
     public Page<InterestedDTO> getUserInterests(Long userId, Pageable pageable) {
         userValidation.checkIfIdValid(userId);
 
@@ -0,0 +1,46 @@
+package com.example.Event_Manager.models.reservation;
+
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.util.Date;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+// schemat w db/migration/V8__capacity_reservations.sql
+@Table(
+        name = "reservations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservations_user_event", columnNames = {"user_id", "event_id"}),
+        indexes = @Index(name = "idx_reservations_event_id", columnList = "event_id, id")
+)
+public class Reservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Event event;
+
+    @Column(nullable = false, name = "seats")
+    private Integer seats;
+
+    @CreationTimestamp
+    @Column(nullable = false, name = "created_at")
+    private Date createdAt;
+}
@@ -0,0 +1,76 @@
+package com.example.Event_Manager.models.reservation.controller;
+
+import com.example.Event_Manager.models._util.annotations.IsAttendee;
+import com.example.Event_Manager.models._util.annotations.IsOrganizer;
+import com.example.Event_Manager.models.reservation.dto.response.EventAvailabilityDTO;
+import com.example.Event_Manager.models.reservation.dto.response.ReservationDTO;
+import com.example.Event_Manager.models.reservation.service.ReservationService;
+import com.example.Event_Manager.models.user.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/reservations")
+@Tag(name = "Reservations")
+@RequiredArgsConstructor
+public class ReservationController {
+    private final ReservationService reservationService;
+
+    @Operation(summary = "Reserve seats for an event",
+            description = "Fails with 409 when the event is sold out or has already started.")
+    @PostMapping("/{eventId}")
+    @IsAttendee
+    public ResponseEntity<String> reserve(
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "1") int seats,
+            @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservationService.reserve(user.getId(), eventId, seats));
+    }
+
+    @Operation(summary = "Cancel own reservation and release its seats")
+    @DeleteMapping("/{eventId}")
+    @IsAttendee
+    public ResponseEntity<Void> cancel(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal User user
+    ) {
+        reservationService.cancel(user.getId(), eventId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get own reservations")
+    @GetMapping
+    @IsAttendee
+    public ResponseEntity<Page<ReservationDTO>> getMyReservations(
+            @AuthenticationPrincipal User user,
+            @PageableDefault(size = 10) Pageable pageable
+    ) {
+        return ResponseEntity.ok(reservationService.getUserReservations(user.getId(), pageable));
+    }
+
+    @Operation(summary = "Get event capacity and remaining seats")
+    @GetMapping("/event/{eventId}/availability")
+    public ResponseEntity<EventAvailabilityDTO> getAvailability(@PathVariable Long eventId) {
+        return ResponseEntity.ok(reservationService.getAvailability(eventId));
+    }
+
+    @Operation(summary = "Change event capacity",
+            description = "Without the capacity parameter the limit is removed. Cannot go below already reserved seats.")
+    @PutMapping("/event/{eventId}/capacity")
+    @IsOrganizer
+    public ResponseEntity<EventAvailabilityDTO> changeCapacity(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) Integer capacity
+    ) {
+        return ResponseEntity.ok(reservationService.changeCapacity(eventId, capacity));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.Event_Manager.models.reservation.controller;
+
+import com.example.Event_Manager.models._util.ErrorResponse;
+import com.example.Event_Manager.models.event.exceptions.EventAlreadyStartedException;
+import com.example.Event_Manager.models.event.exceptions.EventCapacityExceededException;
+import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
+import com.example.Event_Manager.models.reservation.exceptions.DuplicateReservationException;
+import com.example.Event_Manager.models.reservation.exceptions.InvalidReservationException;
+import com.example.Event_Manager.models.reservation.exceptions.ReservationNotFoundException;
+import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+
+@RestControllerAdvice(basePackageClasses = ReservationController.class)
+public class ReservationControllerAdvice {
+
+    @ExceptionHandler({EventNotFoundException.class, UserNotFoundException.class, ReservationNotFoundException.class})
+    public ResponseEntity<ErrorResponse> handleNotFound(RuntimeException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage(), LocalDateTime.now()));
+    }
+
+    @ExceptionHandler({EventCapacityExceededException.class, EventAlreadyStartedException.class, DuplicateReservationException.class})
+    public ResponseEntity<ErrorResponse> handleConflict(RuntimeException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage(), LocalDateTime.now()));
+    }
+
+    @ExceptionHandler(InvalidReservationException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidReservation(InvalidReservationException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.Event_Manager.models.reservation.dto.response;
+
+public record EventAvailabilityDTO(
+        Long eventId,
+        Integer capacity,
+        Integer reserved,
+        Integer remaining
+) {
+}
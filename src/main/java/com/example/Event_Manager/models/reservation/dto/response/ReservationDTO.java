@@ -0,0 +1,12 @@
+package com.example.Event_Manager.models.reservation.dto.response;
+
+import java.time.LocalDateTime;
+
+public record ReservationDTO(
+        Long eventId,
+        String eventName,
+        LocalDateTime eventDate,
+        Integer seats,
+        LocalDateTime reservedAt
+) {
+}
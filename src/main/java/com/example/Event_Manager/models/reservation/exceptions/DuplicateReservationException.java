@@ -0,0 +1,7 @@
+package com.example.Event_Manager.models.reservation.exceptions;
+
+public class DuplicateReservationException extends RuntimeException {
+    public DuplicateReservationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.Event_Manager.models.reservation.exceptions;
+
+public class InvalidReservationException extends RuntimeException {
+    public InvalidReservationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.Event_Manager.models.reservation.exceptions;
+
+public class ReservationNotFoundException extends RuntimeException {
+    public ReservationNotFoundException(String message) {
+        super(message);
+    }
+}
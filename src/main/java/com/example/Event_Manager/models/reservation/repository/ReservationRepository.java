@@ -0,0 +1,38 @@
+package com.example.Event_Manager.models.reservation.repository;
+
+import com.example.Event_Manager.models.reservation.Reservation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    Optional<Reservation> findByUserIdAndEventId(Long userId, Long eventId);
+
+    @EntityGraph(attributePaths = "event")
+    Page<Reservation> findAllByUserId(Long userId, Pageable pageable);
+
+    long countByEventId(Long eventId);
+
+    // bez encji w persistence context; druga rezerwacja tego samego usera odbija sie od uk_reservations_user_event
+    @Modifying
+    @Query("""
+            INSERT INTO Reservation (user, event, seats, createdAt)
+            SELECT u, e, :seats, CURRENT_TIMESTAMP
+            FROM User u, Event e
+            WHERE u.id = :userId AND e.id = :eventId
+            """)
+    int insertIfReferencesExist(@Param("userId") Long userId, @Param("eventId") Long eventId, @Param("seats") int seats);
+
+    @Modifying
+    @Query("DELETE FROM Reservation r WHERE r.id = :reservationId")
+    int deleteReservation(@Param("reservationId") Long reservationId);
+}
@@ -0,0 +1,136 @@
+package com.example.Event_Manager.models.reservation.service;
+
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.exceptions.EventAlreadyStartedException;
+import com.example.Event_Manager.models.event.exceptions.EventCapacityExceededException;
+import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
+import com.example.Event_Manager.models.event.repository.EventCapacityView;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.reservation.Reservation;
+import com.example.Event_Manager.models.reservation.dto.response.EventAvailabilityDTO;
+import com.example.Event_Manager.models.reservation.dto.response.ReservationDTO;
+import com.example.Event_Manager.models.reservation.exceptions.DuplicateReservationException;
+import com.example.Event_Manager.models.reservation.exceptions.InvalidReservationException;
+import com.example.Event_Manager.models.reservation.exceptions.ReservationNotFoundException;
+import com.example.Event_Manager.models.reservation.repository.ReservationRepository;
+import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
+import com.example.Event_Manager.models.user.validation.UserValidation;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.util.Date;
+
+// pula miejsc pilnowana w bazie warunkowym UPDATE licznika events.reserved_count - dziala tak samo przy wielu
+// instancjach aplikacji i nie trzyma blokady wiersza eventu dluzej niz jedna krotka transakcja
+@Service
+@RequiredArgsConstructor
+public class ReservationService {
+
+    private final ReservationRepository reservationRepository;
+    private final EventRepository eventRepository;
+    private final UserValidation userValidation;
+
+    @Value("${reservation.max-seats}")
+    private int maxSeats;
+
+    // licznik przed wstawieniem rezerwacji: klucz obcy rezerwacji bierze blokade wspoldzielona na wiersz eventu,
+    // a dwie transakcje podnoszace ja potem do wylacznej zakleszczylyby sie; duplikat cofa tez przyrost licznika
+    @Transactional
+    @Timed(value = "reservations.reserve", description = "Seat reservations")
+    public String reserve(Long userId, Long eventId, int seats) {
+        userValidation.checkIfIdValid(userId);
+        if (seats < 1 || seats > maxSeats) {
+            throw new InvalidReservationException("Seats must be between 1 and " + maxSeats + ".");
+        }
+
+        Date now = new Date();
+        if (eventRepository.reserveSeats(eventId, seats, Status.PUBLISHED, now) == 0) {
+            throw rejection(eventId, now);
+        }
+        try {
+            if (reservationRepository.insertIfReferencesExist(userId, eventId, seats) == 0) {
+                throw new UserNotFoundException("User with id " + userId + " not found");
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateReservationException("You already have a reservation for this event.");
+        }
+        return "Reserved " + seats + " seat(s)";
+    }
+
+    // ta sama kolejnosc blokad co przy rezerwacji: najpierw wiersz eventu, potem rezerwacja
+    @Transactional
+    public void cancel(Long userId, Long eventId) {
+        userValidation.checkIfIdValid(userId);
+        Reservation reservation = reservationRepository.findByUserIdAndEventId(userId, eventId)
+                .orElseThrow(() -> new ReservationNotFoundException("Reservation for event " + eventId + " not found"));
+
+        eventRepository.releaseSeats(eventId, reservation.getSeats());
+        //rownolegle anulowanie zdazylo usunac wiersz - rollback zwraca miejsca, ktorych tu nie zwolnilismy
+        if (reservationRepository.deleteReservation(reservation.getId()) == 0) {
+            throw new ReservationNotFoundException("Reservation for event " + eventId + " not found");
+        }
+    }
+
+    public Page<ReservationDTO> getUserReservations(Long userId, Pageable pageable) {
+        userValidation.checkIfIdValid(userId);
+
+        return reservationRepository.findAllByUserId(userId, pageable)
+                .map(r -> new ReservationDTO(
+                        r.getEvent().getId(),
+                        r.getEvent().getName(),
+                        r.getEvent().getStartTime().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime(),
+                        r.getSeats(),
+                        r.getCreatedAt().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime()
+                ));
+    }
+
+    public EventAvailabilityDTO getAvailability(Long eventId) {
+        return toAvailability(findCapacity(eventId));
+    }
+
+    // null zdejmuje limit; zmniejszenie ponizej zajetych miejsc odrzuca ten sam warunkowy UPDATE
+    @Transactional
+    public EventAvailabilityDTO changeCapacity(Long eventId, Integer capacity) {
+        if (capacity != null && capacity < 1) {
+            throw new InvalidReservationException("Capacity must be a positive number.");
+        }
+        if (eventRepository.changeCapacity(eventId, capacity) == 0) {
+            EventCapacityView event = findCapacity(eventId);
+            throw new EventCapacityExceededException(
+                    "Capacity cannot be lower than the " + event.getReservedCount() + " seats already reserved.");
+        }
+        return getAvailability(eventId);
+    }
+
+    private RuntimeException rejection(Long eventId, Date now) {
+        EventCapacityView event = findCapacity(eventId);
+        if (event.getStatus() == Status.ONGOING || event.getStatus() == Status.COMPLETED
+                || !now.before(event.getStartTime())) {
+            return new EventAlreadyStartedException("Event has already started.");
+        }
+        if (event.getStatus() != Status.PUBLISHED) {
+            return new InvalidReservationException("Event is not open for reservations.");
+        }
+        return new EventCapacityExceededException(
+                "Not enough seats left, remaining: " + toAvailability(event).remaining() + ".");
+    }
+
+    private EventCapacityView findCapacity(Long eventId) {
+        return eventRepository.findCapacityById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event not found in database."));
+    }
+
+    private EventAvailabilityDTO toAvailability(EventCapacityView event) {
+        Integer remaining = event.getCapacity() != null
+                ? Math.max(event.getCapacity() - event.getReservedCount(), 0)
+                : null;
+        return new EventAvailabilityDTO(event.getId(), event.getCapacity(), event.getReservedCount(), remaining);
+    }
+}
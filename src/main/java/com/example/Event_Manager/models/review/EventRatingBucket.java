@@ -0,0 +1,32 @@
+package com.example.Event_Manager.models.review;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "event_rating_buckets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_rating_bucket", columnNames = {"event_id", "rating"})
+)
+public class EventRatingBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "event_id")
+    private Long eventId;
+
+    @Column(nullable = false, name = "rating")
+    private int rating;
+
+    @Column(nullable = false, name = "review_count")
+    private long reviewCount;
+}
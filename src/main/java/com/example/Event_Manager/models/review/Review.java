@@ -18,11 +18,16 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "reviews")
+@Table(
+        name = "reviews",
+        indexes = @Index(name = "idx_reviews_event_id", columnList = "event_id, id")
+)
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reviews_id")
+    @TableGenerator(name = "reviews_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "reviews", allocationSize = 50)
     private Long id;
 
     @ManyToOne(cascade = CascadeType.ALL)
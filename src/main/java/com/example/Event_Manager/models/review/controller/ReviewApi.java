@@ -1,5 +1,6 @@
 package com.example.Event_Manager.models.review.controller;
 
+import com.example.Event_Manager.models._util.export.ExportFormat;
 import com.example.Event_Manager.models.review.dto.request.CreateReviewDTO;
 import com.example.Event_Manager.models.review.dto.request.UpdateReviewDTO;
 import com.example.Event_Manager.models.review.dto.response.ReviewDTO;
@@ -14,6 +15,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Validated
 @Tag(name = "Review Management", description = "APIs for managing event reviews")
@@ -68,14 +71,31 @@ public interface ReviewApi {
              Pageable pageable
     );
 
+    @Operation(summary = "Export all reviews for an event",
+                description = "Streams every review of an event as NDJSON or CSV in a single response.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "404", description = "Event not found"),
+            @ApiResponse(responseCode = "429", description = "Too many exports in progress")
+    })
+     ResponseEntity<StreamingResponseBody> exportReviewsForEvent(
+             Long eventId,
+             ExportFormat format,
+             WebRequest request
+    );
+
     @Operation(summary = "Get review summary for an event",
                 description = "Retrieves a summary of reviews for a specific event, " +
-                        "including average rating and total number of reviews.")
+                        "including average rating, total number of reviews and rating histogram. " +
+                        "Individual reviews are available from the paginated reviews endpoint.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Review summary retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Review summary not modified since the ETag sent by the client"),
             @ApiResponse(responseCode = "404", description = "Event not found")
     })
      ResponseEntity<ReviewSummaryDTO> getEventReviewSummary(
-             Long eventId
+             Long eventId,
+             WebRequest request
     );
 }
@@ -1,22 +1,30 @@
 package com.example.Event_Manager.models.review.controller;
 
 import com.example.Event_Manager.models._util.annotations.IsAttendee;
+import com.example.Event_Manager.models._util.conditional.ConditionalGet;
+import com.example.Event_Manager.models._util.export.ExportFormat;
+import com.example.Event_Manager.models._util.export.ExportLimiter;
 import com.example.Event_Manager.models.review.dto.request.CreateReviewDTO;
 import com.example.Event_Manager.models.review.dto.request.UpdateReviewDTO;
 import com.example.Event_Manager.models.review.dto.response.ReviewDTO;
 import com.example.Event_Manager.models.review.dto.response.ReviewSummaryDTO;
 import com.example.Event_Manager.models.review.service.IReviewService;
+import com.example.Event_Manager.models.review.service.ReviewExportService;
 import com.example.Event_Manager.models.user.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/reviews")
@@ -26,6 +34,9 @@ import org.springframework.web.bind.annotation.*;
 public class ReviewController implements ReviewApi {
 
     private final IReviewService reviewService;
+    private final ReviewExportService reviewExportService;
+    private final ExportLimiter exportLimiter;
+    private final ConditionalGet conditionalGet;
 
     @PostMapping
     @IsAttendee
@@ -68,12 +79,29 @@ public class ReviewController implements ReviewApi {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/event/{eventId}/export")
+    public ResponseEntity<StreamingResponseBody> exportReviewsForEvent(
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            WebRequest request
+    ) {
+        reviewExportService.checkEventExists(eventId);
+        StreamingResponseBody body = exportLimiter.limit(request,
+                out -> reviewExportService.exportReviewsForEvent(eventId, format, out));
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName("event-" + eventId + "-reviews")).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/event/{eventId}/summary")
     public ResponseEntity<ReviewSummaryDTO> getEventReviewSummary(
-            @PathVariable Long eventId
+            @PathVariable Long eventId,
+            WebRequest request
     ) {
-        ReviewSummaryDTO response = reviewService.getEventReviewSummary(eventId);
-        return ResponseEntity.ok(response);
+        return conditionalGet.respond(request, reviewService.getEventReviewSummaryVersion(eventId),
+                () -> reviewService.getEventReviewSummary(eventId));
     }
 
 }
\ No newline at end of file
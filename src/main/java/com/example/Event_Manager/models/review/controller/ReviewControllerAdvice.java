@@ -6,6 +6,8 @@ import com.example.Event_Manager.models.review.exceptions.ReviewNotFoundExceptio
 import com.example.Event_Manager.models.review.exceptions.ReviewsNotFoundException;
 import com.example.Event_Manager.models.review.exceptions.UnauthorizedReviewAccessException;
 import com.example.Event_Manager.models._util.ErrorResponse;
+import com.example.Event_Manager.models._util.export.ExportLimitExceededException;
+import com.example.Event_Manager.models._util.writebehind.WriteBehindOverloadedException;
 import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -76,4 +78,24 @@ public class ReviewControllerAdvice {
         );
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(WriteBehindOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleWriteBehindOverloaded(WriteBehindOverloadedException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    @ExceptionHandler(ExportLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleExportLimitExceeded(ExportLimitExceededException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
+}
@@ -1,9 +1,7 @@
 package com.example.Event_Manager.models.review.dto.response;
 
-import com.example.Event_Manager.models.event.Event;
 import lombok.Builder;
 
-import java.util.List;
 import java.util.Map;
 
 @Builder
@@ -12,6 +10,6 @@ public record ReviewSummaryDTO(
         String eventName,
         Double averageRating,
         Integer totalReviews,
-        Map<Event, List<ReviewDTO>> eventRatings
+        Map<Integer, Long> ratingHistogram
 ) {
 }
@@ -0,0 +1,55 @@
+package com.example.Event_Manager.models.review.repository;
+
+import com.example.Event_Manager.models.review.EventRatingBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// kubelki nigdy nie sa ladowane jako encje, wiec bulk update nie zostawia nieaktualnych obiektow w persistence context
+@Repository
+public interface EventRatingBucketRepository extends JpaRepository<EventRatingBucket, Long> {
+
+    @Query("""
+            SELECT new com.example.Event_Manager.models.review.repository.EventRatingCount(b.rating, b.reviewCount)
+            FROM EventRatingBucket b
+            WHERE b.eventId = :eventId AND b.reviewCount > 0
+            ORDER BY b.rating
+            """)
+    List<EventRatingCount> findRatingCounts(@Param("eventId") Long eventId);
+
+    boolean existsByEventIdAndRating(Long eventId, int rating);
+
+    // atomowa zmiana licznika w bazie, bez read-modify-write
+    @Modifying
+    @Query("""
+            UPDATE EventRatingBucket b
+            SET b.reviewCount = b.reviewCount + :delta
+            WHERE b.eventId = :eventId AND b.rating = :rating
+            """)
+    int adjustReviewCount(@Param("eventId") Long eventId, @Param("rating") int rating, @Param("delta") long delta);
+
+    @Modifying
+    @Query("""
+            INSERT INTO EventRatingBucket (eventId, rating, reviewCount)
+            VALUES (:eventId, :rating, :reviewCount)
+            """)
+    void insertBucket(@Param("eventId") Long eventId, @Param("rating") int rating, @Param("reviewCount") long reviewCount);
+
+    // kubelki nie maja klucza obcego do events, usuwa je usuniecie eventu
+    @Modifying
+    @Query("DELETE FROM EventRatingBucket b WHERE b.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query("""
+            INSERT INTO EventRatingBucket (eventId, rating, reviewCount)
+            SELECT r.event.id, r.rating, COUNT(r)
+            FROM Review r
+            GROUP BY r.event.id, r.rating
+            """)
+    int rebuildFromReviews();
+}
@@ -0,0 +1,7 @@
+package com.example.Event_Manager.models.review.repository;
+
+public record EventRatingCount(
+        int rating,
+        long reviewCount
+) {
+}
@@ -1,19 +1,38 @@
 package com.example.Event_Manager.models.review.repository;
 
 import com.example.Event_Manager.models.review.Review;
+import com.example.Event_Manager.models.review.dto.response.ReviewDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review,Long> {
     Page<Review> findByEventId(Long eventId, Pageable pageable);
-
-    // aby wyciagnac wszystkie do eventSummary
-    List<Review> findByEventId(Long eventId);
     Optional<Review> getReviewById(Long reviewId);
+
+    // eksport recenzji eventu: DTO prosto z zapytania, kursor z ograniczonym fetch size
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.example.Event_Manager.models.review.dto.response.ReviewDTO(
+                   r.id, e.id, e.name, u.id, CONCAT(u.firstName, ' ', u.lastName), r.rating, r.comment, r.createdAt)
+            FROM Review r
+            JOIN r.event e
+            LEFT JOIN r.user u
+            WHERE e.id = :eventId
+            ORDER BY r.id
+            """)
+    Stream<ReviewDTO> streamByEventId(@Param("eventId") Long eventId);
 }
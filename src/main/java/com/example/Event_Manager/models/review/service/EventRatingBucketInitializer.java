@@ -0,0 +1,30 @@
+package com.example.Event_Manager.models.review.service;
+
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventRatingBucketInitializer {
+
+    private final EventRatingBucketRepository eventRatingBucketRepository;
+
+    // jednorazowe wypelnienie agregatow dla recenzji sprzed wprowadzenia kubelkow; bazy z Flyway wypelnia juz V10
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (eventRatingBucketRepository.count() > 0) {
+            return;
+        }
+        int created = eventRatingBucketRepository.rebuildFromReviews();
+        if (created > 0) {
+            log.info("Initialized {} event rating buckets from existing reviews", created);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.Event_Manager.models.review.service;
 
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
 import com.example.Event_Manager.models.review.dto.request.CreateReviewDTO;
 import com.example.Event_Manager.models.review.dto.request.UpdateReviewDTO;
 import com.example.Event_Manager.models.review.dto.response.ReviewDTO;
@@ -13,4 +14,5 @@ public interface IReviewService {
     void deleteReview(Long reviewId, Long userId);
     Page<ReviewDTO> getReviewsForEvent(Long eventId, Pageable pageable);
     ReviewSummaryDTO getEventReviewSummary(Long eventId);
+    ResourceVersion getEventReviewSummaryVersion(Long eventId);
 }
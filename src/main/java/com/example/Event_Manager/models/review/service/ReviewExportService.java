@@ -0,0 +1,60 @@
+package com.example.Event_Manager.models.review.service;
+
+import com.example.Event_Manager.models._util.export.ExportFormat;
+import com.example.Event_Manager.models._util.export.ExportWriter;
+import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.validation.EventValidation;
+import com.example.Event_Manager.models.review.dto.response.ReviewDTO;
+import com.example.Event_Manager.models.review.repository.ReviewRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ReviewExportService {
+
+    private static final List<String> COLUMNS = List.of("id", "eventId", "eventName", "userId", "userName",
+            "rating", "comment", "createdAt");
+
+    private final ReviewRepository reviewRepository;
+    private final EventRepository eventRepository;
+    private final EventValidation eventValidation;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    // wolane przed otwarciem strumienia odpowiedzi, zeby brak eventu dal jeszcze zwykle 404
+    public void checkEventExists(Long eventId) {
+        eventValidation.checkIfIdValid(eventId);
+        if (!eventRepository.existsById(eventId)) {
+            throw new EventNotFoundException("Event not found");
+        }
+    }
+
+    @Timed(value = "reviews.export", description = "Event review exports")
+    public long exportReviewsForEvent(Long eventId, ExportFormat format, OutputStream out) {
+        ExportWriter<ReviewDTO> writer = new ExportWriter<>(format, out, objectMapper, COLUMNS, review -> Arrays.asList(
+                review.id(), review.eventId(), review.eventName(), review.userId(), review.userName(),
+                review.rating(), review.comment(), review.createdAt()));
+        writer.writeHeader();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ReviewDTO> rows = reviewRepository.streamByEventId(eventId)) {
+                rows.forEach(writer::write);
+            }
+        });
+        writer.flush();
+        return writer.rows();
+    }
+}
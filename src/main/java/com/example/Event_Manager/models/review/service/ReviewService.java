@@ -1,6 +1,8 @@
 package com.example.Event_Manager.models.review.service;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
+import com.example.Event_Manager.models._util.writebehind.WriteBehindQueue;
 import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
 import com.example.Event_Manager.models.event.repository.EventRepository;
@@ -13,19 +15,25 @@ import com.example.Event_Manager.models.review.dto.response.ReviewSummaryDTO;
 import com.example.Event_Manager.models.review.exceptions.ReviewNotFoundException;
 import com.example.Event_Manager.models.review.exceptions.ReviewsNotFoundException;
 import com.example.Event_Manager.models.review.mapper.ReviewMapper;
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
+import com.example.Event_Manager.models.review.repository.EventRatingCount;
 import com.example.Event_Manager.models.review.repository.ReviewRepository;
 import com.example.Event_Manager.models.review.validation.ReviewValidation;
 import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
 import com.example.Event_Manager.models.user.validation.UserValidation;
+import io.micrometer.core.annotation.Counted;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.Date;
 import java.util.Map;
+import java.util.TreeMap;
 
 
 @Service
@@ -33,6 +41,7 @@ import java.util.Map;
 public class ReviewService implements IReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final EventRatingBucketRepository eventRatingBucketRepository;
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
 
@@ -42,12 +51,27 @@ public class ReviewService implements IReviewService {
     private final ReviewValidation reviewValidation;
     private final EventValidation eventValidation;
 
+    private final WriteBehindQueue writeBehindQueue;
+    private final PlatformTransactionManager transactionManager;
+
     @Override
-    @Transactional
+    @Counted(value = "reviews.created", description = "Reviews created")
     public ReviewDTO createReview(CreateReviewDTO review, Long userId) {
         reviewValidation.checkIfRequestNotNull(review);
         userValidation.checkIfIdValid(userId);
 
+        // w paczce write-behind dolacza do jej transakcji, a samodzielnie otwiera wlasna
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ReviewDTO accepted = ReviewDTO.builder()
+                .eventId(review.eventId())
+                .userId(userId)
+                .rating(review.rating())
+                .comment(review.comment())
+                .build();
+        return writeBehindQueue.submit(() -> transactionTemplate.execute(status -> insertReview(review, userId)), accepted);
+    }
+
+    private ReviewDTO insertReview(CreateReviewDTO review, Long userId) {
         Event event = eventRepository.findById(review.eventId())
                 .orElseThrow(() -> new EventNotFoundException("Event not found"));
         User user = userRepository.findById(userId)
@@ -55,6 +79,7 @@ public class ReviewService implements IReviewService {
 
         Review entity = reviewMapper.toEntity(review, event, user);
         Review saved = reviewRepository.save(entity);
+        adjustRatingBucket(event.getId(), saved.getRating(), 1);
 
         return reviewMapper.toDTO(saved);
     }
@@ -72,8 +97,14 @@ public class ReviewService implements IReviewService {
         Review review = reviewRepository.getReviewById(reviewId)
             .orElseThrow(() -> new ReviewNotFoundException("Review not found"));
 
+        int previousRating = review.getRating();
         reviewMapper.updateEntity(review, reviewRequest);
         Review updated = reviewRepository.save(review);
+        if (updated.getRating() != previousRating) {
+            Long eventId = updated.getEvent().getId();
+            adjustRatingBucket(eventId, previousRating, -1);
+            adjustRatingBucket(eventId, updated.getRating(), 1);
+        }
         return reviewMapper.toDTO(updated);
     }
 
@@ -93,6 +124,7 @@ public class ReviewService implements IReviewService {
         userValidation.checkIfObjectExist(user);
 
         reviewRepository.deleteById(reviewId);
+        adjustRatingBucket(review.getEvent().getId(), review.getRating(), -1);
     }
 
     @Override
@@ -115,30 +147,50 @@ public class ReviewService implements IReviewService {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EventNotFoundException("Event not found"));
 
-        var reviews = reviewRepository.findByEventId(eventId);
-        if (reviews == null || reviews.isEmpty()) {
-            throw new ReviewsNotFoundException("No reviews summary found for event with id: " + eventId);
+        // max jeden wiersz na ocene, niezaleznie od liczby recenzji
+        Map<Integer, Long> ratingHistogram = new TreeMap<>();
+        long totalReviews = 0;
+        long ratingSum = 0;
+        for (EventRatingCount ratingCount : eventRatingBucketRepository.findRatingCounts(eventId)) {
+            ratingHistogram.put(ratingCount.rating(), ratingCount.reviewCount());
+            totalReviews += ratingCount.reviewCount();
+            ratingSum += (long) ratingCount.rating() * ratingCount.reviewCount();
         }
 
-        double averageRating = reviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0.0);
-
-        int totalReviews = reviews.size();
-
-        List<ReviewDTO> reviewDTOs = reviews.stream()
-                .map(reviewMapper::toDTO)
-                .toList();
-
-        Map<Event, List<ReviewDTO>> eventReviewsMap = Map.of(event, reviewDTOs);
+        if (totalReviews == 0) {
+            throw new ReviewsNotFoundException("No reviews summary found for event with id: " + eventId);
+        }
 
         return new ReviewSummaryDTO(
                 event.getId(),
                 event.getName(),
-                averageRating,
-                totalReviews,
-                eventReviewsMap
+                (double) ratingSum / totalReviews,
+                Math.toIntExact(totalReviews),
+                ratingHistogram
         );
     }
+
+    @Override
+    public ResourceVersion getEventReviewSummaryVersion(Long eventId) {
+        eventValidation.checkIfIdValid(eventId);
+        Date eventModified = eventRepository.findLastModifiedById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event not found"));
+        // usuniecie recenzji nie zostawia daty zmiany, wiec wersja to stan kubelkow (max kilka wierszy), bez Last-Modified
+        return ResourceVersion.ofState(eventModified.getTime(), eventRatingBucketRepository.findRatingCounts(eventId));
+    }
+
+    private void adjustRatingBucket(Long eventId, int rating, long delta) {
+        // kubelek raz zalozony nie znika, wiec UPDATE trafia w istniejacy wiersz i blokuje tylko jego
+        if (delta < 0 || eventRatingBucketRepository.existsByEventIdAndRating(eventId, rating)) {
+            if (eventRatingBucketRepository.adjustReviewCount(eventId, rating, delta) > 0 || delta < 0) {
+                return;
+            }
+        }
+        // pierwsza recenzja z dana ocena - blokada eventu przed UPDATE: UPDATE bez trafienia bierze w MySQL
+        // gap lock na uk_event_rating_bucket i dwie transakcje z gap lockiem zakleszczylyby sie na INSERT
+        eventRepository.lockById(eventId);
+        if (eventRatingBucketRepository.adjustReviewCount(eventId, rating, delta) == 0) {
+            eventRatingBucketRepository.insertBucket(eventId, rating, delta);
+        }
+    }
 }
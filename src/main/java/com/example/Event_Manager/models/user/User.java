@@ -2,6 +2,7 @@ package com.example.Event_Manager.models.user;
 
 import com.example.Event_Manager.models.favorite.Favorite;
 import com.example.Event_Manager.models.interested.Interested;
+import com.example.Event_Manager.models.reservation.Reservation;
 import com.example.Event_Manager.models.review.Review;
 import com.example.Event_Manager.models.user.enums.Role;
 import com.example.Event_Manager.models.user.enums.Status;
@@ -62,6 +63,10 @@ public class User implements UserDetails {
     @Column(name = "status", nullable = false)
     private Status status;
 
+    // podbijane przy zmianie hasla/usunieciu, uniewaznia wszystkie wczesniej wydane tokeny
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @CreationTimestamp
     private Date createdAt;
@@ -85,6 +90,11 @@ public class User implements UserDetails {
     @EqualsAndHashCode.Exclude
     private Set<Interested> interestedUsers;
 
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<Reservation> reservations;
+
     public String getFullName() {
         return firstName + " " + lastName;
     }
@@ -1,6 +1,8 @@
 package com.example.Event_Manager.models.user.service;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.auth.service.TokenVersionRegistry;
+import com.example.Event_Manager.config.CacheConfig;
 import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.user.dto.request.ChangePasswordRequest;
 import com.example.Event_Manager.models.user.dto.request.UpdateUserDTO;
@@ -11,6 +13,7 @@ import com.example.Event_Manager.models.user.mapper.UserMapper;
 import com.example.Event_Manager.models.user.validation.UserValidation;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -22,6 +25,7 @@ public class UserService {
     private final UserMapper userMapper;
     private final UserValidation userValidation;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     public UserDTO getUserProfile(Long userId) {
         // sprawdzamy czy id ma sens
@@ -34,6 +38,7 @@ public class UserService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USER_PRINCIPALS, allEntries = true)
     public UserDTO updateUserProfile(Long userId, UpdateUserDTO updateDTO) {
         userValidation.checkIfIdValid(userId);
         userValidation.checkIfRequestNotNull(updateDTO);
@@ -50,15 +55,18 @@ public class UserService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USER_PRINCIPALS, allEntries = true)
     public void deleteUser(Long userId) {
         userValidation.checkIfIdValid(userId);
         if (!userRepository.existsById(userId)) {
             throw new UserNotFoundException("User not found");
         }
+        tokenVersionRegistry.revoke(userId);
         userRepository.deleteById(userId);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USER_PRINCIPALS, allEntries = true)
     public void changePassword(Long userId, ChangePasswordRequest request) {
         userValidation.checkIfIdValid(userId);
 
@@ -77,6 +85,8 @@ public class UserService {
         //Ustawiamy nowe hasło
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         userRepository.save(user);
+        //stare tokeny przestaja dzialac
+        tokenVersionRegistry.revoke(userId);
     }
 
     private User getUserByIdOrThrow(Long userId) {
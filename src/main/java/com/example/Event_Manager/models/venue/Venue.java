@@ -1,5 +1,6 @@
 package com.example.Event_Manager.models.venue;
 
+import com.example.Event_Manager.config.CacheConfig;
 import com.example.Event_Manager.models.city.City;
 import com.example.Event_Manager.models.event.Event;
 import jakarta.persistence.*;
@@ -7,11 +8,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.util.Date;
 import java.util.Set;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.VENUES)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -35,6 +42,14 @@ public class Venue {
     @Column(nullable = false, length = 500, name = "description", columnDefinition = "TEXT")
     private String description;
 
+    // domyslna pula miejsc eventow w tej sali, kopiowana do eventu przy tworzeniu; null = bez limitu
+    @Column(name = "capacity")
+    private Integer capacity;
+
+    @UpdateTimestamp
+    @Column(nullable = false, name = "updated_at")
+    private Date updatedAt;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "venue", cascade = CascadeType.ALL)
     private Set<Event> events;
 
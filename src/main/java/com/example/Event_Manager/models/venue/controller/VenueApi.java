@@ -12,6 +12,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -30,13 +31,27 @@ public interface VenueApi {
             Pageable pageable
     );
 
+    @Operation(summary = "Autocomplete venues",
+            description = "Returns venues whose name starts with or contains the query (case- and accent-insensitive), "
+                    + "prefix matches first. Served from an in-memory catalogue refreshed after admin changes.")
+    @ApiResponse(responseCode = "200", description = "Matching venues retrieved successfully")
+    ResponseEntity<List<VenueDTO>> autocomplete(
+            @Parameter(description = "Text typed by the user")
+            String q,
+            @Parameter(description = "Filter venues by city IDs (comma-separated, e.g., 1,2)")
+            List<Long> cities,
+            @Parameter(description = "Maximum number of results, capped by the server")
+            int limit
+    );
+
     @Operation(summary = "Get venue by ID",
             description = "Retrieves a venue by its ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Venue found"),
+            @ApiResponse(responseCode = "304", description = "Venue not modified since the ETag or date sent by the client"),
             @ApiResponse(responseCode = "404", description = "Venue not found")
     })
-    ResponseEntity<VenueDTO> getById(Long id);
+    ResponseEntity<VenueDTO> getById(Long id, WebRequest request);
 
     @Operation(summary = "Create a new venue",
             description = "Allows an authenticated user to create a new venue.")
@@ -1,6 +1,7 @@
 package com.example.Event_Manager.models.venue.controller;
 
 import com.example.Event_Manager.models._util.annotations.IsAdmin;
+import com.example.Event_Manager.models._util.conditional.ConditionalGet;
 import com.example.Event_Manager.models.venue.dto.request.CreateVenueDTO;
 import com.example.Event_Manager.models.venue.dto.request.UpdateVenueDTO;
 import com.example.Event_Manager.models.venue.dto.response.VenueDTO;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +24,7 @@ import java.util.List;
 public class VenueController implements VenueApi {
 
     private final VenueService venueService;
+    private final ConditionalGet conditionalGet;
 
     @Override
     @GetMapping
@@ -32,10 +35,19 @@ public class VenueController implements VenueApi {
         return ResponseEntity.ok(venueService.getAll(name, cities, pageable));
     }
 
+    @Override
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<VenueDTO>> autocomplete(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) List<Long> cities,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(venueService.autocomplete(q, cities, limit));
+    }
+
     @Override
     @GetMapping("/{id}")
-    public ResponseEntity<VenueDTO> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(venueService.getById(id));
+    public ResponseEntity<VenueDTO> getById(@PathVariable Long id, WebRequest request) {
+        return conditionalGet.respond(request, venueService.getVersion(id), () -> venueService.getById(id));
     }
 
     @Override
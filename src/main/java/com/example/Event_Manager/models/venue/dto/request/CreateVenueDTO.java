@@ -17,6 +17,9 @@ public record CreateVenueDTO(
 
         @NotNull(message = "City ID is required.")
         @Positive(message = "City ID must be a positive number.")
-        Long cityId
+        Long cityId,
+
+        @Positive(message = "Capacity must be a positive number.")
+        Integer capacity
 ) {}
 
@@ -20,6 +20,9 @@ public record UpdateVenueDTO(
 
         @NotNull(message = "City ID is required.")
         @Positive(message = "City ID must be a positive number.")
-        Long cityId
+        Long cityId,
+
+        @Positive(message = "Capacity must be a positive number.")
+        Integer capacity
 ) {}
 
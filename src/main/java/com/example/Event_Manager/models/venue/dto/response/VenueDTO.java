@@ -7,6 +7,7 @@ public record VenueDTO(
         String name,
         String address,
         String description,
+        Integer capacity,
         CityDTO city
 ) {
 }
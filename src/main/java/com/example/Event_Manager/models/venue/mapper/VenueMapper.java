@@ -8,8 +8,6 @@ import com.example.Event_Manager.models.venue.dto.response.VenueDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
-import org.mapstruct.NullValuePropertyMappingStrategy;
-import org.mapstruct.BeanMapping;
 
 @Mapper(componentModel = "spring")
 public interface VenueMapper {
@@ -18,13 +16,15 @@ public interface VenueMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "events", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "city", source = "city")
     @Mapping(target = "name", source = "createVenueDTO.name")
     Venue toEntity(CreateVenueDTO createVenueDTO, City city);
 
-    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    // PUT nadpisuje wszystkie pola, brak capacity zdejmuje limit sali
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "events", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "city", source = "city")
     @Mapping(target = "name", source = "updateVenueDTO.name")
     void updateEntity(@MappingTarget Venue venue, UpdateVenueDTO updateVenueDTO, City city);
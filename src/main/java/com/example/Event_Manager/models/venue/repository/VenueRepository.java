@@ -4,14 +4,29 @@ import com.example.Event_Manager.models.venue.Venue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VenueRepository extends JpaRepository<Venue, Long> {
     Page<Venue> findByNameContainingIgnoreCase(String name, Pageable pageable);
     Page<Venue> findByCity_IdIn(List<Long> cityIds, Pageable pageable);
     Page<Venue> findByNameContainingIgnoreCaseAndCity_IdIn(String name, List<Long> cityIds, Pageable pageable);
+
+    @Query("SELECT v FROM Venue v LEFT JOIN FETCH v.city")
+    List<Venue> findAllWithCity();
+
+    @Query("""
+            SELECT v.updatedAt AS venueUpdatedAt, ci.updatedAt AS cityUpdatedAt, co.updatedAt AS countryUpdatedAt
+            FROM Venue v
+            LEFT JOIN v.city ci
+            LEFT JOIN ci.country co
+            WHERE v.id = :id
+            """)
+    Optional<VenueVersionView> findVersionById(@Param("id") Long id);
 }
 
@@ -0,0 +1,11 @@
+package com.example.Event_Manager.models.venue.repository;
+
+import java.util.Date;
+
+public interface VenueVersionView {
+    Date getVenueUpdatedAt();
+
+    Date getCityUpdatedAt();
+
+    Date getCountryUpdatedAt();
+}
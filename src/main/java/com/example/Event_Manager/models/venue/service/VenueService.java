@@ -1,8 +1,12 @@
 package com.example.Event_Manager.models.venue.service;
 
+import com.example.Event_Manager.config.CacheConfig;
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
 import com.example.Event_Manager.models.city.City;
 import com.example.Event_Manager.models.city.exceptions.CityNotFoundException;
 import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import com.example.Event_Manager.models.venue.Venue;
 import com.example.Event_Manager.models.venue.dto.request.CreateVenueDTO;
 import com.example.Event_Manager.models.venue.dto.request.UpdateVenueDTO;
@@ -11,6 +15,7 @@ import com.example.Event_Manager.models.venue.exceptions.VenueNotFoundException;
 import com.example.Event_Manager.models.venue.mapper.VenueMapper;
 import com.example.Event_Manager.models.venue.repository.VenueRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,6 +29,8 @@ public class VenueService {
     private final VenueRepository venueRepository;
     private final CityRepository cityRepository;
     private final VenueMapper venueMapper;
+    private final GeoCatalogue geoCatalogue;
+    private final EventSearchIndex eventSearchIndex;
 
     public Page<VenueDTO> getAll(String name, List<Long> cities, Pageable pageable) {
         boolean hasName = name != null && !name.isBlank();
@@ -43,21 +50,34 @@ public class VenueService {
         return venues.map(venueMapper::toDTO);
     }
 
+    public List<VenueDTO> autocomplete(String query, List<Long> cities, int limit) {
+        return geoCatalogue.findVenues(query, cities, limit);
+    }
+
     public VenueDTO getById(Long id) {
         Venue venue = venueRepository.findById(id)
                 .orElseThrow(() -> new VenueNotFoundException(id));
         return venueMapper.toDTO(venue);
     }
 
+    public ResourceVersion getVersion(Long id) {
+        return venueRepository.findVersionById(id)
+                .map(version -> ResourceVersion.of(version.getVenueUpdatedAt(), version.getCityUpdatedAt(),
+                        version.getCountryUpdatedAt()))
+                .orElseThrow(() -> new VenueNotFoundException(id));
+    }
+
     public VenueDTO create(CreateVenueDTO createVenueDTO) {
         City city = cityRepository.findById(createVenueDTO.cityId())
                 .orElseThrow(() -> new CityNotFoundException(createVenueDTO.cityId()));
 
         Venue venue = venueMapper.toEntity(createVenueDTO, city);
         Venue savedVenue = venueRepository.save(venue);
+        geoCatalogue.refresh();
         return venueMapper.toDTO(savedVenue);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)
     public VenueDTO update(Long id, UpdateVenueDTO updateVenueDTO) {
         Venue venue = venueRepository.findById(id)
                 .orElseThrow(() -> new VenueNotFoundException(id));
@@ -67,13 +87,17 @@ public class VenueService {
 
         venueMapper.updateEntity(venue, updateVenueDTO, city);
         Venue updatedVenue = venueRepository.save(venue);
+        geoCatalogue.refresh();
+        eventSearchIndex.reindexVenue(id);
         return venueMapper.toDTO(updatedVenue);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)
     public void delete(Long id) {
         Venue venue = venueRepository.findById(id)
                 .orElseThrow(() -> new VenueNotFoundException(id));
         venueRepository.delete(venue);
+        geoCatalogue.refresh();
     }
 }
 
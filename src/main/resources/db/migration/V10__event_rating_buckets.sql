@@ -0,0 +1,15 @@
+-- Kubelki ocen per event pod podsumowanie recenzji: max jeden wiersz na ocene zamiast agregacji po reviews.
+-- Wypelnienie z istniejacych recenzji; dalej ReviewService prowadzi liczniki przy kazdej zmianie.
+
+create table event_rating_buckets (
+    id bigint not null auto_increment,
+    event_id bigint not null,
+    rating integer not null,
+    review_count bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table event_rating_buckets add constraint uk_event_rating_bucket unique (event_id, rating);
+
+insert into event_rating_buckets (event_id, rating, review_count)
+select event_id, rating, count(*) from reviews where event_id is not null group by event_id, rating;
@@ -0,0 +1,104 @@
+-- Schemat w stanie, w jakim tworzyl go dotad ddl-auto=update (MySQL 8).
+-- Istniejace bazy dostaja baseline na tej wersji (spring.flyway.baseline-on-migrate), nowe tworza go od zera.
+
+create table countries (
+    code varchar(255) not null,
+    name varchar(255) not null,
+    primary key (code)
+) engine=InnoDB;
+
+create table cities (
+    id bigint not null auto_increment,
+    country_code varchar(255) not null,
+    name varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table venues (
+    id bigint not null auto_increment,
+    city_id bigint,
+    name varchar(255) not null,
+    address varchar(255) not null,
+    description TEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table categories (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    description TEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    email varchar(255) not null,
+    phone_number varchar(255) not null,
+    password varchar(255) not null,
+    user_type enum ('ADMIN','ATTENDEE','ORGANIZER') not null,
+    status enum ('ACTIVE','INACTIVE','SUSPENDED') not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table events (
+    id bigint not null auto_increment,
+    organizer_id bigint,
+    venue_id bigint not null,
+    category_id bigint not null,
+    name varchar(255) not null,
+    description TEXT not null,
+    start_time datetime(6) not null,
+    end_time datetime(6) not null,
+    status enum ('CANCELLED','COMPLETED','DRAFT','ONGOING','PUBLISHED') not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table reviews (
+    id bigint not null auto_increment,
+    user_id bigint,
+    event_id bigint,
+    rating integer not null,
+    comment TEXT,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table interested (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    event_id bigint not null,
+    marked_at datetime(6) not null,
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table favorites (
+    id bigint not null auto_increment,
+    user_id bigint,
+    organizer_id bigint,
+    favorited_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+alter table categories add constraint UKt8o6pivur7nn124jehx7cygw5 unique (name);
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table users add constraint UK9q63snka3mdh91as4io72espi unique (phone_number);
+
+alter table cities add constraint FKkn4qtp6nk6w1elw18hc9bwfqk foreign key (country_code) references countries (code);
+alter table venues add constraint FKm3mi79lpgax9ln1v2kbrc9fsb foreign key (city_id) references cities (id);
+alter table events add constraint FKo6mla8j1p5bokt4dxrlmgwc28 foreign key (category_id) references categories (id);
+alter table events add constraint FKdocju8m76a3f8o6ljh2jrn2ra foreign key (organizer_id) references users (id);
+alter table events add constraint FKqdxygdernwwt74hdvix9u5nr3 foreign key (venue_id) references venues (id);
+alter table reviews add constraint FKem6jjo18jyueiqhferf3dwfbx foreign key (event_id) references events (id);
+alter table reviews add constraint FKcgy7qjc1r99dp117y9en6lxye foreign key (user_id) references users (id);
+alter table interested add constraint FKnt316x4hpotyf0239mw5i9jok foreign key (event_id) references events (id);
+alter table interested add constraint FKsndsnf6ptsixregrkm05ngtl1 foreign key (user_id) references users (id);
+alter table favorites add constraint FKsqrgmeabf6ill683uq7pctopy foreign key (organizer_id) references users (id);
+alter table favorites add constraint FKk7du8b8ewipawnnpg76d55fus foreign key (user_id) references users (id);
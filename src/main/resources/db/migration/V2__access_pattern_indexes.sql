@@ -0,0 +1,19 @@
+-- Indeksy pod zapytania repozytoriow: kolumna filtra + id, bo listy sortuja domyslnie po id
+-- (strona z OFFSET i keyset scroll), wiec ORDER BY id LIMIT n czyta indeks bez filesort.
+
+create index idx_events_category_id on events (category_id, id);
+create index idx_events_venue_id on events (venue_id, id);
+create index idx_events_organizer_id on events (organizer_id, id);
+create index idx_events_start_time on events (start_time, id);
+
+create index idx_reviews_event_id on reviews (event_id, id);
+
+-- toggle bez ograniczenia mogl przy wyscigu zapisac ta sama pare dwa razy; zostaje najstarszy wiersz
+delete from interested
+where id not in (select id from (select min(id) as id from interested group by user_id, event_id) keep_rows);
+
+delete from favorites
+where id not in (select id from (select min(id) as id from favorites group by user_id, organizer_id) keep_rows);
+
+alter table interested add constraint uk_interested_user_event unique (user_id, event_id);
+alter table favorites add constraint uk_favorites_user_organizer unique (user_id, organizer_id);
@@ -0,0 +1,7 @@
+-- Zdenormalizowana liczba zainteresowanych per event. Aplikacja dopisuje przyrosty paczkami
+-- (InterestCounterBuffer), wiec odczyt licznika nie robi COUNT(*) po interested.
+
+alter table events add column interested_count bigint default 0 not null;
+
+update events e
+set interested_count = (select count(*) from interested i where i.event_id = e.id);
@@ -0,0 +1,12 @@
+-- Identyfikatory recenzji z tabeli generatora (pula 50 na jedno zapytanie), zeby Hibernate
+-- mogl wysylac inserty recenzji batchami JDBC. Przy IDENTITY kazdy insert idzie osobno.
+-- Optymalizator pooled traktuje next_val jako gorna granice puli, stad max(id) + 50.
+
+create table id_generators (
+    sequence_name varchar(255) not null,
+    next_val bigint,
+    primary key (sequence_name)
+) engine=InnoDB;
+
+insert into id_generators (sequence_name, next_val)
+select 'reviews', coalesce(max(id), 0) + 50 from reviews;
@@ -0,0 +1,5 @@
+-- Identyfikatory eventow z tabeli generatora (jak recenzje w V4), zeby import eventow
+-- (POST /api/events/import) wysylal inserty batchami JDBC.
+
+insert into id_generators (sequence_name, next_val)
+select 'events', coalesce(max(id), 0) + 50 from events;
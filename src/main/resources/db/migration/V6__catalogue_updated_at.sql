@@ -0,0 +1,7 @@
+-- Znacznik ostatniej zmiany slownikow osadzanych w odpowiedziach eventow. Z niego (i z events.updated_at)
+-- liczone sa ETag/Last-Modified, wiec zmiana sali czy miasta uniewaznia tez walidator eventu.
+
+alter table categories add column updated_at datetime(6) default current_timestamp(6) not null;
+alter table countries add column updated_at datetime(6) default current_timestamp(6) not null;
+alter table cities add column updated_at datetime(6) default current_timestamp(6) not null;
+alter table venues add column updated_at datetime(6) default current_timestamp(6) not null;
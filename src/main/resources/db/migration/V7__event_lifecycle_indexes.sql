@@ -0,0 +1,6 @@
+-- Cykl zycia eventow (EventLifecycle): przejscia PUBLISHED -> ONGOING po start_time i -> COMPLETED po end_time
+-- czytaja i aktualizuja zakres indeksu zamiast calej tabeli; listy "nadchodzace"/"trwajace" filtruja po statusie
+-- i sortuja po start_time.
+
+create index idx_events_status_start_time on events (status, start_time, id);
+create index idx_events_status_end_time on events (status, end_time);
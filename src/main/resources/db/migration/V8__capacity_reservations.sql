@@ -0,0 +1,20 @@
+-- Pula miejsc: domyslna na sali, kopiowana do eventu przy tworzeniu (null = bez limitu). events.reserved_count
+-- prowadzi ReservationService jednym warunkowym UPDATE ... WHERE reserved_count + n <= capacity, bez SELECT ... FOR UPDATE.
+
+alter table venues add column capacity integer;
+alter table events add column capacity integer;
+alter table events add column reserved_count integer default 0 not null;
+
+create table reservations (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    event_id bigint not null,
+    seats integer not null,
+    created_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table reservations add constraint uk_reservations_user_event unique (user_id, event_id);
+create index idx_reservations_event_id on reservations (event_id, id);
+alter table reservations add constraint fk_reservations_event foreign key (event_id) references events (id);
+alter table reservations add constraint fk_reservations_user foreign key (user_id) references users (id);
@@ -0,0 +1,4 @@
+-- Wersja tokenow uzytkownika (JwtUtil/TokenVersionRegistry): podbicie uniewaznia wszystkie wczesniej wydane JWT.
+-- Istniejace konta zaczynaja od 0, czyli ich dotychczasowe tokeny dalej sa wazne.
+
+alter table users add column token_version integer default 0 not null;
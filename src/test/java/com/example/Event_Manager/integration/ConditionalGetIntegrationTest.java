@@ -0,0 +1,165 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.dto.request.UpdateVenueDTO;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import com.example.Event_Manager.models.venue.service.VenueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static com.example.Event_Manager.models.event.enums.Status.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// osobna baza, zeby create-drop tego kontekstu nie kasowal schematu kontekstom z cache
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integration.properties",
+        properties = "spring.datasource.url=jdbc:h2:mem:conditional-get;DB_CLOSE_DELAY=-1"
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Transactional
+public class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private VenueService venueService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventRatingBucketRepository eventRatingBucketRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private CityRepository cityRepository;
+    @Autowired
+    private CountryRepository countryRepository;
+
+    private Long eventId;
+    private Long categoryId;
+    private Venue venue;
+
+    @BeforeEach
+    void setUp() {
+        Country country = countryRepository.save(Country.builder().code("PL").name("Polska").build());
+        City city = cityRepository.save(City.builder().name("Gdansk").country(country).build());
+        venue = venueRepository.save(Venue.builder().name("Sala").address("Ulica 1").description("Opis").city(city).build());
+        Category category = categoryRepository.save(Category.builder().name("Muzyka").description("Koncerty").build());
+        categoryId = category.getId();
+        eventId = eventRepository.save(Event.builder()
+                .name("Koncert")
+                .description("Opis")
+                .startTime(Timestamp.valueOf(LocalDateTime.now().plusDays(3)))
+                .endTime(Timestamp.valueOf(LocalDateTime.now().plusDays(3).plusHours(2)))
+                .status(PUBLISHED)
+                .category(category)
+                .venue(venue)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("Should answer If-None-Match with 304 and no body while event is unchanged")
+    void shouldReturnNotModifiedForUnchangedEvent() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, public"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        mockMvc.perform(get("/api/events/{id}", eventId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should invalidate event ETag when its venue changes")
+    void shouldChangeEventEtagWhenVenueChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/events/{id}", eventId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Thread.sleep(10);
+        venueService.update(venue.getId(), new UpdateVenueDTO("Nowa sala", "Ulica 2", "Opis", venue.getCity().getId(), null));
+
+        MvcResult result = mockMvc.perform(get("/api/events/{id}", eventId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(result.getResponse().getContentAsString()).contains("Nowa sala");
+    }
+
+    @Test
+    @DisplayName("Should answer If-Modified-Since on lookups")
+    void shouldReturnNotModifiedForLookupsSinceLastModified() throws Exception {
+        for (String path : new String[]{"/api/categories/" + categoryId, "/api/venues/" + venue.getId(),
+                "/api/cities/" + venue.getCity().getId(), "/api/countries/PL"}) {
+            String lastModified = mockMvc.perform(get(path))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+            mockMvc.perform(get(path).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                    .andExpect(status().isNotModified());
+        }
+    }
+
+    @Test
+    @DisplayName("Should change review summary ETag when a rating count changes")
+    void shouldChangeSummaryEtagWhenReviewsChange() throws Exception {
+        eventRatingBucketRepository.insertBucket(eventId, 8, 1);
+        String etag = mockMvc.perform(get("/api/reviews/event/{eventId}/summary", eventId))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/reviews/event/{eventId}/summary", eventId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        eventRatingBucketRepository.adjustReviewCount(eventId, 8, 1);
+
+        mockMvc.perform(get("/api/reviews/event/{eventId}/summary", eventId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    @DisplayName("Should return 404 without validators for unknown event")
+    void shouldReturnNotFoundForUnknownEvent() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", 999_999L).header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.review.repository.ReviewRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-integration.properties")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class DataSourceMetricsIntegrationTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldTimeRepositoryMethodsPerRepositoryAndMethod() {
+        eventRepository.findByStartTimeBetween(
+                Timestamp.valueOf(LocalDateTime.now()),
+                Timestamp.valueOf(LocalDateTime.now().plusDays(7)),
+                PageRequest.of(0, 10)
+        );
+        reviewRepository.findByEventId(1L, PageRequest.of(0, 10));
+
+        Timer eventTimer = meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "EventRepository")
+                .tag("method", "findByStartTimeBetween")
+                .timer();
+        Timer reviewTimer = meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "ReviewRepository")
+                .tag("method", "findByEventId")
+                .timer();
+
+        assertThat(eventTimer).isNotNull();
+        assertThat(eventTimer.count()).isPositive();
+        assertThat(reviewTimer).isNotNull();
+        assertThat(reviewTimer.count()).isPositive();
+    }
+
+    @Test
+    void shouldExposePoolAcquireAndUsageTimers() {
+        eventRepository.count();
+
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", "event-manager").timer();
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", "event-manager").timer();
+
+        assertThat(acquire).isNotNull();
+        assertThat(acquire.count()).isPositive();
+        assertThat(usage).isNotNull();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.config.CacheConfig;
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.dto.response.EventDTO;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.service.EventService;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.dto.request.UpdateVenueDTO;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import com.example.Event_Manager.models.venue.service.VenueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-integration.properties")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class EventCacheIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private EventRepository eventRepository;
+
+    @MockitoBean
+    private VenueRepository venueRepository;
+
+    @MockitoBean
+    private CityRepository cityRepository;
+
+    private Event event;
+    private Venue venue;
+    private City city;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        Country country = Country.builder().code("PL").name("Polska").build();
+        city = City.builder().id(1L).name("Warszawa").country(country).build();
+        venue = Venue.builder().id(1L).name("Sala").address("Ulica 1").description("Opis").city(city).build();
+        Category category = Category.builder().id(1L).name("Muzyka").description("Koncerty").build();
+        event = Event.builder()
+                .id(1L)
+                .name("Koncert")
+                .description("Opis")
+                .startTime(Timestamp.valueOf(LocalDateTime.now().plusDays(3)))
+                .status(Status.PUBLISHED)
+                .category(category)
+                .venue(venue)
+                .build();
+        when(eventRepository.findEventById(1L)).thenReturn(Optional.of(event));
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        EventDTO first = eventService.getEventById(1L);
+        EventDTO second = eventService.getEventById(1L);
+
+        assertThat(second).isEqualTo(first);
+        verify(eventRepository, times(1)).findEventById(1L);
+        assertThat(cacheManager.getCache(CacheConfig.EVENTS).get(1L)).isNotNull();
+    }
+
+    @Test
+    void shouldCacheSummarySeparately() {
+        eventService.getEventSummary(1L);
+        eventService.getEventSummary(1L);
+        eventService.getEventById(1L);
+
+        verify(eventRepository, times(2)).findEventById(1L);
+    }
+
+    @Test
+    void shouldEvictEventOnDelete() {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        eventService.getEventById(1L);
+        eventService.getEventSummary(1L);
+
+        eventService.deleteEvent(1L);
+
+        assertThat(cacheManager.getCache(CacheConfig.EVENTS).get(1L)).isNull();
+        assertThat(cacheManager.getCache(CacheConfig.EVENT_SUMMARIES).get(1L)).isNull();
+        eventService.getEventById(1L);
+        verify(eventRepository, times(3)).findEventById(1L);
+    }
+
+    @Test
+    void shouldEvictEventsWhenVenueIsUpdated() {
+        when(venueRepository.findById(1L)).thenReturn(Optional.of(venue));
+        when(cityRepository.findById(1L)).thenReturn(Optional.of(city));
+        when(venueRepository.save(any(Venue.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        eventService.getEventById(1L);
+
+        venueService.update(1L, new UpdateVenueDTO("Nowa sala", "Ulica 2", "Opis", 1L, null));
+
+        assertThat(cacheManager.getCache(CacheConfig.EVENTS).get(1L)).isNull();
+    }
+}
@@ -28,6 +28,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 
@@ -368,4 +369,223 @@ public class EventIntegrationTest {
                         .param("size", "10"))
                 .andExpect(MockMvcResultMatchers.status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldScrollAllEventsWithCursor() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            CreateEventDTO createEventDTO = getSampleEventDTO("Scroll Event " + i);
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/events")
+                            .header("Authorization", "Bearer " + organizerToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createEventDTO)))
+                    .andExpect(MockMvcResultMatchers.status().isCreated());
+        }
+
+        String firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/events/scroll/search")
+                        .param("name", "Scroll Event")
+                        .param("size", "2")
+                        .param("sort", "name,desc"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Scroll Event 5"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].name").value("Scroll Event 4"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        // kolejna strona bierze sortowanie z kursora
+        String secondPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/events/scroll/search")
+                        .param("name", "Scroll Event")
+                        .param("size", "2")
+                        .param("cursor", cursor))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Scroll Event 3"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].name").value("Scroll Event 2"))
+                .andReturn().getResponse().getContentAsString();
+        cursor = objectMapper.readTree(secondPage).get("nextCursor").asText();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/events/scroll/search")
+                        .param("name", "Scroll Event")
+                        .param("size", "2")
+                        .param("cursor", cursor))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Scroll Event 1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(false))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldScrollEventsByStartTime() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            LocalDateTime startTime = LocalDateTime.now().plusDays(10 + i);
+            CreateEventDTO createEventDTO = new CreateEventDTO(
+                    "Timed Event " + i,
+                    "Opis testowy",
+                    startTime,
+                    startTime.plusHours(2),
+                    venueId,
+                    categoryId
+            );
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/events")
+                            .header("Authorization", "Bearer " + organizerToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createEventDTO)))
+                    .andExpect(MockMvcResultMatchers.status().isCreated());
+        }
+
+        String firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/events/scroll/category/" + categoryId)
+                        .param("size", "2")
+                        .param("sort", "startTime,asc"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Timed Event 1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].name").value("Timed Event 2"))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/events/scroll/category/" + categoryId)
+                        .param("size", "2")
+                        .param("cursor", cursor))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Timed Event 3"));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/events/scroll")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/events/scroll")
+                        .param("sort", "description,asc"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    void shouldGetCompactEventListByCategory() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            CreateEventDTO createEventDTO = getSampleEventDTO("Compact Event " + i);
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/events")
+                            .header("Authorization", "Bearer " + organizerToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createEventDTO)))
+                    .andExpect(MockMvcResultMatchers.status().isCreated());
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/events/compact/category/" + categoryId)
+                        .param("page", "0")
+                        .param("size", "2")
+                        .param("sort", "name,desc"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Compact Event 3"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].categoryId").value(categoryId))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].categoryName").value("Test Category"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].venueId").value(venueId))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].venueName").value("Test Venue"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].eventStatus").value("PUBLISHED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].description").doesNotExist());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/events/compact/search")
+                        .param("name", "compact event"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(3));
+    }
+
+    @Test
+    void shouldSearchEventsByPrefixAcrossFieldsWithFilters() throws Exception {
+        CreateEventDTO jazz = new CreateEventDTO(
+                "Wieczór jazzowy",
+                "Koncert w klubie",
+                LocalDateTime.now().plusDays(5),
+                LocalDateTime.now().plusDays(5).plusHours(2),
+                venueId,
+                categoryId
+        );
+        CreateEventDTO rock = getSampleEventDTO("Festiwal rockowy");
+        for (CreateEventDTO dto : new CreateEventDTO[]{jazz, rock}) {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/events")
+                            .header("Authorization", "Bearer " + organizerToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(MockMvcResultMatchers.status().isCreated());
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/events/search")
+                        .param("name", "wieczor jazz"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Wieczór jazzowy"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/events/search")
+                        .param("name", "test venue")
+                        .param("categoryId", String.valueOf(categoryId))
+                        .param("start", LocalDateTime.now().plusDays(4).toString())
+                        .param("end", LocalDateTime.now().plusDays(6).toString()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Wieczór jazzowy"));
+    }
+
+    @Test
+    void shouldImportEventsFromJsonAndReportEachRow() throws Exception {
+        List<CreateEventDTO> rows = List.of(
+                getSampleEventDTO("Import Event 1"),
+                new CreateEventDTO(null, "Bez nazwy", LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(3), venueId, categoryId),
+                new CreateEventDTO("Import Event 3", "Opis", LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(3), venueId, 999_999L),
+                getSampleEventDTO("Import Event 4")
+        );
+
+        String response = mockMvc.perform(MockMvcRequestBuilders.post("/api/events/import")
+                        .header("Authorization", "Bearer " + organizerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rows)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total").value(4))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rows[1].errors[0]").value("name: Event name is required"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rows[2].errors[0]").value("Category not found"))
+                .andReturn().getResponse().getContentAsString();
+
+        long eventId = objectMapper.readTree(response).get("rows").get(3).get("eventId").asLong();
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/events/" + eventId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("Import Event 4"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.eventStatus").value("PUBLISHED"));
+    }
+
+    @Test
+    void shouldImportEventsFromCsv() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(5).withNano(0);
+        String csv = "name,description,startDate,endDate,venueId,categoryId\n"
+                + "\"Csv Event, duzy\",Opis," + start + "," + start.plusHours(2) + "," + venueId + "," + categoryId + "\n"
+                + "Csv Event 2,Opis,wczoraj," + start.plusHours(2) + "," + venueId + "," + categoryId + "\n";
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/events/import")
+                        .header("Authorization", "Bearer " + organizerToken)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rows[0].eventId").isNumber())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rows[1].errors[0]").value("Invalid value in column startDate: wczoraj"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/events/search")
+                        .param("name", "duzy"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Csv Event, duzy"));
+    }
+
+    @Test
+    void shouldRejectImportWithoutRequiredCsvColumns() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/events/import")
+                        .header("Authorization", "Bearer " + organizerToken)
+                        .contentType("text/csv")
+                        .content("name,venueId\nKoncert,1\n"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+}
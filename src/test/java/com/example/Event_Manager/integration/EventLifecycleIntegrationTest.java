@@ -0,0 +1,158 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.lifecycle.EventLifecycle;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.service.EventService;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// bez @Transactional: przejscia ida wlasna transakcja po commicie danych testu;
+// osobna baza, zeby create-drop tego kontekstu nie kasowal schematu kontekstom z cache
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integration.properties",
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:event-lifecycle;DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.generate_statistics=true"
+        }
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class EventLifecycleIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EventLifecycle eventLifecycle;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private CityRepository cityRepository;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long endedId;
+    private Long runningId;
+    private Long upcomingId;
+    private Long cancelledId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Country poland = countryRepository.save(Country.builder().code("PL").name("Polska").build());
+            City city = cityRepository.save(City.builder().name("Warszawa").country(poland).build());
+            Venue venue = venueRepository.save(Venue.builder().name("Sala").address("Ulica 1").description("Opis").city(city).build());
+            Category category = categoryRepository.save(Category.builder().name("Muzyka").description("Koncerty").build());
+
+            Event ended = eventRepository.save(event("Wczoraj", now.minusHours(3), now.minusHours(1), Status.PUBLISHED, venue, category));
+            Event running = eventRepository.save(event("Teraz", now.minusHours(1), now.plusHours(1), Status.PUBLISHED, venue, category));
+            Event upcoming = eventRepository.save(event("Jutro", now.plusMinutes(30), now.plusHours(2), Status.PUBLISHED, venue, category));
+            Event cancelled = eventRepository.save(event("Odwolany", now.minusHours(1), now.plusHours(1), Status.CANCELLED, venue, category));
+            eventLifecycle.schedule(List.of(ended, running, upcoming, cancelled));
+            endedId = ended.getId();
+            runningId = running.getId();
+            upcomingId = upcoming.getId();
+            cancelledId = cancelled.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAllInBatch();
+        venueRepository.deleteAllInBatch();
+        cityRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should advance due events in bulk and evict their cached DTOs")
+    void shouldAdvanceDueEvents() throws Exception {
+        // EventDTO w cache jeszcze ze statusem PUBLISHED
+        assertThat(eventService.getEventById(runningId).eventStatus()).isEqualTo(Status.PUBLISHED);
+
+        eventLifecycle.tick();
+
+        assertThat(eventRepository.findById(endedId).orElseThrow().getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(eventRepository.findById(upcomingId).orElseThrow().getStatus()).isEqualTo(Status.PUBLISHED);
+        assertThat(eventRepository.findById(cancelledId).orElseThrow().getStatus()).isEqualTo(Status.CANCELLED);
+        assertThat(eventRepository.findById(runningId).orElseThrow().getUpdatedAt()).isNotNull();
+        assertThat(eventService.getEventById(runningId).eventStatus()).isEqualTo(Status.ONGOING);
+
+        mockMvc.perform(get("/api/events/compact/ongoing"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Teraz")));
+        mockMvc.perform(get("/api/events/compact/upcoming"))
+                .andExpect(jsonPath("$.content[*].name", contains("Jutro")));
+    }
+
+    @Test
+    @DisplayName("Should not query the database while no transition is due")
+    void shouldStayIdleUntilNextTransition() {
+        eventLifecycle.tick();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        eventLifecycle.tick();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private Event event(String name, LocalDateTime start, LocalDateTime end, Status status, Venue venue, Category category) {
+        return Event.builder()
+                .name(name)
+                .description("Opis")
+                .startTime(Timestamp.valueOf(start))
+                .endTime(Timestamp.valueOf(end))
+                .status(status)
+                .venue(venue)
+                .category(category)
+                .build();
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
+import com.example.Event_Manager.models.event.dto.response.EventDTO;
+import com.example.Event_Manager.models.event.dto.response.EventImportReportDTO;
+import com.example.Event_Manager.models.event.dto.response.EventListItemDTO;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
+import com.example.Event_Manager.models.event.service.EventImportService;
+import com.example.Event_Manager.models.event.service.EventService;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.enums.Role;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integration.properties",
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Transactional
+public class EventQueryCountIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private CityRepository cityRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private EventImportService eventImportService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        // kazdy event ma inny organizer/venue/city/country, zeby N+1 bylo widoczne w liczbie zapytan
+        for (int i = 0; i < 12; i++) {
+            Country country = countryRepository.save(Country.builder().code("C" + i).name("Country " + i).build());
+            City city = cityRepository.save(City.builder().name("City " + i).country(country).build());
+            Venue venue = venueRepository.save(Venue.builder()
+                    .name("Venue " + i)
+                    .address("Street " + i)
+                    .description("Venue description")
+                    .city(city)
+                    .build());
+            Category category = categoryRepository.save(Category.builder()
+                    .name("Category " + i)
+                    .description("Category description")
+                    .build());
+            User organizer = userRepository.save(User.builder()
+                    .firstName("Organizer")
+                    .lastName("No" + i)
+                    .email("organizer" + i + "@test.com")
+                    .password("password")
+                    .phoneNumber("12345678" + i)
+                    .role(Role.ORGANIZER)
+                    .status(com.example.Event_Manager.models.user.enums.Status.ACTIVE)
+                    .build());
+            eventRepository.save(Event.builder()
+                    .name("Event " + i)
+                    .description("Event description")
+                    .startTime(Timestamp.valueOf(LocalDateTime.now().plusDays(i + 1)))
+                    .endTime(Timestamp.valueOf(LocalDateTime.now().plusDays(i + 1).plusHours(2)))
+                    .status(Status.PUBLISHED)
+                    .organizer(organizer)
+                    .venue(venue)
+                    .category(i % 2 == 0 ? categoryRepository.findAll().get(0) : category)
+                    .build());
+            if (i == 0) {
+                categoryId = category.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        eventSearchIndex.rebuild();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllEvents_LoadsPageWithSelectAndCount() {
+        Page<EventDTO> page = eventService.getAllEvents(PageRequest.of(0, 10, Sort.by("id")));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getContent()).allSatisfy(event -> {
+            assertThat(event.venue().city().country()).isNotNull();
+            assertThat(event.category()).isNotNull();
+            assertThat(event.organizerId()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getEventsByCategory_LoadsPageWithoutPerRowSelects() {
+        Page<EventDTO> page = eventService.getEventsByCategory(categoryId, PageRequest.of(0, 3, Sort.by("id")));
+
+        assertThat(page.getContent()).hasSize(3);
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        // category lookup + strona + count
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void searchEventsByName_LoadsPageWithSingleSelect() {
+        Page<EventDTO> page = eventService.searchEventsByName("Event", PageRequest.of(1, 5, Sort.by("id")));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        // ranking i count z indeksu, z bazy tylko strona po id
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void scrollAllEvents_LoadsSliceWithSingleSelect() {
+        eventService.scrollAllEvents(null, 10, Sort.by("id"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getEventById_LoadsGraphWithSingleSelect() {
+        Long eventId = eventRepository.findAll(PageRequest.of(0, 1)).getContent().get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        EventDTO event = eventService.getEventById(eventId);
+
+        assertThat(event.venue().city().country().name()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getEventListItems_SelectsFlatRowsWithoutManagedEntities() {
+        Page<EventListItemDTO> page = eventService.getEventListItems(PageRequest.of(0, 10, Sort.by("startTime")));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getContent()).allSatisfy(item -> {
+            assertThat(item.cityName()).isNotNull();
+            assertThat(item.categoryName()).isNotNull();
+            assertThat(item.organizerId()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void importJson_BatchesLookupsAndInserts() throws Exception {
+        Long venueId = venueRepository.findAll().get(0).getId();
+        int rows = 1200;
+        List<CreateEventDTO> events = IntStream.range(0, rows)
+                .mapToObj(i -> new CreateEventDTO("Imported " + i, "Opis", LocalDateTime.now().plusDays(1),
+                        LocalDateTime.now().plusDays(2), venueId, categoryId))
+                .toList();
+        byte[] body = objectMapper.writeValueAsBytes(events);
+        statistics.clear();
+
+        EventImportReportDTO report = eventImportService.importJson(new ByteArrayInputStream(body));
+
+        assertThat(report.imported()).isEqualTo(rows);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+        // po jednym zapytaniu o kategorie i sale na paczke, inserty batchami - nie kilka zapytan na wiersz
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(rows / 10);
+    }
+}
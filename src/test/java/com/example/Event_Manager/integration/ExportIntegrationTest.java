@@ -0,0 +1,254 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.auth.util.JwtUtil;
+import com.example.Event_Manager.models._util.export.ExportLimiter;
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.review.Review;
+import com.example.Event_Manager.models.review.repository.ReviewRepository;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.enums.Role;
+import com.example.Event_Manager.models.user.enums.Status;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.Event_Manager.models.event.enums.Status.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// bez @Transactional: eksport pisze odpowiedz w osobnym watku, wiec dane musza byc zacommitowane;
+// osobna baza, zeby create-drop tego kontekstu nie kasowal schematu kontekstom z cache
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integration.properties",
+        properties = "spring.datasource.url=jdbc:h2:mem:export;DB_CLOSE_DELAY=-1"
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private CityRepository cityRepository;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ExportLimiter exportLimiter;
+
+    private final List<Long> eventIds = new ArrayList<>();
+    private Long musicCategoryId;
+    private Long cityId;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Country country = countryRepository.save(Country.builder().code("PL").name("Polska").build());
+            City city = cityRepository.save(City.builder().name("Krakow").country(country).build());
+            cityId = city.getId();
+            Venue venue = venueRepository.save(Venue.builder().name("Sala").address("Ulica 1").description("Opis").city(city).build());
+            Category music = categoryRepository.save(Category.builder().name("Muzyka").description("Koncerty").build());
+            Category sport = categoryRepository.save(Category.builder().name("Sport").description("Mecze").build());
+            musicCategoryId = music.getId();
+            User user = userRepository.save(User.builder()
+                    .firstName("Jan")
+                    .lastName("Kowalski")
+                    .email("jan@test.com")
+                    .phoneNumber("123456789")
+                    .password("pass")
+                    .role(Role.ORGANIZER)
+                    .status(Status.ACTIVE)
+                    .build());
+            token = jwtUtil.generateToken(user);
+            for (int i = 0; i < 5; i++) {
+                LocalDateTime start = LocalDateTime.now().plusDays(i + 1);
+                Event event = eventRepository.save(Event.builder()
+                        .name(i == 0 ? "Rock, pop i \"jazz\"" : "Event " + i)
+                        .description("Opis")
+                        .startTime(Timestamp.valueOf(start))
+                        .endTime(Timestamp.valueOf(start.plusHours(2)))
+                        .status(PUBLISHED)
+                        .organizer(user)
+                        .category(i % 2 == 0 ? music : sport)
+                        .venue(venue)
+                        .build());
+                eventIds.add(event.getId());
+            }
+            for (int i = 0; i < 3; i++) {
+                reviewRepository.save(Review.builder()
+                        .event(eventRepository.getReferenceById(eventIds.get(0)))
+                        .user(user)
+                        .rating(i + 6)
+                        .comment("Opinia " + i)
+                        .build());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        venueRepository.deleteAllInBatch();
+        cityRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should stream whole catalogue as one JSON object per line ordered by id")
+    void shouldExportEventsAsNdjson() throws Exception {
+        MvcResult result = stream(get("/api/events/export"));
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        assertThat(result.getResponse().getHeader("Content-Disposition")).contains("events.ndjson");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body(result).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).extracting(line -> line.get("id").asLong()).containsExactlyElementsOf(eventIds);
+        assertThat(lines.get(0).get("cityName").asText()).isEqualTo("Krakow");
+        assertThat(lines.get(0).get("interestedCount").asLong()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stream filtered events as CSV with header and escaped values")
+    void shouldExportFilteredEventsAsCsv() throws Exception {
+        MvcResult result = stream(get("/api/events/export")
+                .param("format", "CSV")
+                .param("categoryId", musicCategoryId.toString())
+                .param("end", LocalDateTime.now().plusDays(4).toString()));
+
+        String[] lines = body(result).split("\r\n");
+        assertThat(lines[0]).isEqualTo("id,name,eventStatus,date,categoryId,categoryName,venueId,venueName,cityName,organizerId,interestedCount");
+        // muzyka to eventy 0, 2, 4, a przed koncem zakresu (za 4 dni) tylko 0 i 2
+        assertThat(lines).hasSize(3);
+        assertThat(lines[1]).startsWith(eventIds.get(0) + ",\"Rock, pop i \"\"jazz\"\"\",");
+        assertThat(lines[2]).startsWith(eventIds.get(2) + ",Event 2,");
+    }
+
+    @Test
+    @DisplayName("Should stream reviews of a single event")
+    void shouldExportReviewsForEvent() throws Exception {
+        MvcResult result = stream(get("/api/reviews/event/{eventId}/export", eventIds.get(0)).param("format", "CSV"));
+
+        String[] lines = body(result).split("\r\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[1]).contains("Jan Kowalski", "Opinia 0");
+        assertThat(result.getResponse().getHeader("Content-Disposition")).contains("event-" + eventIds.get(0) + "-reviews.csv");
+    }
+
+    @Test
+    @DisplayName("Should stream cities with their country filtered by country code")
+    void shouldExportCitiesAsCsv() throws Exception {
+        MvcResult result = stream(get("/api/cities/export").param("format", "CSV").param("countries", "PL"));
+
+        String[] lines = body(result).split("\r\n");
+        assertThat(lines).containsExactly("id,name,countryCode,countryName", cityId + ",Krakow,PL,Polska");
+        assertThat(result.getResponse().getHeader("Content-Disposition")).contains("cities.csv");
+    }
+
+    @Test
+    @DisplayName("Should return 404 before streaming when event does not exist")
+    void shouldReturnNotFoundForUnknownEvent() throws Exception {
+        mockMvc.perform(get("/api/reviews/event/{eventId}/export", 999_999L)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should require authentication for every export")
+    void shouldRejectAnonymousExport() throws Exception {
+        mockMvc.perform(get("/api/events/export")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/reviews/event/{eventId}/export", eventIds.get(0))).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/cities/export")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should return 429 when all export slots are taken and accept exports again once they finish")
+    void shouldLimitConcurrentExports() throws Exception {
+        //Given - oba miejsca zajete przez eksporty, ktore jeszcze nic nie wypisaly
+        ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest());
+        StreamingResponseBody first = exportLimiter.limit(webRequest, out -> { });
+        StreamingResponseBody second = exportLimiter.limit(webRequest, out -> { });
+
+        //When & Then
+        mockMvc.perform(get("/api/events/export").header("Authorization", "Bearer " + token))
+                .andExpect(status().isTooManyRequests());
+
+        first.writeTo(new ByteArrayOutputStream());
+        second.writeTo(new ByteArrayOutputStream());
+        stream(get("/api/cities/export"));
+    }
+
+    private MvcResult stream(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Content-Disposition"))
+                .andReturn();
+    }
+
+    private String body(MvcResult result) {
+        return new String(result.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8);
+    }
+}
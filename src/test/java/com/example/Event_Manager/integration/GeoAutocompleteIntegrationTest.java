@@ -0,0 +1,139 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.city.dto.request.UpdateCityDTO;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.city.service.CityService;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// bez @Transactional: obraz przebudowuje sie po commicie zapisu;
+// osobna baza, zeby create-drop tego kontekstu nie kasowal schematu kontekstom z cache
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integration.properties",
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:geo-autocomplete;DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "geo.autocomplete.max-results=3",
+                "geo.catalogue.refresh-delay=PT0.1S"
+        }
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class GeoAutocompleteIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CityService cityService;
+    @Autowired
+    private GeoCatalogue geoCatalogue;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private CityRepository cityRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private Long poznanId;
+    private Long gorzowId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Country poland = countryRepository.save(Country.builder().code("PL").name("Polska").build());
+            Country germany = countryRepository.save(Country.builder().code("DE").name("Niemcy").build());
+            City poznan = cityRepository.save(City.builder().name("Poznań").country(poland).build());
+            City gorzow = cityRepository.save(City.builder().name("Gorzów Wielkopolski").country(poland).build());
+            cityRepository.save(City.builder().name("Wieluń").country(poland).build());
+            cityRepository.save(City.builder().name("Wiesbaden").country(germany).build());
+            poznanId = poznan.getId();
+            gorzowId = gorzow.getId();
+            venueRepository.save(Venue.builder().name("Arena").address("Ulica 1").description("Hala").city(poznan).build());
+            venueRepository.save(Venue.builder().name("Amfiteatr").address("Ulica 2").description("Scena").city(gorzow).build());
+        });
+        geoCatalogue.rebuild();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        venueRepository.deleteAllInBatch();
+        cityRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should autocomplete cities and venues from memory without SQL")
+    void shouldAutocompleteWithoutDatabase() throws Exception {
+        mockMvc.perform(get("/api/cities/autocomplete").param("q", "wie"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Wieluń", "Wiesbaden", "Gorzów Wielkopolski")));
+        mockMvc.perform(get("/api/cities/autocomplete").param("q", "WIE").param("countries", "PL"))
+                .andExpect(jsonPath("$[*].name", contains("Wieluń", "Gorzów Wielkopolski")));
+        mockMvc.perform(get("/api/cities/autocomplete").param("q", "").param("limit", "100"))
+                .andExpect(jsonPath("$", hasSize(3)));
+        mockMvc.perform(get("/api/venues/autocomplete").param("q", "a").param("cities", gorzowId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Amfiteatr")))
+                .andExpect(jsonPath("$[0].city.country.name").value("Polska"));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should swap in a new snapshot after an admin edit")
+    void shouldRefreshAfterServiceWrite() throws Exception {
+        mockMvc.perform(get("/api/cities/autocomplete").param("q", "pozn"))
+                .andExpect(jsonPath("$[*].name", contains("Poznań")));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                cityService.update(poznanId, new UpdateCityDTO("Poznań Stare Miasto", "PL")));
+        // przebudowa idzie w tle po refresh-delay
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (geoCatalogue.findCities("stare", null, 1).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        mockMvc.perform(get("/api/cities/autocomplete").param("q", "stare"))
+                .andExpect(jsonPath("$[*].name", contains("Poznań Stare Miasto")));
+        mockMvc.perform(get("/api/venues/autocomplete").param("q", "arena"))
+                .andExpect(jsonPath("$[0].city.name").value("Poznań Stare Miasto"));
+    }
+}
@@ -7,6 +7,8 @@ import com.example.Event_Manager.models.category.Category;
 import com.example.Event_Manager.models.category.repository.CategoryRepository;
 import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.trending.TrendingEvents;
+import com.example.Event_Manager.models.interested.counter.InterestCounterBuffer;
 import com.example.Event_Manager.models.interested.repository.InterestedRepository;
 import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.user.enums.Role;
@@ -29,8 +31,10 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Date;
+import java.util.List;
 
 import static com.example.Event_Manager.models.event.enums.Status.PUBLISHED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -63,6 +67,10 @@ public class InterestedIntegrationTest {
     private VenueRepository venueRepository;
     @Autowired
     private InterestedRepository interestedRepository;
+    @Autowired
+    private InterestCounterBuffer interestCounterBuffer;
+    @Autowired
+    private TrendingEvents trendingEvents;
 
     private User testUser;
     private Event testEvent;
@@ -201,4 +209,40 @@ public class InterestedIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Should keep interested count on event after buffered flush")
+    void shouldFlushInterestedCountToEvent() throws Exception {
+        mockMvc.perform(post("/api/interested/" + testEvent.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        interestCounterBuffer.flush();
+        assertEquals(1L, interestedCount(testEvent.getId()));
+
+        mockMvc.perform(post("/api/interested/" + testEvent.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        interestCounterBuffer.flush();
+        assertEquals(0L, interestedCount(testEvent.getId()));
+    }
+
+    @Test
+    @DisplayName("Should list events with recent interest as trending")
+    void shouldReturnTrendingEvents() throws Exception {
+        mockMvc.perform(post("/api/interested/" + testEvent2.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        trendingEvents.refresh();
+
+        mockMvc.perform(get("/api/events/trending").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].event.name", is("Super Event2")))
+                .andExpect(jsonPath("$[0].recentInterest", is(1)));
+    }
+
+    private long interestedCount(Long eventId) {
+        //UPDATE idzie z pominieciem persistence context
+        entityManager.clear();
+        return eventRepository.findListItemsByIdIn(List.of(eventId)).get(0).getInterestedCount();
+    }
 }
@@ -0,0 +1,114 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.country.repository.CountryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// osobna baza, zeby create-drop tego kontekstu nie kasowal schematu kontekstom z cache
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integration.properties",
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:lookup-list;DB_CLOSE_DELAY=-1",
+                "spring.data.web.pageable.max-page-size=4",
+                "lookup.list.max-results=3",
+                "spring.jpa.properties.hibernate.generate_statistics=true"
+        }
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Transactional
+public class LookupListIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private CityRepository cityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        Country poland = countryRepository.save(Country.builder().code("PL").name("Polska").build());
+        Country germany = countryRepository.save(Country.builder().code("DE").name("Niemcy").build());
+        countryRepository.save(Country.builder().code("CZ").name("Czechy").build());
+        countryRepository.save(Country.builder().code("SK").name("Slowacja").build());
+        for (String name : new String[]{"Torun", "Gdansk", "Opole", "Krakow", "Lublin", "Bialystok"}) {
+            cityRepository.save(City.builder().name(name).country(poland).build());
+        }
+        cityRepository.save(City.builder().name("Berlin").country(germany).build());
+        for (int i = 0; i < 6; i++) {
+            categoryRepository.save(Category.builder().name("Kategoria " + i).description("Opis").build());
+        }
+    }
+
+    @Test
+    @DisplayName("Should cap unpaged city and country lists")
+    void shouldCapUnpagedLists() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/cities"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[*].name", contains("Torun", "Gdansk", "Opole")));
+        // lista ucieta LIMIT-em, bez COUNT(*)
+        assertThat(statistics.getQueries()).noneMatch(query -> query.contains("COUNT"));
+        mockMvc.perform(get("/api/countries"))
+                .andExpect(jsonPath("$[*].code", contains("CZ", "DE", "PL")));
+    }
+
+    @Test
+    @DisplayName("Should page cities with filters and projected country")
+    void shouldPageCities() throws Exception {
+        mockMvc.perform(get("/api/cities/page").param("countries", "PL").param("size", "2").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Krakow", "Lublin")))
+                .andExpect(jsonPath("$.content[0].country.name").value("Polska"))
+                .andExpect(jsonPath("$.totalElements").value(6));
+        mockMvc.perform(get("/api/cities/page").param("name", "LIN"))
+                .andExpect(jsonPath("$.content[*].name", contains("Berlin", "Lublin")));
+    }
+
+    @Test
+    @DisplayName("Should clamp requested page size to the server maximum on every pageable endpoint")
+    void shouldClampPageSize() throws Exception {
+        mockMvc.perform(get("/api/cities/page").param("size", "1000"))
+                .andExpect(jsonPath("$.content", hasSize(4)))
+                .andExpect(jsonPath("$.totalElements").value(7));
+        mockMvc.perform(get("/api/countries/page").param("size", "1000"))
+                .andExpect(jsonPath("$.content[*].code", contains("CZ", "DE", "PL", "SK")));
+        mockMvc.perform(get("/api/categories").param("size", "1000"))
+                .andExpect(jsonPath("$.content", hasSize(4)))
+                .andExpect(jsonPath("$.totalElements").value(6));
+    }
+}
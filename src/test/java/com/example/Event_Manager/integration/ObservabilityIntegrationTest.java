@@ -0,0 +1,73 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.models.favorite.service.FavoriteService;
+import com.example.Event_Manager.models.interested.service.InterestedService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-integration.properties")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ObservabilityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private InterestedService interestedService;
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldExportPerHandlerLatencyHistogramAndQueryCount() throws Exception {
+        // pusta baza -> 404, ale request i tak przechodzi przez handler kontrolera
+        mockMvc.perform(get("/api/events")).andExpect(status().isNotFound());
+
+        String scrape = scrape();
+
+        assertThat(scrape).contains("http_server_requests_seconds_bucket{");
+        assertThat(scrape).containsPattern("http_server_requests_seconds_count\\{[^}]*handler=\"EventController.getAllEvents\"");
+        assertThat(scrape).containsPattern("http_server_requests_queries_statements_count\\{[^}]*uri=\"/api/events\"");
+        assertThat(scrape).contains("hibernate_statements_total");
+        assertThat(scrape).contains("hikaricp_connections_acquire_seconds");
+        assertThat(scrape).contains("jvm_gc_");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldCountDomainOperationsIncludingFailures() throws Exception {
+        assertThatThrownBy(() -> interestedService.toggleInterest(-1L, 1L));
+        assertThatThrownBy(() -> favoriteService.toggleFavorite(-1L, 2L));
+
+        String scrape = scrape();
+
+        assertThat(scrape).containsPattern("interests_toggled_total\\{[^}]*result=\"failure\"[^}]*} 1\\.0");
+        assertThat(scrape).containsPattern("favorites_toggled_total\\{[^}]*result=\"failure\"[^}]*} 1\\.0");
+    }
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.config.CacheConfig;
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.category.service.CategoryService;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.city.dto.request.CreateCityDTO;
+import com.example.Event_Manager.models.city.dto.request.UpdateCityDTO;
+import com.example.Event_Manager.models.city.dto.response.CityDTO;
+import com.example.Event_Manager.models.city.repository.CityRepository;
+import com.example.Event_Manager.models.city.service.CityService;
+import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.country.dto.request.UpdateCountryDTO;
+import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.country.service.CountryService;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import com.example.Event_Manager.models.venue.service.VenueService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// bez @Transactional: region L2 dostaje zapisy dopiero po commicie;
+// osobna baza, zeby create-drop tego kontekstu nie kasowal schematu kontekstom z cache
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integration.properties",
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:reference-cache;DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.generate_statistics=true"
+        }
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ReferenceDataCacheIntegrationTest {
+
+    @Autowired
+    private CountryService countryService;
+    @Autowired
+    private CityService cityService;
+    @Autowired
+    private VenueService venueService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private CityRepository cityRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private Long cityId;
+    private Long venueId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Country poland = countryRepository.save(Country.builder().code("PL").name("Polska").build());
+            countryRepository.save(Country.builder().code("DE").name("Niemcy").build());
+            City city = cityRepository.save(City.builder().name("Poznan").country(poland).build());
+            cityId = city.getId();
+            venueId = venueRepository.save(Venue.builder().name("Sala").address("Ulica 1").description("Opis").city(city).build()).getId();
+            categoryId = categoryRepository.save(Category.builder().name("Muzyka").description("Koncerty").build()).getId();
+        });
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        venueRepository.deleteAllInBatch();
+        cityRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should serve warmed reference lookups and lists without SQL")
+    void shouldServeReferenceGraphFromSecondLevelCache() {
+        inSession(() -> {
+            countryService.getAll();
+            cityService.getAll(null, null);
+            venueService.getById(venueId);
+            return categoryService.getCategoryById(categoryId);
+        });
+        statistics.clear();
+
+        inSession(() -> {
+            assertThat(countryService.getByCode("PL").name()).isEqualTo("Polska");
+            assertThat(venueService.getById(venueId).city().country().code()).isEqualTo("PL");
+            assertThat(countryService.getAll()).hasSize(2);
+            assertThat(cityService.getAll(null, null)).extracting(city -> city.country().name()).containsExactly("Polska");
+            return categoryService.getCategoryById(categoryId);
+        });
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+        assertThat(statistics.getDomainDataRegionStatistics(CacheConfig.COUNTRIES).getHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics(CacheConfig.VENUES).getHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics(CacheConfig.CATEGORIES).getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached reference data on admin writes through services")
+    void shouldInvalidateOnServiceWrites() {
+        inSession(() -> cityService.getAll(null, null));
+        inSession(() -> countryService.getByCode("PL"));
+
+        inTransaction(() -> countryService.update("PL", new UpdateCountryDTO("Rzeczpospolita Polska")));
+        inTransaction(() -> cityService.update(cityId, new UpdateCityDTO("Poznan Stare Miasto", "PL")));
+        inTransaction(() -> cityService.create(new CreateCityDTO("Berlin", "DE")));
+
+        List<CityDTO> cities = inSession(() -> cityService.getAll(null, null));
+        assertThat(cities).extracting(CityDTO::name).containsExactlyInAnyOrder("Poznan Stare Miasto", "Berlin");
+        assertThat(cities).filteredOn(city -> city.name().startsWith("Poznan"))
+                .extracting(city -> city.country().name()).containsExactly("Rzeczpospolita Polska");
+        assertThat(inSession(() -> countryService.getByCode("PL").name())).isEqualTo("Rzeczpospolita Polska");
+    }
+
+    // jak w requescie (open-in-view): leniwe City.country dociagane w tej samej sesji
+    private <T> T inSession(Supplier<T> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}
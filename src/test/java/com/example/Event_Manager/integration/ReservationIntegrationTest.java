@@ -0,0 +1,211 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.auth.util.JwtUtil;
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.exceptions.EventCapacityExceededException;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.reservation.repository.ReservationRepository;
+import com.example.Event_Manager.models.reservation.service.ReservationService;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.enums.Role;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// bez @Transactional: rownolegle rezerwacje ida wlasnymi transakcjami po commicie danych testu;
+// osobna baza, zeby create-drop tego kontekstu nie kasowal schematu kontekstom z cache
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integration.properties",
+        properties = "spring.datasource.url=jdbc:h2:mem:reservations;DB_CLOSE_DELAY=-1"
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ReservationIntegrationTest {
+
+    private static final int CAPACITY = 20;
+    private static final int BUYERS = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long eventId;
+    private List<User> buyers;
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            organizer = userRepository.save(user("organizer", Role.ORGANIZER));
+            buyers = new ArrayList<>();
+            for (int i = 0; i < BUYERS; i++) {
+                buyers.add(userRepository.save(user("buyer" + i, Role.ATTENDEE)));
+            }
+            // pojemnosc sali przechodzi na nowy event
+            Venue venue = venueRepository.save(Venue.builder().name("Sala").address("Ulica 1").description("Opis").capacity(CAPACITY).build());
+            Category category = categoryRepository.save(Category.builder().name("Muzyka").description("Koncerty").build());
+            eventId = eventRepository.save(Event.builder()
+                    .name("Koncert")
+                    .description("Opis")
+                    .startTime(Timestamp.valueOf(LocalDateTime.now().plusDays(1)))
+                    .endTime(Timestamp.valueOf(LocalDateTime.now().plusDays(1).plusHours(2)))
+                    .status(Status.PUBLISHED)
+                    .capacity(venue.getCapacity())
+                    .venue(venue)
+                    .category(category)
+                    .organizer(organizer)
+                    .build()).getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        venueRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should never sell more seats than capacity under concurrent reservations")
+    void shouldNotOversellUnderContention() throws Exception {
+        List<Callable<Boolean>> attempts = buyers.stream()
+                .<Callable<Boolean>>map(buyer -> () -> {
+                    try {
+                        reservationService.reserve(buyer.getId(), eventId, 1);
+                        return true;
+                    } catch (EventCapacityExceededException e) {
+                        return false;
+                    }
+                })
+                .toList();
+
+        int accepted = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (Future<Boolean> result : executor.invokeAll(attempts)) {
+                if (result.get()) {
+                    accepted++;
+                }
+            }
+        }
+
+        assertThat(accepted).isEqualTo(CAPACITY);
+        assertThat(eventRepository.findCapacityById(eventId).orElseThrow().getReservedCount()).isEqualTo(CAPACITY);
+        assertThat(reservationRepository.countByEventId(eventId)).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Should reserve, reject duplicate and release seats on cancel")
+    void shouldReserveAndCancel() throws Exception {
+        String token = jwtUtil.generateToken(buyers.getFirst());
+
+        mockMvc.perform(post("/api/reservations/" + eventId).param("seats", "3")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isCreated())
+                .andExpect(content().string("Reserved 3 seat(s)"));
+        mockMvc.perform(post("/api/reservations/" + eventId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isConflict());
+        mockMvc.perform(get("/api/reservations/event/" + eventId + "/availability"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reserved", is(3)))
+                .andExpect(jsonPath("$.remaining", is(CAPACITY - 3)));
+        mockMvc.perform(get("/api/reservations")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].eventName", is("Koncert")))
+                .andExpect(jsonPath("$.content[0].seats", is(3)));
+
+        mockMvc.perform(delete("/api/reservations/" + eventId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/reservations/event/" + eventId + "/availability"))
+                .andExpect(jsonPath("$.reserved", is(0)));
+        mockMvc.perform(delete("/api/reservations/" + eventId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should not lower capacity below already reserved seats")
+    void shouldGuardCapacityChange() throws Exception {
+        reservationService.reserve(buyers.getFirst().getId(), eventId, 5);
+        String token = jwtUtil.generateToken(organizer);
+
+        mockMvc.perform(put("/api/reservations/event/" + eventId + "/capacity").param("capacity", "4")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isConflict());
+        mockMvc.perform(put("/api/reservations/event/" + eventId + "/capacity").param("capacity", "5")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.remaining", is(0)));
+        mockMvc.perform(post("/api/reservations/" + eventId)
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(buyers.get(1))))
+                .andExpect(status().isConflict());
+    }
+
+    private User user(String name, Role role) {
+        return User.builder()
+                .firstName(name)
+                .lastName("Test")
+                .email(name + "@test.com")
+                .phoneNumber(name)
+                .password("pass")
+                .role(role)
+                .status(com.example.Event_Manager.models.user.enums.Status.ACTIVE)
+                .build();
+    }
+}
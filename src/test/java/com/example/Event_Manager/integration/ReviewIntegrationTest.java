@@ -24,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
@@ -300,18 +301,54 @@ public class ReviewIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    private void createReviewThroughApi(User user, int rating, String comment) throws Exception {
+        CreateReviewDTO createDto = new CreateReviewDTO(testEvent.getId(), testCategory.getId(), rating, comment);
+        mockMvc.perform(post("/api/reviews")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isCreated());
+    }
+
     @Test
     @DisplayName("Should get event review summary successfully")
     void shouldGetEventReviewSummary() throws Exception {
-        createAndSaveReview(testEvent, testUser, 10, "Perfect!");
+        createReviewThroughApi(testUser, 10, "Perfect!");
         User anotherUser = createAndSaveUser("another@user.com", "987654321");
-        createAndSaveReview(testEvent, anotherUser, 6, "It was okay");
+        createReviewThroughApi(anotherUser, 6, "It was okay");
 
         mockMvc.perform(get("/api/reviews/event/" + testEvent.getId() + "/summary"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.eventName", is(testEvent.getName())))
                 .andExpect(jsonPath("$.totalReviews", is(2)))
-                .andExpect(jsonPath("$.averageRating", is(8.0)));
+                .andExpect(jsonPath("$.averageRating", is(8.0)))
+                .andExpect(jsonPath("$.ratingHistogram.10", is(1)))
+                .andExpect(jsonPath("$.ratingHistogram.6", is(1)));
+    }
+
+    @Test
+    @DisplayName("Should keep review summary in sync after review update")
+    void shouldKeepReviewSummaryInSyncAfterUpdate() throws Exception {
+        createReviewThroughApi(testUser, 4, "Meh");
+        User anotherUser = createAndSaveUser("another@user.com", "987654321");
+        createReviewThroughApi(anotherUser, 8, "Good");
+        Review review = reviewRepository.findByEventId(testEvent.getId(), Pageable.unpaged()).stream()
+                .filter(r -> r.getRating() == 4)
+                .findFirst()
+                .orElseThrow();
+
+        mockMvc.perform(put("/api/reviews/" + review.getId())
+                        .header("Authorization", "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateReviewDTO(testCategory.getId(), 8, "Better"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/reviews/event/" + testEvent.getId() + "/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalReviews", is(2)))
+                .andExpect(jsonPath("$.averageRating", is(8.0)))
+                .andExpect(jsonPath("$.ratingHistogram.8", is(2)))
+                .andExpect(jsonPath("$.ratingHistogram.4").doesNotExist());
     }
 
     @Test
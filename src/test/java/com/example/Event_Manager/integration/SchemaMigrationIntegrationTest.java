@@ -0,0 +1,143 @@
+package com.example.Event_Manager.integration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// schemat z migracji Flyway + ddl-auto=validate: start kontekstu = migracje zgodne z encjami.
+// Domyslnie H2 w trybie MySQL; na lokalnym MySQL: -Dschema.test.url=jdbc:mysql://localhost:3306/test_db ...
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=${schema.test.url:jdbc:h2:mem:migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1}",
+        "spring.datasource.username=${schema.test.username:sa}",
+        "spring.datasource.password=${schema.test.password:}",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "spring.flyway.clean-disabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class SchemaMigrationIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // kazde zapytanie odwzorowuje metode repozytorium razem z domyslnym sortowaniem po id
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                Arguments.of("events", "category_id",
+                        "SELECT * FROM events WHERE category_id = 1 ORDER BY id LIMIT 20"),
+                Arguments.of("events", "venue_id",
+                        "SELECT * FROM events WHERE venue_id = 1 ORDER BY id LIMIT 20"),
+                Arguments.of("events", "organizer_id",
+                        "SELECT * FROM events WHERE organizer_id = 1 ORDER BY id LIMIT 20"),
+                Arguments.of("events", "start_time",
+                        "SELECT * FROM events WHERE start_time BETWEEN '2030-01-01 00:00:00' AND '2030-01-08 00:00:00' ORDER BY id LIMIT 20"),
+                Arguments.of("events", "status",
+                        "SELECT id FROM events WHERE status IN ('PUBLISHED') AND start_time <= '2030-01-01 00:00:00'"),
+                Arguments.of("events", "status",
+                        "SELECT id FROM events WHERE status IN ('PUBLISHED', 'ONGOING') AND end_time <= '2030-01-01 00:00:00'"),
+                Arguments.of("events", "status",
+                        "SELECT * FROM events WHERE status = 'ONGOING' ORDER BY start_time, id LIMIT 20"),
+                Arguments.of("reviews", "event_id",
+                        "SELECT * FROM reviews WHERE event_id = 1 ORDER BY id LIMIT 20"),
+                Arguments.of("interested", "user_id",
+                        "SELECT * FROM interested WHERE user_id = 1 AND event_id = 1"),
+                Arguments.of("interested", "user_id",
+                        "SELECT * FROM interested WHERE user_id = 1 LIMIT 10"),
+                Arguments.of("favorites", "user_id",
+                        "SELECT * FROM favorites WHERE user_id = 1 AND organizer_id = 2"),
+                Arguments.of("favorites", "user_id",
+                        "SELECT * FROM favorites WHERE user_id = 1 LIMIT 10"),
+                Arguments.of("event_rating_buckets", "event_id",
+                        "SELECT rating, review_count FROM event_rating_buckets WHERE event_id = 1 ORDER BY rating")
+        );
+    }
+
+    static Stream<Arguments> compositeIndexes() {
+        return Stream.of(
+                Arguments.of("events", "idx_events_category_id", List.of("category_id", "id")),
+                Arguments.of("events", "idx_events_venue_id", List.of("venue_id", "id")),
+                Arguments.of("events", "idx_events_organizer_id", List.of("organizer_id", "id")),
+                Arguments.of("events", "idx_events_start_time", List.of("start_time", "id")),
+                Arguments.of("events", "idx_events_status_start_time", List.of("status", "start_time", "id")),
+                Arguments.of("events", "idx_events_status_end_time", List.of("status", "end_time")),
+                Arguments.of("reviews", "idx_reviews_event_id", List.of("event_id", "id")),
+                Arguments.of("interested", "uk_interested_user_event", List.of("user_id", "event_id")),
+                Arguments.of("favorites", "uk_favorites_user_organizer", List.of("user_id", "organizer_id")),
+                Arguments.of("event_rating_buckets", "uk_event_rating_bucket", List.of("event_id", "rating")),
+                Arguments.of("reservations", "uk_reservations_user_event", List.of("user_id", "event_id")),
+                Arguments.of("reservations", "idx_reservations_event_id", List.of("event_id", "id"))
+        );
+    }
+
+    @Test
+    void shouldApplyAllMigrations() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("10");
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("repositoryQueries")
+    void shouldNotFullScanForRepositoryQuery(String table, String filterColumn, String sql) {
+        if (isMySql()) {
+            // MySQL: wiersz planu dla tabeli, type=ALL oznacza full scan
+            Map<String, Object> row = jdbcTemplate.queryForList("EXPLAIN " + sql).stream()
+                    .filter(step -> table.equals(step.get("table")))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(row.get("type")).isNotEqualTo("ALL");
+            assertThat(row.get("key")).isNotNull();
+        } else {
+            // H2: plan jako tekst, indeks w komentarzu "/* public.<indeks>: <warunek> */", full scan jako tableScan
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+            assertThat(plan).doesNotContain("tablescan");
+            assertThat(plan).containsPattern("/\\* public\\.[a-z0-9_]+: " + filterColumn + " ");
+        }
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("compositeIndexes")
+    void shouldDefineCompositeIndexInColumnOrder(String table, String index, List<String> columns) {
+        String sql = isMySql()
+                ? """
+                SELECT column_name FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+                ORDER BY seq_in_index
+                """
+                // H2 dokleja do nazwy indeksu unikalnego ograniczenia sufiks, stad LIKE
+                : """
+                SELECT column_name FROM information_schema.index_columns
+                WHERE table_name = ? AND index_name LIKE CONCAT(?, '%')
+                ORDER BY ordinal_position
+                """;
+
+        List<String> indexColumns = jdbcTemplate.queryForList(sql, String.class, table, index).stream()
+                .map(String::toLowerCase)
+                .toList();
+
+        assertThat(indexColumns).containsExactlyElementsOf(columns);
+    }
+
+    private boolean isMySql() {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.config.CacheConfig;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.dto.request.ChangePasswordRequest;
+import com.example.Event_Manager.models.user.enums.Role;
+import com.example.Event_Manager.models.user.enums.Status;
+import com.example.Event_Manager.models.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integration.properties",
+        properties = "cache.principals.spec=maximumSize=100,expireAfterWrite=60s"
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class UserPrincipalCacheIntegrationTest {
+
+    private static final String EMAIL = "jan@gmail.com";
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.USER_PRINCIPALS).clear();
+
+        user = User.builder()
+                .id(1L)
+                .firstName("Jan")
+                .lastName("Kowalski")
+                .email(EMAIL)
+                .password(passwordEncoder.encode("stareHaslo"))
+                .role(Role.ATTENDEE)
+                .status(Status.ACTIVE)
+                .build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void shouldServeRepeatedPrincipalLookupsFromCache() {
+        UserDetails first = userDetailsService.loadUserByUsername(EMAIL);
+        UserDetails second = userDetailsService.loadUserByUsername(EMAIL);
+
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void shouldEvictPrincipalOnPasswordChange() {
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        userService.changePassword(1L, new ChangePasswordRequest("stareHaslo", "noweHaslo", "noweHaslo"));
+
+        assertThat(cacheManager.getCache(CacheConfig.USER_PRINCIPALS).get(EMAIL)).isNull();
+        userDetailsService.loadUserByUsername(EMAIL);
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void shouldEvictPrincipalOnUserDelete() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        userService.deleteUser(1L);
+
+        assertThat(cacheManager.getCache(CacheConfig.USER_PRINCIPALS).get(EMAIL)).isNull();
+    }
+}
@@ -138,7 +138,8 @@ public class VenueIntegrationTest {
                 "PGE Narodowy",
                 "Al. Poniatowskiego 1",
                 "Stadion Narodowy w Warszawie",
-                city.getId()
+                city.getId(),
+                58000
         );
 
         mockMvc.perform(MockMvcRequestBuilders.post("/api/venues")
@@ -149,6 +150,7 @@ public class VenueIntegrationTest {
                 .andExpect(jsonPath("$.name", is("PGE Narodowy")))
                 .andExpect(jsonPath("$.address", is("Al. Poniatowskiego 1")))
                 .andExpect(jsonPath("$.description", is("Stadion Narodowy w Warszawie")))
+                .andExpect(jsonPath("$.capacity", is(58000)))
                 .andExpect(jsonPath("$.city.name", is("Warsaw")));
 
         Optional<Venue> savedVenue = venueRepository.findAll().stream()
@@ -164,7 +166,8 @@ public class VenueIntegrationTest {
                 "Test Venue",
                 "Test Address",
                 "Test Description",
-                9999L
+                9999L,
+                null
         );
 
         mockMvc.perform(MockMvcRequestBuilders.post("/api/venues")
@@ -190,7 +193,8 @@ public class VenueIntegrationTest {
                 "Tauron Arena Krakow",
                 "ul. Lecha 1",
                 "Nowoczesna hala widowiskowo-sportowa w Krakowie",
-                city.getId()
+                city.getId(),
+                null
         );
 
         mockMvc.perform(MockMvcRequestBuilders.put("/api/venues/" + venueId)
@@ -206,13 +210,32 @@ public class VenueIntegrationTest {
         assertThat(updatedVenue.getDescription()).isEqualTo("Nowoczesna hala widowiskowo-sportowa w Krakowie");
     }
 
+    @Test
+    void update_withoutCapacity_clearsVenueCapacity() throws Exception {
+        Venue venue = createAndSaveVenue("Spodek", "al. Korfantego 35", "Hala", city);
+        venue.setCapacity(11000);
+        Long venueId = venueRepository.save(venue).getId();
+
+        UpdateVenueDTO updateDto = new UpdateVenueDTO("Spodek", "al. Korfantego 35", "Hala", city.getId(), null);
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/venues/" + venueId)
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capacity").value(nullValue()));
+
+        assertThat(venueRepository.findById(venueId).orElseThrow().getCapacity()).isNull();
+    }
+
     @Test
     void update_nonExistentVenue_returnsNotFound() throws Exception {
         UpdateVenueDTO updateDto = new UpdateVenueDTO(
                 "Venue",
                 "Test Address",
                 "Test Description",
-                city.getId()
+                city.getId(),
+                null
         );
 
         mockMvc.perform(MockMvcRequestBuilders.put("/api/venues/9999")
@@ -363,7 +386,8 @@ public class VenueIntegrationTest {
                 "Test Venue",
                 "Test Address",
                 "Test Description",
-                city.getId()
+                city.getId(),
+                null
         );
 
         mockMvc.perform(MockMvcRequestBuilders.post("/api/venues")
@@ -381,7 +405,8 @@ public class VenueIntegrationTest {
                 "Updated Venue",
                 "Updated Address",
                 "Updated Description",
-                city.getId()
+                city.getId(),
+                null
         );
 
         mockMvc.perform(MockMvcRequestBuilders.put("/api/venues/" + venue.getId())
@@ -411,7 +436,8 @@ public class VenueIntegrationTest {
                 "Test Venue",
                 "Test Address",
                 "Test Description",
-                city.getId()
+                city.getId(),
+                null
         );
 
         mockMvc.perform(MockMvcRequestBuilders.post("/api/venues")
@@ -430,7 +456,8 @@ public class VenueIntegrationTest {
                 "Updated Venue",
                 "Updated Address",
                 "Updated Description",
-                city.getId()
+                city.getId(),
+                null
         );
 
         mockMvc.perform(MockMvcRequestBuilders.put("/api/venues/" + venue.getId())
@@ -0,0 +1,184 @@
+package com.example.Event_Manager.integration;
+
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.interested.repository.InterestedRepository;
+import com.example.Event_Manager.models.interested.service.InterestedService;
+import com.example.Event_Manager.models.review.dto.request.CreateReviewDTO;
+import com.example.Event_Manager.models.review.dto.response.ReviewDTO;
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
+import com.example.Event_Manager.models.review.repository.ReviewRepository;
+import com.example.Event_Manager.models.review.service.ReviewService;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.enums.Role;
+import com.example.Event_Manager.models.user.enums.Status;
+import com.example.Event_Manager.models.venue.Venue;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.Event_Manager.models.event.enums.Status.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// bez @Transactional: zapisy ida przez watek flushera, wiec testowa transakcja i tak by ich nie objela;
+// osobna baza, zeby create-drop tego kontekstu nie kasowal schematu kontekstom z cache
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integration.properties",
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:write-behind;DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "write-behind.enabled=true",
+                "write-behind.batch-size=100",
+                "write-behind.max-delay=PT0.5S"
+        }
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class WriteBehindIntegrationTest {
+
+    private static final int USERS = 10;
+
+    @Autowired
+    private InterestedService interestedService;
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private InterestedRepository interestedRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private EventRatingBucketRepository eventRatingBucketRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> eventIds = new ArrayList<>();
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Category category = categoryRepository.save(Category.builder().name("Muzyka").description("Koncerty").build());
+            Venue venue = venueRepository.save(Venue.builder().name("Sala").address("Ulica 1").description("Opis").build());
+            categoryId = category.getId();
+            for (int i = 0; i < USERS; i++) {
+                userIds.add(userRepository.save(User.builder()
+                        .firstName("Fan")
+                        .lastName("No" + i)
+                        .email("fan" + i + "@test.com")
+                        .phoneNumber("12345678" + i)
+                        .password("pass")
+                        .role(Role.ATTENDEE)
+                        .status(Status.ACTIVE)
+                        .build()).getId());
+            }
+            for (int i = 0; i < 2; i++) {
+                eventIds.add(eventRepository.save(Event.builder()
+                        .name("Event " + i)
+                        .description("Opis")
+                        .startTime(new Date())
+                        .endTime(new Date())
+                        .status(PUBLISHED)
+                        .category(category)
+                        .venue(venue)
+                        .build()).getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAllInBatch();
+        eventRatingBucketRepository.deleteAllInBatch();
+        interestedRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        venueRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should commit concurrent interests and reviews in far fewer transactions than writes")
+    void shouldGroupConcurrentWritesIntoFewCommits() throws Exception {
+        List<Callable<Object>> writes = new ArrayList<>();
+        for (Long userId : userIds) {
+            for (Long eventId : eventIds) {
+                writes.add(() -> interestedService.toggleInterest(userId, eventId));
+            }
+            writes.add(() -> reviewService.createReview(new CreateReviewDTO(eventIds.get(0), categoryId, 7, "Super"), userId));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Object> results = runConcurrently(writes);
+
+        assertThat(results).hasSize(30);
+        assertThat(results).filteredOn(String.class::isInstance).containsOnly("Added to interested").hasSize(20);
+        assertThat(results).filteredOn(ReviewDTO.class::isInstance)
+                .allSatisfy(review -> assertThat(((ReviewDTO) review).id()).isNotNull())
+                .hasSize(10);
+        assertThat(interestedRepository.count()).isEqualTo(20);
+        assertThat(reviewRepository.count()).isEqualTo(10);
+        // bez write-behind kazde klikniecie to co najmniej dwie transakcje (delete + insert), recenzja jedna
+        assertThat(statistics.getTransactionCount()).isLessThan(10);
+    }
+
+    private List<Object> runConcurrently(List<Callable<Object>> writes) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(writes.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> write : writes) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return write.call();
+                }));
+            }
+            start.countDown();
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
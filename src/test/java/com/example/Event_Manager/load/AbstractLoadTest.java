@@ -0,0 +1,93 @@
+package com.example.Event_Manager.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// wspolna baza testow obciazeniowych: aplikacja na losowym porcie, schemat z migracji Flyway (z indeksami),
+// dane z SyntheticDataGenerator generowane raz na baze i wspoldzielone przez kolejne klasy
+// mvn -Pload-test test [-Dtest=ApiLoadTest] [-Dload.threads=32 -Dload.duration=60 -Dload.events=20000]
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("datagen")
+@TestPropertySource(properties = {
+        "spring.datasource.url=${load.datasource.url:jdbc:h2:mem:load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1}",
+        "spring.datasource.username=${load.datasource.username:sa}",
+        "spring.datasource.password=${load.datasource.password:}",
+        "datagen.countries=${load.countries:3}",
+        "datagen.cities-per-country=${load.cities-per-country:5}",
+        "datagen.venues-per-city=${load.venues-per-city:4}",
+        "datagen.categories=${load.categories:10}",
+        "datagen.organizers=${load.organizers:50}",
+        "datagen.attendees=${load.attendees:200}",
+        "datagen.events=${load.events:2000}",
+        "datagen.reviews=${load.reviews:10000}",
+        "datagen.interests=${load.interests:5000}",
+        "logging.level.root=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+abstract class AbstractLoadTest {
+
+    protected static final int PAGE_SIZE = 20;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    protected final int warmupSeconds = Integer.getInteger("load.warmup", 5);
+    protected final int durationSeconds = Integer.getInteger("load.duration", 30);
+
+    protected final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    protected final LoadDriver driver = new LoadDriver(httpClient, Integer.getInteger("load.threads", 16));
+
+    protected List<Long> eventIds;
+
+    @BeforeAll
+    void loadEventIds() {
+        eventIds = jdbcTemplate.queryForList("SELECT id FROM events", Long.class);
+    }
+
+    protected HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    protected HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    protected URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    protected Long pick(ThreadLocalRandom random, List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
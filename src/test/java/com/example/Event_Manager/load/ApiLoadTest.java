@@ -0,0 +1,97 @@
+package com.example.Event_Manager.load;
+
+import com.example.Event_Manager.auth.dto.request.AuthRequest;
+import com.example.Event_Manager.datagen.SyntheticDataGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntPredicate;
+
+import static com.example.Event_Manager.load.LoadDriver.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// pelny mix odczytow i zapisow; -Dload.mix=events.get=5,auth.login=1 nadpisuje domyslne wagi
+public class ApiLoadTest extends AbstractLoadTest {
+
+    private static final String DEFAULT_MIX = "events.list=20,events.compact=10,events.get=20,events.search=10,"
+            + "events.scroll=5,reviews.event=10,reviews.summary=10,reviews.create=3,interested.toggle=3,"
+            + "interested.list=3,favorites.toggle=2,favorites.list=3,auth.login=1";
+
+    private static final String[] SEARCH_TERMS = {"koncert", "jazz", "festiwal%20rock", "warsz", "java", "teatr%20opera"};
+
+    // event bez recenzji odpowiada 404 i to jest poprawna odpowiedz
+    private static final IntPredicate OK_OR_NOT_FOUND = status -> OK.test(status) || status == 404;
+
+    @Value("${datagen.attendees}")
+    private int attendees;
+    @Value("${datagen.password}")
+    private String password;
+
+    private final int loggedInUsers = Integer.getInteger("load.users", 50);
+
+    private List<Long> organizerIds;
+    private List<String> tokens;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        organizerIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE user_type = 'ORGANIZER'", Long.class);
+
+        tokens = new ArrayList<>();
+        for (int i = 0; i < Math.min(loggedInUsers, attendees); i++) {
+            HttpResponse<String> response = httpClient.send(login(i), HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+            tokens.add(objectMapper.readTree(response.body()).get("token").asText());
+        }
+
+        int pages = Math.max(eventIds.size() / PAGE_SIZE, 1);
+        driver.register("events.list", random -> get("/api/events?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE), OK);
+        driver.register("events.compact", random -> get("/api/events/compact?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE), OK);
+        driver.register("events.get", random -> get("/api/events/" + pick(random, eventIds)), OK);
+        driver.register("events.search", random -> get("/api/events/search?name=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]), OK);
+        driver.register("events.scroll", random -> get("/api/events/scroll?size=" + PAGE_SIZE), OK);
+        driver.register("reviews.event", random -> get("/api/reviews/event/" + pick(random, eventIds)), OK_OR_NOT_FOUND);
+        driver.register("reviews.summary", random -> get("/api/reviews/event/" + pick(random, eventIds) + "/summary"), OK_OR_NOT_FOUND);
+        driver.register("reviews.create", random -> authorized(random, "/api/reviews")
+                .POST(json(Map.of(
+                        "eventId", pick(random, eventIds),
+                        "categoryId", 1,
+                        "rating", 1 + random.nextInt(10),
+                        "comment", "Load test")))
+                .build(), OK);
+        driver.register("interested.toggle", random -> authorized(random, "/api/interested/" + pick(random, eventIds))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), OK);
+        driver.register("interested.list", random -> authorized(random, "/api/interested").GET().build(), OK);
+        driver.register("favorites.toggle", random -> authorized(random, "/api/favorites/" + pick(random, organizerIds))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), OK);
+        driver.register("favorites.list", random -> authorized(random, "/api/favorites").GET().build(), OK);
+        driver.register("auth.login", random -> login(random.nextInt(attendees)), OK);
+    }
+
+    @Test
+    void replayEndpointMix() throws Exception {
+        List<LatencyRecorder> recorders = driver.run(
+                System.getProperty("load.mix", DEFAULT_MIX), warmupSeconds, durationSeconds, "load-report");
+
+        assertThat(recorders).allSatisfy(recorder -> assertThat(recorder.errors()).isZero());
+    }
+
+    private HttpRequest.Builder authorized(ThreadLocalRandom random, String path) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest login(int attendee) {
+        return HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(json(new AuthRequest(SyntheticDataGenerator.ATTENDEE_EMAIL.formatted(attendee), password)))
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.Event_Manager.load;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.List;
+
+import static com.example.Event_Manager.load.LoadDriver.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// odczyty z EventController; podklasy roznia sie tylko trybem watkow, raporty do porownania:
+// target/load-report-events-platform.csv vs target/load-report-events-virtual.csv
+abstract class EventReadLoadTest extends AbstractLoadTest {
+
+    private static final String MIX = "events.list=25,events.compact=15,events.get=30,events.search=15,events.scroll=15";
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    @BeforeAll
+    void registerOperations() {
+        int pages = Math.max(eventIds.size() / PAGE_SIZE, 1);
+        driver.register("events.list", random -> get("/api/events?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE), OK);
+        driver.register("events.compact", random -> get("/api/events/compact?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE), OK);
+        driver.register("events.get", random -> get("/api/events/" + pick(random, eventIds)), OK);
+        driver.register("events.search", random -> get("/api/events/search?name=koncert"), OK);
+        driver.register("events.scroll", random -> get("/api/events/scroll?size=" + PAGE_SIZE), OK);
+    }
+
+    @Test
+    void replayEventReads() throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        List<LatencyRecorder> recorders = driver.run(
+                System.getProperty("load.mix", MIX), warmupSeconds, durationSeconds, "load-report-events-" + mode);
+
+        assertThat(recorders).allSatisfy(recorder -> assertThat(recorder.errors()).isZero());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.Event_Manager.load;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+// surowe czasy odpowiedzi jednego endpointu; percentyle liczone na koniec z posortowanej tablicy
+class LatencyRecorder {
+
+    private final String name;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized int errors() {
+        return errors;
+    }
+
+    static String header() {
+        return "endpoint,requests,errors,throughput_rps,mean_ms,p50_ms,p90_ms,p99_ms,max_ms";
+    }
+
+    synchronized String summary(double durationSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double mean = count == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+        return String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f",
+                name,
+                count,
+                errors,
+                count / durationSeconds,
+                mean,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.90),
+                percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+    }
+
+    private double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
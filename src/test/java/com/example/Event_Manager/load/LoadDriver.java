@@ -0,0 +1,129 @@
+package com.example.Event_Manager.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+// N watkow klienta losuje operacje wg wag z mixu i mierzy czas kazdego requestu
+class LoadDriver {
+
+    static final IntPredicate OK = status -> status >= 200 && status < 300;
+
+    private record Operation(String name, Function<ThreadLocalRandom, HttpRequest> request, IntPredicate success) {
+    }
+
+    private record WeightedOperation(Operation operation, int weight) {
+    }
+
+    private final HttpClient httpClient;
+    private final int threads;
+    private final Map<String, Operation> operations = new LinkedHashMap<>();
+
+    LoadDriver(HttpClient httpClient, int threads) {
+        this.httpClient = httpClient;
+        this.threads = threads;
+    }
+
+    void register(String name, Function<ThreadLocalRandom, HttpRequest> request, IntPredicate success) {
+        operations.put(name, new Operation(name, request, success));
+    }
+
+    // mix w formacie "nazwa=waga,nazwa=waga"; raport CSV trafia do target/<reportName>.csv
+    List<LatencyRecorder> run(String mix, int warmupSeconds, int durationSeconds, String reportName)
+            throws InterruptedException, IOException {
+        List<WeightedOperation> weights = parseMix(mix);
+
+        execute(weights, warmupSeconds, null);
+
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        weights.forEach(weighted -> recorders.put(weighted.operation().name(), new LatencyRecorder(weighted.operation().name())));
+        long started = System.nanoTime();
+        execute(weights, durationSeconds, recorders);
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        List<String> lines = new ArrayList<>();
+        lines.add(LatencyRecorder.header());
+        recorders.values().forEach(recorder -> lines.add(recorder.summary(elapsedSeconds)));
+        System.out.println(reportName);
+        lines.forEach(System.out::println);
+        Files.createDirectories(Path.of("target"));
+        Files.write(Path.of("target", reportName + ".csv"), lines);
+
+        return List.copyOf(recorders.values());
+    }
+
+    private void execute(List<WeightedOperation> weights, int seconds, Map<String, LatencyRecorder> recorders)
+            throws InterruptedException {
+        int totalWeight = weights.stream().mapToInt(WeightedOperation::weight).sum();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    Operation operation = choose(weights, totalWeight, random);
+                    HttpRequest request = operation.request().apply(random);
+                    long start = System.nanoTime();
+                    boolean success;
+                    try {
+                        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        success = operation.success().test(status);
+                    } catch (IOException e) {
+                        success = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (recorders != null) {
+                        recorders.get(operation.name()).record(System.nanoTime() - start, success);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    private List<WeightedOperation> parseMix(String mix) {
+        List<WeightedOperation> weights = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            Operation operation = operations.get(parts[0]);
+            if (operation == null) {
+                throw new IllegalArgumentException("Unknown operation in load mix: " + parts[0]);
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                weights.add(new WeightedOperation(operation, weight));
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load mix has no operations: " + mix);
+        }
+        return weights;
+    }
+
+    private Operation choose(List<WeightedOperation> weights, int totalWeight, ThreadLocalRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (WeightedOperation weighted : weights) {
+            roll -= weighted.weight();
+            if (roll < 0) {
+                return weighted.operation();
+            }
+        }
+        return weights.get(weights.size() - 1).operation();
+    }
+}
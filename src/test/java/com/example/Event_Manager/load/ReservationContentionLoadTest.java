@@ -0,0 +1,110 @@
+package com.example.Event_Manager.load;
+
+import com.example.Event_Manager.models.event.exceptions.EventCapacityExceededException;
+import com.example.Event_Manager.models.reservation.service.ReservationService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// wszyscy kupujacy na jeden goracy event: liczy przepustowosc warunkowego UPDATE licznika miejsc
+// i sprawdza, ze nie sprzedano ani jednego miejsca ponad pojemnosc
+// mvn -Pload-test test -Dtest=ReservationContentionLoadTest [-Dload.reservation.capacity=20000 -Dload.reservation.buyers=40000]
+public class ReservationContentionLoadTest extends AbstractLoadTest {
+
+    private final int capacity = Integer.getInteger("load.reservation.capacity", 5000);
+    private final int buyers = Integer.getInteger("load.reservation.buyers", 10000);
+    private final int threads = Integer.getInteger("load.threads", 16);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    private Long hotEventId;
+    private List<Long> buyerIds;
+
+    @BeforeAll
+    void setUp() {
+        hotEventId = eventIds.getFirst();
+        jdbcTemplate.update("DELETE FROM reservations WHERE event_id = ?", hotEventId);
+        jdbcTemplate.update("UPDATE events SET status = 'PUBLISHED', capacity = ?, reserved_count = 0, start_time = ?, end_time = ? WHERE id = ?",
+                capacity,
+                Timestamp.valueOf(LocalDateTime.now().plusDays(1)),
+                Timestamp.valueOf(LocalDateTime.now().plusDays(1).plusHours(2)),
+                hotEventId);
+
+        // osobni kupujacy na kazde uruchomienie - unikalny klucz (user_id, event_id) nie moze zanizac wyniku
+        String run = Long.toString(System.nanoTime(), 36);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(buyers);
+        for (int i = 0; i < buyers; i++) {
+            rows.add(new Object[]{"Buyer", "Load", "buyer" + i + "-" + run + "@load.local", run + "-" + i, "x", now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (first_name, last_name, email, phone_number, password, user_type, status, token_version, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, 'ATTENDEE', 'ACTIVE', 0, ?)", rows);
+        buyerIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE phone_number LIKE ? ORDER BY id", Long.class, run + "-%");
+    }
+
+    @Test
+    void reserveHotEvent() throws Exception {
+        LatencyRecorder accepted = new LatencyRecorder("reservations.accepted");
+        LatencyRecorder soldOut = new LatencyRecorder("reservations.sold-out");
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> workers = new ArrayList<>();
+        long began;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = next.getAndIncrement(); i < buyerIds.size(); i = next.getAndIncrement()) {
+                        long requestStart = System.nanoTime();
+                        try {
+                            reservationService.reserve(buyerIds.get(i), hotEventId, 1);
+                            accepted.record(System.nanoTime() - requestStart, true);
+                        } catch (EventCapacityExceededException e) {
+                            soldOut.record(System.nanoTime() - requestStart, true);
+                        } catch (RuntimeException e) {
+                            soldOut.record(System.nanoTime() - requestStart, false);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            began = System.nanoTime();
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - began) / 1_000_000_000.0;
+
+        List<String> lines = new ArrayList<>();
+        lines.add(LatencyRecorder.header());
+        lines.add(accepted.summary(elapsedSeconds));
+        lines.add(soldOut.summary(elapsedSeconds));
+        Files.createDirectories(Path.of("target"));
+        Files.write(Path.of("target", "load-report-reservations.csv"), lines);
+        lines.forEach(System.out::println);
+
+        Integer reserved = jdbcTemplate.queryForObject("SELECT reserved_count FROM events WHERE id = ?", Integer.class, hotEventId);
+        Integer reservations = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservations WHERE event_id = ?", Integer.class, hotEventId);
+
+        assertThat(soldOut.errors()).isZero();
+        assertThat(reserved).isEqualTo(Math.min(capacity, buyers));
+        assertThat(reservations).isEqualTo(reserved);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.Event_Manager.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+public class VirtualThreadEventReadLoadTest extends EventReadLoadTest {
+}
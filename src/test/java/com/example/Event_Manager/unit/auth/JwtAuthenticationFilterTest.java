@@ -0,0 +1,125 @@
+package com.example.Event_Manager.unit.auth;
+
+import com.example.Event_Manager.auth.config.JwtAuthenticationFilter;
+import com.example.Event_Manager.auth.service.TokenVersionRegistry;
+import com.example.Event_Manager.auth.util.JwtUtil;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.enums.Role;
+import com.example.Event_Manager.models.user.enums.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Jwt Authentication Filter Tests")
+public class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3Itand0LXV0aWwtdGVzdHMtdGhhdC1pcy1sb25nLWVub3VnaA==";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "tokenCacheMaxSize", 100L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        user = User.builder()
+                .id(7L)
+                .email("jan@gmail.com")
+                .role(Role.ATTENDEE)
+                .status(Status.ACTIVE)
+                .tokenVersion(1)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private JwtAuthenticationFilter filter(boolean stateless) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenVersionRegistry);
+        ReflectionTestUtils.setField(filter, "stateless", stateless);
+        return filter;
+    }
+
+    private Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    @DisplayName("Should authenticate from token claims without loading user in stateless mode")
+    void shouldAuthenticateFromClaims_InStatelessMode() throws Exception {
+        //Given
+        String token = jwtUtil.generateToken(user);
+        when(tokenVersionRegistry.isCurrent(7L, 1)).thenReturn(true);
+
+        //When
+        Authentication authentication = authenticate(filter(true), token);
+
+        //Then
+        assertNotNull(authentication);
+        User principal = (User) authentication.getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("ROLE_ATTENDEE", authentication.getAuthorities().iterator().next().getAuthority());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Should load user from database when stateless mode is disabled")
+    void shouldLoadUser_WhenStatelessModeIsDisabled() throws Exception {
+        //Given
+        String token = jwtUtil.generateToken(user);
+        when(userDetailsService.loadUserByUsername("jan@gmail.com")).thenReturn(user);
+        when(tokenVersionRegistry.isCurrent(7L, 1)).thenReturn(true);
+
+        //When
+        Authentication authentication = authenticate(filter(false), token);
+
+        //Then
+        assertSame(user, authentication.getPrincipal());
+        verify(userDetailsService).loadUserByUsername("jan@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Should not authenticate token with revoked version")
+    void shouldNotAuthenticate_WhenTokenVersionIsRevoked() throws Exception {
+        //Given
+        String token = jwtUtil.generateToken(user);
+        when(tokenVersionRegistry.isCurrent(7L, 1)).thenReturn(false);
+
+        //When
+        Authentication authentication = authenticate(filter(true), token);
+
+        //Then
+        assertNull(authentication);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+}
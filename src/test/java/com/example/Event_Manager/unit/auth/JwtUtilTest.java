@@ -0,0 +1,120 @@
+package com.example.Event_Manager.unit.auth;
+
+import com.example.Event_Manager.auth.util.JwtUtil;
+import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.enums.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Jwt Util Tests")
+public class JwtUtilTest {
+
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3Itand0LXV0aWwtdGVzdHMtdGhhdC1pcy1sb25nLWVub3VnaA==";
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = createJwtUtil(60_000);
+        user = User.builder().id(1L).email("jan@gmail.com").role(Role.ORGANIZER).tokenVersion(2).build();
+    }
+
+    private JwtUtil createJwtUtil(long expiration) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secretKey", SECRET);
+        ReflectionTestUtils.setField(util, "jwtExpiration", expiration);
+        ReflectionTestUtils.setField(util, "tokenCacheMaxSize", 100L);
+        ReflectionTestUtils.invokeMethod(util, "init");
+        return util;
+    }
+
+    @Test
+    @DisplayName("Should validate token and extract username on repeated calls")
+    void shouldValidateToken_OnRepeatedCalls() {
+        //Given
+        String token = jwtUtil.generateToken(user);
+
+        //When & Then
+        for (int i = 0; i < 3; i++) {
+            assertEquals("jan@gmail.com", jwtUtil.extractUsername(token));
+            assertTrue(jwtUtil.isTokenValid(token, user));
+        }
+    }
+
+    @Test
+    @DisplayName("Should build principal from token claims")
+    void shouldBuildPrincipal_FromClaims() {
+        //Given
+        String token = jwtUtil.generateToken(user);
+
+        //When
+        User principal = jwtUtil.extractPrincipal(token);
+
+        //Then
+        assertEquals(1L, principal.getId());
+        assertEquals("jan@gmail.com", principal.getUsername());
+        assertEquals(Role.ORGANIZER, principal.getRole());
+        assertEquals(2, principal.getTokenVersion());
+        assertEquals(2, jwtUtil.extractTokenVersion(token));
+        assertEquals("ROLE_ORGANIZER", principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    @DisplayName("Should not build principal from token without user claims")
+    void shouldNotBuildPrincipal_WhenClaimsAreMissing() {
+        //Given
+        UserDetails userDetails = org.springframework.security.core.userdetails.User
+                .withUsername("jan@gmail.com")
+                .password("password")
+                .roles("ATTENDEE")
+                .build();
+        String token = jwtUtil.generateToken(userDetails);
+
+        //When & Then
+        assertNull(jwtUtil.extractPrincipal(token));
+        assertNull(jwtUtil.extractTokenVersion(token));
+    }
+
+    @Test
+    @DisplayName("Should not validate token for another user")
+    void shouldNotValidateToken_ForAnotherUser() {
+        //Given
+        String token = jwtUtil.generateToken(user);
+        User anotherUser = User.builder().id(2L).email("anna@gmail.com").role(Role.ATTENDEE).build();
+
+        //When & Then
+        assertFalse(jwtUtil.isTokenValid(token, anotherUser));
+    }
+
+    @Test
+    @DisplayName("Should reject tampered token even when original token is cached")
+    void shouldRejectTamperedToken_WhenOriginalIsCached() {
+        //Given
+        String token = jwtUtil.generateToken(user);
+        jwtUtil.extractUsername(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        //When & Then
+        assertThrows(SignatureException.class, () -> jwtUtil.extractUsername(tampered));
+    }
+
+    @Test
+    @DisplayName("Should reject expired token")
+    void shouldRejectExpiredToken() {
+        //Given
+        JwtUtil expiringUtil = createJwtUtil(-1_000);
+        String token = expiringUtil.generateToken(user);
+
+        //When & Then
+        assertThrows(ExpiredJwtException.class, () -> expiringUtil.extractUsername(token));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.Event_Manager.unit.auth;
+
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.auth.repository.UserTokenVersionView;
+import com.example.Event_Manager.auth.service.TokenVersionRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Version Registry Tests")
+public class TokenVersionRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @InjectMocks
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    private UserTokenVersionView view(Long userId, int tokenVersion) {
+        UserTokenVersionView view = mock(UserTokenVersionView.class);
+        when(view.getUserId()).thenReturn(userId);
+        when(view.getTokenVersion()).thenReturn(tokenVersion);
+        return view;
+    }
+
+    @Test
+    @DisplayName("Should accept version 0 and tokens without version for users that never revoked tokens")
+    void shouldAcceptDefaultVersion_WhenUserNeverRevoked() {
+        //Given
+        when(userRepository.findRevokedTokenVersions()).thenReturn(List.of());
+        ReflectionTestUtils.invokeMethod(tokenVersionRegistry, "load");
+
+        //When & Then
+        assertTrue(tokenVersionRegistry.isCurrent(1L, 0));
+        assertTrue(tokenVersionRegistry.isCurrent(1L, null));
+        assertFalse(tokenVersionRegistry.isCurrent(1L, 1));
+    }
+
+    @Test
+    @DisplayName("Should load revoked versions on startup")
+    void shouldLoadRevokedVersions_OnStartup() {
+        //Given
+        List<UserTokenVersionView> views = List.of(view(1L, 3));
+        when(userRepository.findRevokedTokenVersions()).thenReturn(views);
+
+        //When
+        ReflectionTestUtils.invokeMethod(tokenVersionRegistry, "load");
+
+        //Then
+        assertTrue(tokenVersionRegistry.isCurrent(1L, 3));
+        assertFalse(tokenVersionRegistry.isCurrent(1L, 2));
+        assertFalse(tokenVersionRegistry.isCurrent(1L, null));
+    }
+
+    @Test
+    @DisplayName("Should reject old tokens right after revoke outside transaction")
+    void shouldRejectOldTokens_AfterRevoke() {
+        //Given
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(1));
+
+        //When
+        tokenVersionRegistry.revoke(1L);
+
+        //Then
+        verify(userRepository).incrementTokenVersion(1L);
+        assertFalse(tokenVersionRegistry.isCurrent(1L, 0));
+        assertTrue(tokenVersionRegistry.isCurrent(1L, 1));
+    }
+
+    @Test
+    @DisplayName("Should apply revoke only after transaction commit")
+    void shouldApplyRevoke_OnlyAfterCommit() {
+        //Given
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(1));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //When
+            tokenVersionRegistry.revoke(1L);
+
+            //Then
+            assertTrue(tokenVersionRegistry.isCurrent(1L, 0));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertFalse(tokenVersionRegistry.isCurrent(1L, 0));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.example.Event_Manager.models.category.mapper.CategoryMapper;
 import com.example.Event_Manager.models.category.repository.CategoryRepository;
 import com.example.Event_Manager.models.category.service.CategoryService;
 import com.example.Event_Manager.models.category.validation.CategoryValidation;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +37,9 @@ public class UpdateCategoryTest {
     @Mock
     private CategoryValidation categoryValidation;
 
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -82,6 +86,7 @@ public class UpdateCategoryTest {
         verify(categoryMapper).updateEntity(existingCategory, updateDTO);
         verify(categoryRepository).save(existingCategory);
         verify(categoryMapper).toDTO(updatedCategory);
+        verify(eventSearchIndex).reindexCategory(categoryId);
     }
 
     @Test
@@ -10,6 +10,7 @@ import com.example.Event_Manager.models.country.Country;
 import com.example.Event_Manager.models.country.dto.response.CountryDTO;
 import com.example.Event_Manager.models.country.exceptions.CountryNotFoundException;
 import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +36,9 @@ public class CreateCityTest {
     @Mock
     private CityMapper cityMapper;
 
+    @Mock
+    private GeoCatalogue geoCatalogue;
+
     @InjectMocks
     private CityService cityService;
 
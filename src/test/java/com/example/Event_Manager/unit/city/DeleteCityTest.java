@@ -5,6 +5,7 @@ import com.example.Event_Manager.models.city.exceptions.CityNotFoundException;
 import com.example.Event_Manager.models.city.repository.CityRepository;
 import com.example.Event_Manager.models.city.service.CityService;
 import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +25,9 @@ public class DeleteCityTest {
     @Mock
     private CityRepository cityRepository;
 
+    @Mock
+    private GeoCatalogue geoCatalogue;
+
     @InjectMocks
     private CityService cityService;
 
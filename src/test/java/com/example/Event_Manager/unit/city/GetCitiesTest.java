@@ -1,11 +1,10 @@
 package com.example.Event_Manager.unit.city;
 
-import com.example.Event_Manager.models.city.City;
 import com.example.Event_Manager.models.city.dto.response.CityDTO;
 import com.example.Event_Manager.models.city.mapper.CityMapper;
+import com.example.Event_Manager.models.city.repository.CityListView;
 import com.example.Event_Manager.models.city.repository.CityRepository;
 import com.example.Event_Manager.models.city.service.CityService;
-import com.example.Event_Manager.models.country.Country;
 import com.example.Event_Manager.models.country.dto.response.CountryDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,8 +13,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -26,30 +31,27 @@ import static org.mockito.Mockito.*;
 @DisplayName("Unit Tests for Getting All Cities")
 public class GetCitiesTest {
 
+    private static final int MAX_LIST_RESULTS = 500;
+    private static final Sort LIST_SORT = Sort.by("id");
+    private static final Limit LIST_LIMIT = Limit.of(MAX_LIST_RESULTS);
+
     @Mock
     private CityRepository cityRepository;
 
     @Mock
     private CityMapper cityMapper;
 
+    @Mock
+    private CityListView city;
+
     @InjectMocks
     private CityService cityService;
 
-    private City city;
     private CityDTO cityDTO;
 
     @BeforeEach
     void setUp() {
-        Country country = Country.builder()
-                .code("PL")
-                .name("Poland")
-                .build();
-
-        city = City.builder()
-                .id(1L)
-                .name("Warsaw")
-                .country(country)
-                .build();
+        ReflectionTestUtils.setField(cityService, "maxListResults", MAX_LIST_RESULTS);
 
         cityDTO = new CityDTO(
                 1L,
@@ -59,57 +61,54 @@ public class GetCitiesTest {
     }
 
     @Test
-    @DisplayName("Should return list of cities when cities exist")
-    void getAll_whenCitiesExist_returnsCityList() {
-        when(cityRepository.findAll()).thenReturn(List.of(city));
-        when(cityMapper.toDTO(city)).thenReturn(cityDTO);
+    @DisplayName("Should return list of cities capped at the configured maximum")
+    void getAll_whenCitiesExist_returnsCappedCityList() {
+        when(cityRepository.findListItems(null, LIST_SORT, LIST_LIMIT)).thenReturn(List.of(city));
+        when(cityMapper.toListItemDTO(city)).thenReturn(cityDTO);
 
         List<CityDTO> result = cityService.getAll(null, null);
 
         assertEquals(1, result.size());
         assertEquals(cityDTO, result.getFirst());
-        verify(cityRepository).findAll();
-        verify(cityMapper).toDTO(city);
+        verify(cityRepository).findListItems(null, LIST_SORT, LIST_LIMIT);
+        verify(cityMapper).toListItemDTO(city);
     }
 
     @Test
     @DisplayName("Should return empty list when no cities exist")
     void getAll_whenNoCitiesExist_returnsEmptyList() {
-        when(cityRepository.findAll()).thenReturn(Collections.emptyList());
+        when(cityRepository.findListItems(null, LIST_SORT, LIST_LIMIT)).thenReturn(List.of());
 
         List<CityDTO> result = cityService.getAll(null, null);
 
         assertTrue(result.isEmpty());
-        verify(cityRepository).findAll();
-        verify(cityMapper, never()).toDTO(any());
+        verify(cityMapper, never()).toListItemDTO(any());
     }
 
     @Test
     @DisplayName("Should return filtered list when name parameter is provided")
     void getAll_withNameFilter_returnsFilteredCityList() {
         String nameFilter = "War";
-        when(cityRepository.findByNameContainingIgnoreCase(nameFilter)).thenReturn(List.of(city));
-        when(cityMapper.toDTO(city)).thenReturn(cityDTO);
+        when(cityRepository.findListItems(nameFilter, LIST_SORT, LIST_LIMIT)).thenReturn(List.of(city));
+        when(cityMapper.toListItemDTO(city)).thenReturn(cityDTO);
 
         List<CityDTO> result = cityService.getAll(nameFilter, null);
 
         assertEquals(1, result.size());
         assertEquals(cityDTO, result.getFirst());
-        verify(cityRepository).findByNameContainingIgnoreCase(nameFilter);
-        verify(cityMapper).toDTO(city);
+        verify(cityRepository).findListItems(nameFilter, LIST_SORT, LIST_LIMIT);
     }
 
     @Test
-    @DisplayName("Should return empty list when no cities match the filter")
-    void getAll_withNameFilterNoMatch_returnsEmptyList() {
-        String nameFilter = "Berlin";
-        when(cityRepository.findByNameContainingIgnoreCase(nameFilter)).thenReturn(Collections.emptyList());
+    @DisplayName("Should treat a blank name as no filter")
+    void getAll_withBlankName_returnsUnfilteredCityList() {
+        when(cityRepository.findListItems(null, LIST_SORT, LIST_LIMIT)).thenReturn(List.of());
 
-        List<CityDTO> result = cityService.getAll(nameFilter, null);
+        List<CityDTO> result = cityService.getAll("  ", List.of());
 
         assertTrue(result.isEmpty());
-        verify(cityRepository).findByNameContainingIgnoreCase(nameFilter);
-        verify(cityMapper, never()).toDTO(any());
+        verify(cityRepository).findListItems(null, LIST_SORT, LIST_LIMIT);
+        verify(cityRepository, never()).findListItemsByCountries(any(), any(), any(Sort.class), any(Limit.class));
     }
 
     @Test
@@ -117,33 +116,32 @@ public class GetCitiesTest {
     void getAll_withCountriesFilter_returnsFilteredCityList() {
         List<String> countriesFilter = List.of("PL", "DE");
 
-        when(cityRepository.findByCountry_CodeIn(countriesFilter)).thenReturn(List.of(city));
-        when(cityMapper.toDTO(city)).thenReturn(cityDTO);
+        when(cityRepository.findListItemsByCountries(null, countriesFilter, LIST_SORT, LIST_LIMIT))
+                .thenReturn(List.of(city));
+        when(cityMapper.toListItemDTO(city)).thenReturn(cityDTO);
 
         List<CityDTO> result = cityService.getAll(null, countriesFilter);
 
         assertEquals(1, result.size());
         assertEquals(cityDTO, result.getFirst());
-        verify(cityRepository).findByCountry_CodeIn(countriesFilter);
-        verify(cityMapper).toDTO(city);
+        verify(cityRepository).findListItemsByCountries(null, countriesFilter, LIST_SORT, LIST_LIMIT);
     }
 
     @Test
-    @DisplayName("Should return filtered list when both name and countries parameters are provided")
-    void getAll_withNameAndCountriesFilter_returnsFilteredCityList() {
+    @DisplayName("Should return requested page when both name and countries parameters are provided")
+    void getPage_withNameAndCountriesFilter_returnsFilteredPage() {
         String nameFilter = "War";
         List<String> countriesFilter = List.of("PL");
+        Pageable pageable = PageRequest.of(2, 20, Sort.by("name"));
 
-        when(cityRepository.findByNameContainingIgnoreCaseAndCountry_CodeIn(nameFilter, countriesFilter))
-                .thenReturn(List.of(city));
-        when(cityMapper.toDTO(city)).thenReturn(cityDTO);
+        when(cityRepository.findListItemsByCountries(nameFilter, countriesFilter, pageable))
+                .thenReturn(new PageImpl<>(List.of(city), pageable, 41));
+        when(cityMapper.toListItemDTO(city)).thenReturn(cityDTO);
 
-        List<CityDTO> result = cityService.getAll(nameFilter, countriesFilter);
+        Page<CityDTO> result = cityService.getPage(nameFilter, countriesFilter, pageable);
 
-        assertEquals(1, result.size());
-        assertEquals(cityDTO, result.getFirst());
-        verify(cityRepository).findByNameContainingIgnoreCaseAndCountry_CodeIn(nameFilter, countriesFilter);
-        verify(cityMapper).toDTO(city);
+        assertEquals(List.of(cityDTO), result.getContent());
+        assertEquals(41, result.getTotalElements());
+        verify(cityRepository).findListItemsByCountries(nameFilter, countriesFilter, pageable);
     }
 }
-
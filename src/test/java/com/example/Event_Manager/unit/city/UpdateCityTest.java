@@ -11,6 +11,8 @@ import com.example.Event_Manager.models.country.Country;
 import com.example.Event_Manager.models.country.dto.response.CountryDTO;
 import com.example.Event_Manager.models.country.exceptions.CountryNotFoundException;
 import com.example.Event_Manager.models.country.repository.CountryRepository;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,6 +39,12 @@ public class UpdateCityTest {
     @Mock
     private CityMapper cityMapper;
 
+    @Mock
+    private GeoCatalogue geoCatalogue;
+
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
     @InjectMocks
     private CityService cityService;
 
@@ -75,6 +83,8 @@ public class UpdateCityTest {
         verify(cityMapper).updateEntity(city, updateCityDTO, country);
         verify(cityRepository).save(city);
         verify(cityMapper).toDTO(city);
+        verify(eventSearchIndex).reindexCity(cityId);
+        verify(geoCatalogue).refresh();
     }
 
     @Test
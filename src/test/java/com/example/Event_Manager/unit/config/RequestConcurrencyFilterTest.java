@@ -0,0 +1,95 @@
+package com.example.Event_Manager.unit.config;
+
+import com.example.Event_Manager.config.RequestConcurrencyFilter;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Request Concurrency Filter Unit Test")
+public class RequestConcurrencyFilterTest {
+
+    private final RequestConcurrencyFilter filter = new RequestConcurrencyFilter(1, Duration.ofMillis(50));
+
+    @Test
+    @DisplayName("Should reject a request with 503 while the only slot is taken and admit it again once released")
+    void doFilter_whenLimitReached_returnsServiceUnavailable() throws Exception {
+        //Given
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MockFilterChain blockingChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                inside.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> first = executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), blockingChain);
+                return null;
+            });
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            //When
+            MockHttpServletResponse rejected = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest(), rejected, new MockFilterChain());
+            release.countDown();
+            first.get();
+
+            //Then
+            assertEquals(503, rejected.getStatus());
+            assertEquals("1", rejected.getHeader("Retry-After"));
+        }
+
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), admitted, new MockFilterChain());
+        assertEquals(200, admitted.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should keep the slot of an async request until the async processing completes")
+    void doFilter_whenAsyncStarted_releasesOnCompletion() throws Exception {
+        //Given
+        MockHttpServletRequest asyncRequest = new MockHttpServletRequest();
+        asyncRequest.setAsyncSupported(true);
+        MockFilterChain startingAsync = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                request.startAsync();
+            }
+        };
+        filter.doFilter(asyncRequest, new MockHttpServletResponse(), startingAsync);
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), rejected, new MockFilterChain());
+        assertEquals(503, rejected.getStatus());
+
+        //When
+        ((MockAsyncContext) asyncRequest.getAsyncContext()).complete();
+
+        //Then
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), admitted, new MockFilterChain());
+        assertEquals(200, admitted.getStatus());
+    }
+}
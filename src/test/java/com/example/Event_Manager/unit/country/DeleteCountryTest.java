@@ -4,6 +4,7 @@ import com.example.Event_Manager.models.country.Country;
 import com.example.Event_Manager.models.country.exceptions.CountryNotFoundException;
 import com.example.Event_Manager.models.country.repository.CountryRepository;
 import com.example.Event_Manager.models.country.service.CountryService;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,9 @@ public class DeleteCountryTest {
     @Mock
     private CountryRepository countryRepository;
 
+    @Mock
+    private GeoCatalogue geoCatalogue;
+
     @InjectMocks
     private CountryService countryService;
 
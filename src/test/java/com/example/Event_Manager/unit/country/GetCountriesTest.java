@@ -12,6 +12,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +28,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("Unit Tests for Getting All Countries")
 public class GetCountriesTest {
 
+    private static final Pageable CAPPED_LIST = PageRequest.of(0, 500, Sort.by("code"));
+
     @Mock
     private CountryRepository countryRepository;
 
@@ -38,6 +44,8 @@ public class GetCountriesTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(countryService, "maxListResults", 500);
+
         country = Country.builder()
                 .code("PL")
                 .name("Poland")
@@ -49,26 +57,26 @@ public class GetCountriesTest {
     @Test
     @DisplayName("Should return list of countries when countries exist")
     void getAll_whenCountriesExist_returnsCountryList() {
-        when(countryRepository.findAll()).thenReturn(List.of(country));
+        when(countryRepository.findAllBy(CAPPED_LIST)).thenReturn(List.of(country));
         when(countryMapper.toDTO(country)).thenReturn(countryDTO);
 
         List<CountryDTO> result = countryService.getAll();
 
         assertEquals(1, result.size());
         assertEquals(countryDTO, result.getFirst());
-        verify(countryRepository).findAll();
+        verify(countryRepository).findAllBy(CAPPED_LIST);
         verify(countryMapper).toDTO(country);
     }
 
     @Test
     @DisplayName("Should return empty list when no countries exist")
     void getAll_whenNoCountriesExist_returnsEmptyList() {
-        when(countryRepository.findAll()).thenReturn(Collections.emptyList());
+        when(countryRepository.findAllBy(CAPPED_LIST)).thenReturn(Collections.emptyList());
 
         List<CountryDTO> result = countryService.getAll();
 
         assertTrue(result.isEmpty());
-        verify(countryRepository).findAll();
+        verify(countryRepository).findAllBy(CAPPED_LIST);
         verify(countryMapper, never()).toDTO(any());
     }
 }
@@ -7,6 +7,7 @@ import com.example.Event_Manager.models.country.exceptions.CountryNotFoundExcept
 import com.example.Event_Manager.models.country.mapper.CountryMapper;
 import com.example.Event_Manager.models.country.repository.CountryRepository;
 import com.example.Event_Manager.models.country.service.CountryService;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +31,9 @@ public class UpdateCountryTest {
     @Mock
     private CountryMapper countryMapper;
 
+    @Mock
+    private GeoCatalogue geoCatalogue;
+
     @InjectMocks
     private CountryService countryService;
 
@@ -10,8 +10,10 @@ import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
 import com.example.Event_Manager.models.event.dto.response.EventDTO;
 import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.lifecycle.EventLifecycle;
 import com.example.Event_Manager.models.event.mapper.EventMapper;
 import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
 import com.example.Event_Manager.models.event.validation.EventValidation;
 import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.venue.Venue;
@@ -61,6 +63,12 @@ public class CreateEventTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private EventLifecycle eventLifecycle;
+
     @InjectMocks
     private EventService eventService;
 
@@ -169,6 +177,8 @@ public class CreateEventTest {
         verify(venueValidation).checkIfObjectExist(venue);
         verify(eventMapper).toEntity(validCreateEventDTO, category, venue);
         verify(eventRepository).save(event);
+        verify(eventSearchIndex).index(event);
+        verify(eventLifecycle).schedule(event);
         verify(eventMapper).toDTO(event);
     }
 
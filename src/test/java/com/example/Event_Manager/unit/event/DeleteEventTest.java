@@ -7,8 +7,10 @@ import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.enums.Status;
 import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
 import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
 import com.example.Event_Manager.models.event.service.EventService;
 import com.example.Event_Manager.models.event.validation.EventValidation;
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
 import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.user.enums.Role;
 import com.example.Event_Manager.models.venue.Venue;
@@ -38,6 +40,12 @@ public class DeleteEventTest {
     @Mock
     private EventValidation eventValidation;
 
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private EventRatingBucketRepository eventRatingBucketRepository;
+
     @InjectMocks
     private EventService eventService;
 
@@ -116,7 +124,9 @@ public class DeleteEventTest {
         // Then
         verify(eventValidation).checkIfIdValid(eventId);
         verify(eventRepository).existsById(eventId);
+        verify(eventRatingBucketRepository).deleteByEventId(eventId);
         verify(eventRepository).deleteById(eventId);
+        verify(eventSearchIndex).remove(eventId);
     }
 
     @Test
@@ -0,0 +1,123 @@
+package com.example.Event_Manager.unit.event;
+
+import com.example.Event_Manager.models.event.dto.request.CreateEventDTO;
+import com.example.Event_Manager.models.event.exceptions.InvalidEventImportException;
+import com.example.Event_Manager.models.event.importing.CsvEventImportReader;
+import com.example.Event_Manager.models.event.importing.EventImportReader;
+import com.example.Event_Manager.models.event.importing.EventImportRow;
+import com.example.Event_Manager.models.event.importing.JsonEventImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Event Import Reader Unit Test")
+public class EventImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("Should read JSON array element by element and report rows that cannot be mapped")
+    void jsonReader_shouldReadRowsAndReportInvalidValues() throws IOException {
+        //Given
+        String json = """
+                [
+                  {"name": "Koncert", "description": "Opis", "startDate": "2030-05-01T18:00:00",
+                   "endDate": "2030-05-01T20:00:00", "venueId": 1, "categoryId": 2},
+                  {"name": "Zly termin", "startDate": "jutro", "venueId": 1, "categoryId": 2},
+                  42
+                ]
+                """;
+
+        //When
+        List<EventImportRow> rows = readAll(new JsonEventImportReader(objectMapper, body(json)));
+
+        //Then
+        assertEquals(3, rows.size());
+        assertEquals(new CreateEventDTO("Koncert", "Opis", LocalDateTime.of(2030, 5, 1, 18, 0),
+                LocalDateTime.of(2030, 5, 1, 20, 0), 1L, 2L), rows.get(0).event());
+        assertEquals(2, rows.get(1).row());
+        assertNull(rows.get(1).event());
+        assertTrue(rows.get(1).error().startsWith("Invalid value"));
+        assertEquals("Event must be a JSON object.", rows.get(2).error());
+    }
+
+    @Test
+    @DisplayName("Should stop at malformed JSON and report the row where it broke")
+    void jsonReader_shouldStopAtMalformedJson() throws IOException {
+        //Given
+        String json = "[{\"name\": \"Koncert\", \"venueId\": 1}, {\"name\": ";
+
+        //When
+        List<EventImportRow> rows = readAll(new JsonEventImportReader(objectMapper, body(json)));
+
+        //Then
+        assertEquals(2, rows.size());
+        assertEquals("Koncert", rows.get(0).event().name());
+        assertTrue(rows.get(1).error().startsWith("Malformed JSON"));
+    }
+
+    @Test
+    @DisplayName("Should reject JSON body that is not an array")
+    void jsonReader_shouldThrow_whenBodyIsNotArray() {
+        assertThrows(InvalidEventImportException.class,
+                () -> new JsonEventImportReader(objectMapper, body("{\"name\": \"Koncert\"}")));
+    }
+
+    @Test
+    @DisplayName("Should map CSV columns by header and handle quoted fields")
+    void csvReader_shouldReadRowsByHeader() throws IOException {
+        //Given
+        String csv = """
+                categoryId,venueId,name,description,startDate,endDate\r
+                2,1,"Koncert, na zywo","Opis ""specjalny""
+                w dwoch liniach",2030-05-01T18:00:00,2030-05-01T20:00:00\r
+
+                2,1,Bez opisu,,2030-05-02T18:00:00,2030-05-02T20:00:00
+                x,1,Zly,,2030-05-02T18:00:00,2030-05-02T20:00:00
+                """;
+
+        //When
+        List<EventImportRow> rows = readAll(new CsvEventImportReader(body(csv)));
+
+        //Then
+        assertEquals(3, rows.size());
+        assertEquals(new CreateEventDTO("Koncert, na zywo", "Opis \"specjalny\"\nw dwoch liniach",
+                LocalDateTime.of(2030, 5, 1, 18, 0), LocalDateTime.of(2030, 5, 1, 20, 0), 1L, 2L), rows.get(0).event());
+        assertNull(rows.get(1).event().description());
+        assertEquals(3, rows.get(2).row());
+        assertEquals("Invalid value in column categoryId: x", rows.get(2).error());
+    }
+
+    @Test
+    @DisplayName("Should reject CSV without required header columns")
+    void csvReader_shouldThrow_whenHeaderIsIncomplete() {
+        InvalidEventImportException exception = assertThrows(InvalidEventImportException.class,
+                () -> new CsvEventImportReader(body("name,description,venueId\nKoncert,Opis,1\n")));
+
+        assertEquals("CSV header is missing columns: startDate, endDate, categoryId", exception.getMessage());
+    }
+
+    private List<EventImportRow> readAll(EventImportReader reader) throws IOException {
+        List<EventImportRow> rows = new ArrayList<>();
+        EventImportRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.Event_Manager.unit.event;
+
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.city.City;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.search.EventSearchHits;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
+import com.example.Event_Manager.models.event.search.EventSearchQuery;
+import com.example.Event_Manager.models.venue.Venue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for the Event search index")
+public class EventSearchIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @InjectMocks
+    private EventSearchIndex eventSearchIndex;
+
+    private Pageable pageable;
+    private Category music;
+    private Category sport;
+    private City warszawa;
+    private City lodz;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(eventSearchIndex, "maxPrefixExpansions", 256);
+        ReflectionTestUtils.setField(eventSearchIndex, "reindexDelay", Duration.ofSeconds(1));
+        pageable = PageRequest.of(0, 10);
+        music = Category.builder().id(1L).name("Muzyka").build();
+        sport = Category.builder().id(2L).name("Sport").build();
+        warszawa = City.builder().id(1L).name("Warszawa").build();
+        lodz = City.builder().id(2L).name("Łódź").build();
+
+        eventSearchIndex.index(event(1L, "Koncert jazzowy", "Wieczór z jazzem", music, warszawa, 5));
+        eventSearchIndex.index(event(2L, "Mecz piłki nożnej", "Ekscytujący koncert kibiców", sport, lodz, 3));
+        eventSearchIndex.index(event(3L, "Super koncert rockowy", "Niesamowity wieczór", music, lodz, 10));
+    }
+
+    @Test
+    void search_NameMatchesRankAboveDescriptionMatches() {
+        // When
+        EventSearchHits hits = eventSearchIndex.search(query("koncert"), pageable);
+
+        // Then
+        assertEquals(3, hits.totalHits());
+        assertEquals(2L, hits.eventIds().get(2));
+    }
+
+    @Test
+    void search_MatchesWordPrefixes() {
+        // When
+        EventSearchHits hits = eventSearchIndex.search(query("jaz"), pageable);
+
+        // Then
+        assertEquals(List.of(1L), hits.eventIds());
+    }
+
+    @Test
+    void search_IgnoresCaseAndDiacritics() {
+        // When
+        EventSearchHits hits = eventSearchIndex.search(query("LODZ"), pageable);
+
+        // Then
+        assertEquals(2, hits.totalHits());
+        assertTrue(hits.eventIds().containsAll(List.of(2L, 3L)));
+    }
+
+    @Test
+    void search_RequiresEveryWordToMatch() {
+        // When
+        EventSearchHits hits = eventSearchIndex.search(query("koncert muzyka wieczor"), pageable);
+
+        // Then
+        assertEquals(2, hits.totalHits());
+        assertFalse(hits.eventIds().contains(2L));
+    }
+
+    @Test
+    void search_AppliesCategoryCityAndDateFilters() {
+        // When
+        EventSearchHits byCategory = eventSearchIndex.search(
+                new EventSearchQuery("koncert", 1L, null, null, null), pageable);
+        EventSearchHits byCity = eventSearchIndex.search(
+                new EventSearchQuery("koncert", null, 2L, null, null), pageable);
+        EventSearchHits byDate = eventSearchIndex.search(
+                new EventSearchQuery("koncert", null, null, LocalDateTime.now().plusDays(4), LocalDateTime.now().plusDays(6)), pageable);
+
+        // Then
+        assertEquals(2, byCategory.totalHits());
+        assertFalse(byCategory.eventIds().contains(2L));
+        assertEquals(2, byCity.totalHits());
+        assertFalse(byCity.eventIds().contains(1L));
+        assertEquals(List.of(1L), byDate.eventIds());
+    }
+
+    @Test
+    void search_PaginatesRankedResults() {
+        // When
+        EventSearchHits hits = eventSearchIndex.search(query("koncert"), PageRequest.of(1, 2));
+
+        // Then
+        assertEquals(3, hits.totalHits());
+        assertEquals(List.of(2L), hits.eventIds());
+    }
+
+    @Test
+    void index_UpdatedEventReplacesOldTerms() {
+        // When
+        eventSearchIndex.index(event(1L, "Festiwal filmowy", "Kino pod chmurką", music, warszawa, 5));
+
+        // Then
+        assertEquals(0, eventSearchIndex.search(query("jazzowy"), pageable).totalHits());
+        assertEquals(List.of(1L), eventSearchIndex.search(query("festiwal"), pageable).eventIds());
+        assertEquals(3, eventSearchIndex.size());
+    }
+
+    @Test
+    void remove_DeletedEventIsNoLongerFound() {
+        // When
+        eventSearchIndex.remove(3L);
+
+        // Then
+        assertEquals(0, eventSearchIndex.search(query("rockowy"), pageable).totalHits());
+        assertEquals(2, eventSearchIndex.size());
+    }
+
+    @Test
+    void reindexCity_RenamedCityIsFoundUnderNewName() {
+        // Given
+        City renamed = City.builder().id(2L).name("Kraków").build();
+        List<Event> events = List.of(
+                event(2L, "Mecz piłki nożnej", "Ekscytujący koncert kibiców", sport, renamed, 3),
+                event(3L, "Super koncert rockowy", "Niesamowity wieczór", music, renamed, 10));
+        when(eventRepository.findByVenue_City_Id(eq(2L), any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(events, ScrollPosition::offset));
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+
+        // When - reindeks idzie na scheduler, druga zmiana przed jego startem nie planuje kolejnego
+        eventSearchIndex.reindexCity(2L);
+        eventSearchIndex.reindexCity(2L);
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+        task.getValue().run();
+
+        // Then
+        assertEquals(0, eventSearchIndex.search(query("lodz"), pageable).totalHits());
+        assertEquals(2, eventSearchIndex.search(query("krakow"), pageable).totalHits());
+        assertEquals(3, eventSearchIndex.size());
+    }
+
+    @Test
+    void search_PrefixMatchingMoreTermsThanCap_KeepsShortestTerms() {
+        // Given
+        ReflectionTestUtils.setField(eventSearchIndex, "maxPrefixExpansions", 1);
+        eventSearchIndex.index(event(4L, "Koncertmistrzowie", "Opis", music, warszawa, 5));
+
+        // When - "konc" rozwija sie do "koncert", "koncertmistrzowie" i "koncertowy"...; zostaje tylko najkrotszy
+        EventSearchHits hits = eventSearchIndex.search(query("konc"), pageable);
+
+        // Then
+        assertEquals(3, hits.totalHits());
+        assertFalse(hits.eventIds().contains(4L));
+    }
+
+    @Test
+    void evict_RemovesStaleDocuments() {
+        // When
+        eventSearchIndex.evict(List.of(1L, 2L));
+
+        // Then
+        assertEquals(1, eventSearchIndex.size());
+        assertEquals(List.of(3L), eventSearchIndex.search(query("koncert"), pageable).eventIds());
+    }
+
+    @Test
+    void search_BlankQuery_ReturnsNoHits() {
+        // When
+        EventSearchHits hits = eventSearchIndex.search(query("  "), pageable);
+
+        // Then
+        assertEquals(0, hits.totalHits());
+    }
+
+    private EventSearchQuery query(String text) {
+        return new EventSearchQuery(text, null, null, null, null);
+    }
+
+    private Event event(Long id, String name, String description, Category category, City city, int daysAhead) {
+        Venue venue = Venue.builder().id(id).name("Sala " + id).city(city).build();
+        return Event.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .startTime(Timestamp.valueOf(LocalDateTime.now().plusDays(daysAhead)))
+                .status(Status.PUBLISHED)
+                .category(category)
+                .venue(venue)
+                .build();
+    }
+}
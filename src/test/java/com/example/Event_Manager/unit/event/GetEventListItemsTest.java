@@ -0,0 +1,170 @@
+package com.example.Event_Manager.unit.event;
+
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.exceptions.CategoryNotFoundException;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.category.validation.CategoryValidation;
+import com.example.Event_Manager.models.event.dto.response.EventListItemDTO;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
+import com.example.Event_Manager.models.event.exceptions.EventsNotFoundException;
+import com.example.Event_Manager.models.event.mapper.EventMapper;
+import com.example.Event_Manager.models.event.repository.EventListItemView;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.service.EventService;
+import com.example.Event_Manager.models.event.validation.EventValidation;
+import com.example.Event_Manager.models.user.validation.UserValidation;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import com.example.Event_Manager.models.venue.validation.VenueValidation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for getting compact Event list items")
+public class GetEventListItemsTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventMapper eventMapper;
+
+    @Mock
+    private EventValidation eventValidation;
+
+    @Mock
+    private CategoryValidation categoryValidation;
+
+    @Mock
+    private VenueValidation venueValidation;
+
+    @Mock
+    private UserValidation userValidation;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private VenueRepository venueRepository;
+
+    @InjectMocks
+    private EventService eventService;
+
+    private Pageable pageable;
+    private EventListItemView view1;
+    private EventListItemView view2;
+    private EventListItemDTO item1;
+    private EventListItemDTO item2;
+
+    @BeforeEach
+    void setUp() {
+        pageable = PageRequest.of(0, 10);
+        view1 = mock(EventListItemView.class);
+        view2 = mock(EventListItemView.class);
+        item1 = new EventListItemDTO(1L, "Super koncert rockowy", Status.PUBLISHED, LocalDateTime.now().plusDays(7),
+                1L, "Muzyka", 1L, "Sala Koncertowa", "Warszawa", 1L, 0L);
+        item2 = new EventListItemDTO(2L, "Koncert jazzowy", Status.PUBLISHED, LocalDateTime.now().plusDays(14),
+                1L, "Muzyka", 1L, "Sala Koncertowa", "Warszawa", 1L, 0L);
+    }
+
+    @Test
+    void getEventListItems_Success_MapsProjectionRows() {
+        // Given
+        when(eventRepository.findListItems(pageable)).thenReturn(new PageImpl<>(List.of(view1, view2), pageable, 2));
+        when(eventMapper.toListItemDTO(view1)).thenReturn(item1);
+        when(eventMapper.toListItemDTO(view2)).thenReturn(item2);
+
+        // When
+        Page<EventListItemDTO> result = eventService.getEventListItems(pageable);
+
+        // Then
+        assertEquals(List.of(item1, item2), result.getContent());
+        verify(eventRepository).findListItems(pageable);
+        verify(eventRepository, never()).findAll(any(Pageable.class));
+        verify(eventMapper, never()).toDTO(any());
+    }
+
+    @Test
+    void getEventListItems_EmptyRepository_ThrowsException() {
+        // Given
+        when(eventRepository.findListItems(pageable)).thenReturn(Page.empty());
+
+        // When & Then
+        assertThrows(EventsNotFoundException.class, () -> eventService.getEventListItems(pageable));
+        verifyNoInteractions(eventMapper);
+    }
+
+    @Test
+    void getEventListItemsByCategory_Success_ReturnsFilteredRows() {
+        // Given
+        Long categoryId = 1L;
+        Category category = Category.builder().id(categoryId).name("Muzyka").build();
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
+        when(eventRepository.findListItemsByCategoryId(categoryId, pageable))
+                .thenReturn(new PageImpl<>(List.of(view1), pageable, 1));
+        when(eventMapper.toListItemDTO(view1)).thenReturn(item1);
+
+        // When
+        Page<EventListItemDTO> result = eventService.getEventListItemsByCategory(categoryId, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        verify(categoryValidation).checkIfIdValid(categoryId);
+        verify(categoryValidation).checkIfObjectExist(category);
+    }
+
+    @Test
+    void getEventListItemsByCategory_CategoryNotFound_ThrowsException() {
+        // Given
+        when(categoryRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(CategoryNotFoundException.class, () -> eventService.getEventListItemsByCategory(99L, pageable));
+        verify(eventRepository, never()).findListItemsByCategoryId(any(), any());
+    }
+
+    @Test
+    void searchEventListItemsByName_BlankName_ThrowsException() {
+        // When & Then
+        assertThrows(EventNotFoundException.class, () -> eventService.searchEventListItemsByName("  ", pageable));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getEventListItemsByDateRange_Success_ReturnsRows() {
+        // Given
+        LocalDateTime start = LocalDateTime.now();
+        LocalDateTime end = start.plusDays(30);
+        when(eventRepository.findListItemsByStartTimeBetween(any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(view1, view2), pageable, 2));
+        when(eventMapper.toListItemDTO(view1)).thenReturn(item1);
+        when(eventMapper.toListItemDTO(view2)).thenReturn(item2);
+
+        // When
+        Page<EventListItemDTO> result = eventService.getEventListItemsByDateRange(start, end, pageable);
+
+        // Then
+        assertEquals(2, result.getContent().size());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.Event_Manager.unit.event;
 
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
 import com.example.Event_Manager.models.category.Category;
 import com.example.Event_Manager.models.city.City;
 import com.example.Event_Manager.models.country.Country;
@@ -10,6 +11,7 @@ import com.example.Event_Manager.models.event.enums.Status;
 import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
 import com.example.Event_Manager.models.event.mapper.EventMapper;
 import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.repository.EventVersionView;
 import com.example.Event_Manager.models.event.service.EventService;
 import com.example.Event_Manager.models.event.validation.EventValidation;
 import com.example.Event_Manager.models.user.User;
@@ -25,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -314,4 +317,42 @@ public class GetEventTest {
         verify(eventRepository).findEventById(eventId);
         verify(eventMapper).toSummaryDTO(event);
     }
+
+    @Test
+    void getEventVersion_VenueChanged_ReturnsDifferentEtag() {
+        // Given
+        Long eventId = 1L;
+        EventVersionView before = versionView(new Date(1_000), new Date(2_000));
+        EventVersionView after = versionView(new Date(1_000), new Date(5_000));
+        doNothing().when(eventValidation).checkIfIdValid(eventId);
+        when(eventRepository.findVersionById(eventId)).thenReturn(Optional.of(before), Optional.of(after));
+
+        // When
+        ResourceVersion first = eventService.getEventVersion(eventId);
+        ResourceVersion second = eventService.getEventVersion(eventId);
+
+        // Then
+        assertEquals(2_000, first.lastModified());
+        assertEquals(5_000, second.lastModified());
+        assertNotEquals(first.etag(), second.etag());
+        verify(eventRepository, never()).findEventById(any());
+    }
+
+    @Test
+    void getEventVersion_EventNotFound_ThrowsException() {
+        // Given
+        Long eventId = 999L;
+        doNothing().when(eventValidation).checkIfIdValid(eventId);
+        when(eventRepository.findVersionById(eventId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(EventNotFoundException.class, () -> eventService.getEventVersion(eventId));
+    }
+
+    private EventVersionView versionView(Date eventUpdatedAt, Date venueUpdatedAt) {
+        EventVersionView view = mock(EventVersionView.class);
+        when(view.getEventUpdatedAt()).thenReturn(eventUpdatedAt);
+        when(view.getVenueUpdatedAt()).thenReturn(venueUpdatedAt);
+        return view;
+    }
 }
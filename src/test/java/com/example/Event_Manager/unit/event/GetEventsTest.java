@@ -10,9 +10,13 @@ import com.example.Event_Manager.models.country.Country;
 import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.dto.response.EventDTO;
 import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
 import com.example.Event_Manager.models.event.exceptions.EventsNotFoundException;
 import com.example.Event_Manager.models.event.mapper.EventMapper;
 import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.search.EventSearchHits;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
+import com.example.Event_Manager.models.event.search.EventSearchQuery;
 import com.example.Event_Manager.models.event.service.EventService;
 import com.example.Event_Manager.models.event.validation.EventValidation;
 import com.example.Event_Manager.models.user.User;
@@ -42,6 +46,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -75,6 +80,9 @@ public class GetEventsTest {
     @Mock
     private VenueRepository venueRepository;
 
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
     @InjectMocks
     private EventService eventService;
 
@@ -368,11 +376,12 @@ public class GetEventsTest {
     }
 
     @Test
-    void searchEventsByName_Success_ReturnsMatchingEvents() {
+    void searchEventsByName_Success_ReturnsMatchingEventsInRankOrder() {
         // Given
         String searchName = "koncert";
-        Page<Event> eventPage = new PageImpl<>(List.of(event1, event3), pageable, 2);
-        when(eventRepository.findByNameContainingIgnoreCase(searchName, pageable)).thenReturn(eventPage);
+        when(eventSearchIndex.search(any(EventSearchQuery.class), eq(pageable)))
+                .thenReturn(new EventSearchHits(List.of(3L, 1L), 2));
+        when(eventRepository.findByIdIn(List.of(3L, 1L))).thenReturn(List.of(event1, event3));
         when(eventMapper.toDTO(event1)).thenReturn(eventDTO1);
         when(eventMapper.toDTO(event3)).thenReturn(eventDTO3);
 
@@ -380,20 +389,52 @@ public class GetEventsTest {
         Page<EventDTO> result = eventService.searchEventsByName(searchName, pageable);
 
         // Then
-        assertEquals(2, result.getContent().size());
-        verify(eventRepository).findByNameContainingIgnoreCase(searchName, pageable);
+        assertEquals(List.of(eventDTO3, eventDTO1), result.getContent());
+        assertEquals(2, result.getTotalElements());
+        verify(eventSearchIndex).search(new EventSearchQuery(searchName, null, null, null, null), pageable);
+        verify(eventSearchIndex, never()).evict(any());
+        verify(eventRepository, never()).findByNameContainingIgnoreCase(any(), any(Pageable.class));
+    }
+
+    @Test
+    void searchEventsByName_StaleIndexEntries_AreEvictedAndNotCounted() {
+        // Given - event 2 usuniety z bazy z pominieciem serwisu
+        String searchName = "koncert";
+        when(eventSearchIndex.search(any(EventSearchQuery.class), eq(pageable)))
+                .thenReturn(new EventSearchHits(List.of(3L, 2L, 1L), 3));
+        when(eventRepository.findByIdIn(List.of(3L, 2L, 1L))).thenReturn(List.of(event1, event3));
+        when(eventMapper.toDTO(event1)).thenReturn(eventDTO1);
+        when(eventMapper.toDTO(event3)).thenReturn(eventDTO3);
+
+        // When
+        Page<EventDTO> result = eventService.searchEventsByName(searchName, pageable);
+
+        // Then
+        assertEquals(List.of(eventDTO3, eventDTO1), result.getContent());
+        assertEquals(2, result.getTotalElements());
+        verify(eventSearchIndex).evict(List.of(2L));
     }
 
     @Test
     void searchEventsByName_NoMatches_ThrowsException() {
         // Given
         String searchName = "xyz123";
-        when(eventRepository.findByNameContainingIgnoreCase(searchName, pageable)).thenReturn(Page.empty());
+        when(eventSearchIndex.search(any(EventSearchQuery.class), eq(pageable)))
+                .thenReturn(new EventSearchHits(List.of(), 0));
 
         // When & Then
         assertThrows(EventsNotFoundException.class, () -> eventService.searchEventsByName(searchName, pageable));
 
-        verify(eventRepository).findByNameContainingIgnoreCase(searchName, pageable);
+        verify(eventRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    void searchEvents_BlankText_ThrowsException() {
+        // When & Then
+        assertThrows(EventNotFoundException.class,
+                () -> eventService.searchEvents(new EventSearchQuery(" ", 1L, null, null, null), pageable));
+
+        verifyNoInteractions(eventSearchIndex);
     }
 
     @Test
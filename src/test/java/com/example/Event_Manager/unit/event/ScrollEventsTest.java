@@ -0,0 +1,240 @@
+package com.example.Event_Manager.unit.event;
+
+import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.models._util.CursorPage;
+import com.example.Event_Manager.models.category.Category;
+import com.example.Event_Manager.models.category.repository.CategoryRepository;
+import com.example.Event_Manager.models.category.validation.CategoryValidation;
+import com.example.Event_Manager.models.event.Event;
+import com.example.Event_Manager.models.event.dto.response.EventDTO;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.exceptions.EventsNotFoundException;
+import com.example.Event_Manager.models.event.exceptions.InvalidCursorException;
+import com.example.Event_Manager.models.event.mapper.EventMapper;
+import com.example.Event_Manager.models.event.pagination.EventCursorCodec;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.service.EventService;
+import com.example.Event_Manager.models.event.validation.EventValidation;
+import com.example.Event_Manager.models.user.validation.UserValidation;
+import com.example.Event_Manager.models.venue.repository.VenueRepository;
+import com.example.Event_Manager.models.venue.validation.VenueValidation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for scrolling Events with a cursor")
+public class ScrollEventsTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventMapper eventMapper;
+
+    @Mock
+    private EventValidation eventValidation;
+
+    @Mock
+    private CategoryValidation categoryValidation;
+
+    @Mock
+    private VenueValidation venueValidation;
+
+    @Mock
+    private UserValidation userValidation;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private VenueRepository venueRepository;
+
+    @Spy
+    private EventCursorCodec eventCursorCodec = new EventCursorCodec();
+
+    @InjectMocks
+    private EventService eventService;
+
+    private Event event1;
+    private Event event2;
+    private EventDTO eventDTO1;
+    private EventDTO eventDTO2;
+
+    @BeforeEach
+    void setUp() {
+        event1 = Event.builder()
+                .id(1L)
+                .name("Koncert jazzowy")
+                .startTime(Timestamp.valueOf(LocalDateTime.now().plusDays(3)))
+                .status(Status.PUBLISHED)
+                .build();
+
+        event2 = Event.builder()
+                .id(2L)
+                .name("Super koncert rockowy")
+                .startTime(Timestamp.valueOf(LocalDateTime.now().plusDays(7)))
+                .status(Status.PUBLISHED)
+                .build();
+
+        eventDTO1 = new EventDTO(1L, event1.getName(), null, Status.PUBLISHED, null, null, null, null);
+        eventDTO2 = new EventDTO(2L, event2.getName(), null, Status.PUBLISHED, null, null, null, null);
+    }
+
+    @Test
+    void scrollAllEvents_FirstPage_ReturnsCursorForNextPage() {
+        // Given
+        Window<Event> window = Window.from(List.of(event1, event2),
+                index -> ScrollPosition.forward(Map.of("name", List.of(event1, event2).get(index).getName(),
+                        "id", List.of(event1, event2).get(index).getId())),
+                true);
+        when(eventRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), eq(Limit.of(2)))).thenReturn(window);
+        when(eventMapper.toDTO(event1)).thenReturn(eventDTO1);
+        when(eventMapper.toDTO(event2)).thenReturn(eventDTO2);
+
+        // When
+        CursorPage<EventDTO> result = eventService.scrollAllEvents(null, 2, Sort.by("name"));
+
+        // Then
+        assertEquals(List.of(eventDTO1, eventDTO2), result.content());
+        assertTrue(result.hasNext());
+        assertNotNull(result.nextCursor());
+
+        ArgumentCaptor<ScrollPosition> positionCaptor = ArgumentCaptor.forClass(ScrollPosition.class);
+        ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
+        verify(eventRepository).findAllBy(positionCaptor.capture(), sortCaptor.capture(), eq(Limit.of(2)));
+        assertTrue(positionCaptor.getValue().isInitial());
+        assertEquals(Sort.by("name", "id"), sortCaptor.getValue());
+        verify(eventRepository, never()).count();
+    }
+
+    @Test
+    void scrollAllEvents_WithCursor_ResumesAfterLastKey() {
+        // Given
+        String cursor = eventCursorCodec.encode(Sort.by(Sort.Direction.DESC, "name", "id"),
+                ScrollPosition.forward(Map.of("name", "Koncert jazzowy", "id", 1L)));
+        when(eventRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(event2), index -> ScrollPosition.keyset(), false));
+        when(eventMapper.toDTO(event2)).thenReturn(eventDTO2);
+
+        // When
+        CursorPage<EventDTO> result = eventService.scrollAllEvents(cursor, 10, Sort.by("id"));
+
+        // Then
+        assertEquals(List.of(eventDTO2), result.content());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+
+        ArgumentCaptor<ScrollPosition> positionCaptor = ArgumentCaptor.forClass(ScrollPosition.class);
+        ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
+        verify(eventRepository).findAllBy(positionCaptor.capture(), sortCaptor.capture(), eq(Limit.of(10)));
+        KeysetScrollPosition position = (KeysetScrollPosition) positionCaptor.getValue();
+        assertEquals("Koncert jazzowy", position.getKeys().get("name"));
+        assertEquals(1L, position.getKeys().get("id"));
+        assertEquals(Sort.by(Sort.Direction.DESC, "name", "id"), sortCaptor.getValue());
+    }
+
+    @Test
+    void scrollAllEvents_SizeAboveMaximum_IsCapped() {
+        // Given
+        when(eventRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(event1), index -> ScrollPosition.keyset(), false));
+        when(eventMapper.toDTO(event1)).thenReturn(eventDTO1);
+
+        // When
+        eventService.scrollAllEvents(null, 10_000, Sort.unsorted());
+
+        // Then
+        verify(eventRepository).findAllBy(any(ScrollPosition.class), eq(Sort.by("id")), eq(Limit.of(EventCursorCodec.MAX_SIZE)));
+    }
+
+    @Test
+    void scrollAllEvents_EmptyFirstPage_ThrowsException() {
+        // Given
+        when(eventRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(), index -> ScrollPosition.keyset(), false));
+
+        // When & Then
+        assertThrows(EventsNotFoundException.class, () -> eventService.scrollAllEvents(null, 10, Sort.by("id")));
+        verifyNoInteractions(eventMapper);
+    }
+
+    @Test
+    void scrollAllEvents_MalformedCursor_ThrowsException() {
+        // When & Then
+        assertThrows(InvalidCursorException.class, () -> eventService.scrollAllEvents("%%%", 10, Sort.by("id")));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void scrollAllEvents_UnsupportedSort_ThrowsException() {
+        // When & Then
+        assertThrows(InvalidCursorException.class,
+                () -> eventService.scrollAllEvents(null, 10, Sort.by("description")));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void scrollEventsByStartTime_CursorKeepsTimestampPrecision() {
+        // Given
+        Timestamp startTime = Timestamp.valueOf("2030-05-01 18:30:00.123456789");
+        String cursor = eventCursorCodec.encode(Sort.by("startTime", "id"),
+                ScrollPosition.forward(Map.of("startTime", startTime, "id", 5L)));
+        when(eventRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(event2), index -> ScrollPosition.keyset(), false));
+        when(eventMapper.toDTO(event2)).thenReturn(eventDTO2);
+
+        // When
+        eventService.scrollAllEvents(cursor, 10, Sort.unsorted());
+
+        // Then
+        ArgumentCaptor<ScrollPosition> positionCaptor = ArgumentCaptor.forClass(ScrollPosition.class);
+        verify(eventRepository).findAllBy(positionCaptor.capture(), any(Sort.class), any(Limit.class));
+        assertEquals(startTime, ((KeysetScrollPosition) positionCaptor.getValue()).getKeys().get("startTime"));
+    }
+
+    @Test
+    void scrollEventsByCategory_Success_UsesCategoryQuery() {
+        // Given
+        Long categoryId = 1L;
+        Category category = Category.builder().id(categoryId).name("Muzyka").build();
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
+        when(eventRepository.findByCategory_Id(eq(categoryId), any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(event1), index -> ScrollPosition.keyset(), false));
+        when(eventMapper.toDTO(event1)).thenReturn(eventDTO1);
+
+        // When
+        CursorPage<EventDTO> result = eventService.scrollEventsByCategory(categoryId, null, 10, Sort.by("id"));
+
+        // Then
+        assertEquals(1, result.size());
+        verify(categoryValidation).checkIfIdValid(categoryId);
+        verify(categoryValidation).checkIfObjectExist(category);
+        verify(eventRepository, never()).findByCategory_Id(eq(categoryId), any(org.springframework.data.domain.Pageable.class));
+    }
+}
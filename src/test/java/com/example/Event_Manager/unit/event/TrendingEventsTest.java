@@ -0,0 +1,131 @@
+package com.example.Event_Manager.unit.event;
+
+import com.example.Event_Manager.models.event.dto.response.EventListItemDTO;
+import com.example.Event_Manager.models.event.dto.response.TrendingEventDTO;
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.mapper.EventMapper;
+import com.example.Event_Manager.models.event.repository.EventListItemView;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.trending.TrendingEvents;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for the trending events ranking")
+public class TrendingEventsTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventMapper eventMapper;
+
+    private TrendingEvents trendingEvents;
+
+    @BeforeEach
+    void setUp() {
+        trendingEvents = new TrendingEvents(eventRepository, eventMapper, Duration.ofHours(1), 12, 2);
+
+        // repozytorium zwraca widoki dla wszystkich pytanych id, event 4 jest odwolany
+        lenient().when(eventRepository.findListItemsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> view(id, id == 4L ? Status.CANCELLED : Status.PUBLISHED)).toList();
+        });
+        lenient().when(eventMapper.toListItemDTO(any())).thenAnswer(invocation -> {
+            EventListItemView view = invocation.getArgument(0);
+            return new EventListItemDTO(view.getId(), "Event " + view.getId(), view.getStatus(), LocalDateTime.now(),
+                    1L, "Muzyka", 1L, "Sala", "Warszawa", 1L, 0L);
+        });
+    }
+
+    @Test
+    void refresh_RanksByRecentInterestAndKeepsTopK() {
+        // Given
+        record(1L, 2);
+        record(2L, 5);
+        record(3L, 3);
+
+        // When
+        trendingEvents.refresh();
+        List<TrendingEventDTO> top = trendingEvents.top(10);
+
+        // Then
+        assertEquals(List.of(2L, 3L), top.stream().map(item -> item.event().id()).toList());
+        assertEquals(5L, top.get(0).recentInterest());
+    }
+
+    @Test
+    void refresh_SkipsEventsWithoutNetInterestOrNotListed() {
+        // Given
+        record(1L, 1);
+        trendingEvents.record(1L, -1);
+        record(4L, 7);
+        record(5L, 1);
+
+        // When
+        trendingEvents.refresh();
+
+        // Then
+        assertEquals(List.of(5L), trendingEvents.top(10).stream().map(item -> item.event().id()).toList());
+    }
+
+    @Test
+    void top_ServesSnapshotWithoutDatabaseUntilNextRefresh() {
+        // Given
+        record(1L, 1);
+        trendingEvents.refresh();
+        clearInvocations(eventRepository);
+
+        // When
+        record(2L, 3);
+        List<TrendingEventDTO> top = trendingEvents.top(1);
+
+        // Then
+        assertEquals(1L, top.get(0).event().id());
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void refresh_DropsInterestOlderThanWindow() throws InterruptedException {
+        // Given
+        trendingEvents = new TrendingEvents(eventRepository, eventMapper, Duration.ofMillis(40), 2, 10);
+        record(1L, 3);
+        trendingEvents.refresh();
+        assertEquals(1, trendingEvents.top(10).size());
+
+        // When
+        Thread.sleep(60);
+        trendingEvents.refresh();
+
+        // Then
+        assertTrue(trendingEvents.top(10).isEmpty());
+    }
+
+    private void record(Long eventId, int times) {
+        for (int i = 0; i < times; i++) {
+            trendingEvents.record(eventId, 1);
+        }
+    }
+
+    private EventListItemView view(Long id, Status status) {
+        EventListItemView view = mock(EventListItemView.class);
+        lenient().when(view.getId()).thenReturn(id);
+        lenient().when(view.getStatus()).thenReturn(status);
+        return view;
+    }
+}
@@ -12,9 +12,12 @@ import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.dto.request.UpdateEventDTO;
 import com.example.Event_Manager.models.event.dto.response.EventDTO;
 import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.exceptions.EventCapacityExceededException;
 import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
+import com.example.Event_Manager.models.event.lifecycle.EventLifecycle;
 import com.example.Event_Manager.models.event.mapper.EventMapper;
 import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
 import com.example.Event_Manager.models.event.service.EventService;
 import com.example.Event_Manager.models.event.validation.EventValidation;
 import com.example.Event_Manager.models.user.User;
@@ -64,6 +67,12 @@ public class UpdateEventTest {
     @Mock
     private VenueValidation venueValidation;
 
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private EventLifecycle eventLifecycle;
+
     @InjectMocks
     private EventService eventService;
 
@@ -120,6 +129,7 @@ public class UpdateEventTest {
                 .name("Stadion Narodowy")
                 .address("Ulica Poniatowskiego 1")
                 .description("Wielki stadion")
+                .capacity(500)
                 .city(city)
                 .build();
 
@@ -192,6 +202,7 @@ public class UpdateEventTest {
                 "Główna Sala Koncertowa",
                 "Ulica Marszałkowska 123",
                 "Duża sala koncertowa",
+                null,
                 cityDTO
         );
 
@@ -200,6 +211,7 @@ public class UpdateEventTest {
                 "Stadion Narodowy",
                 "Ulica Poniatowskiego 1",
                 "Wielki stadion",
+                null,
                 cityDTO
         );
 
@@ -236,6 +248,7 @@ public class UpdateEventTest {
         when(categoryRepository.findById(updateEventDTO.categoryId())).thenReturn(Optional.of(newCategory));
         doNothing().when(venueValidation).checkIfObjectExist(newVenue);
         when(venueRepository.findById(updateEventDTO.venueId())).thenReturn(Optional.of(newVenue));
+        when(eventRepository.changeCapacity(eventId, 500)).thenReturn(1);
         when(eventRepository.save(any(Event.class))).thenReturn(updatedEvent);
         when(eventMapper.toDTO(updatedEvent)).thenReturn(updatedEventDTO);
 
@@ -253,7 +266,9 @@ public class UpdateEventTest {
         verify(categoryRepository).findById(updateEventDTO.categoryId());
         verify(venueValidation).checkIfObjectExist(newVenue);
         verify(venueRepository).findById(updateEventDTO.venueId());
+        verify(eventRepository).changeCapacity(eventId, 500);
         verify(eventRepository).save(any(Event.class));
+        verify(eventLifecycle).reconcile(any(Event.class));
         verify(eventMapper).toDTO(updatedEvent);
     }
 
@@ -283,7 +298,7 @@ public class UpdateEventTest {
                 .build();
 
         var categoryDTO = new CategoryDTO(1L, "Muzyka", "Wydarzenia muzyczne");
-        var venueDTO = new VenueDTO(1L, "Główna Sala Koncertowa", "Ulica Marszałkowska 123", "Duża sala koncertowa", cityDTO);
+        var venueDTO = new VenueDTO(1L, "Główna Sala Koncertowa", "Ulica Marszałkowska 123", "Duża sala koncertowa", null, cityDTO);
         EventDTO partiallyUpdatedDTO = new EventDTO(
                 1L, "Nowa nazwa", "Nowy opis",
                 Status.PUBLISHED, futureDate, categoryDTO, venueDTO, organizer.getId()
@@ -365,6 +380,7 @@ public class UpdateEventTest {
         when(eventRepository.findEventById(eventId)).thenReturn(Optional.of(event));
         doNothing().when(venueValidation).checkIfObjectExist(newVenue);
         when(venueRepository.findById(2L)).thenReturn(Optional.of(newVenue));
+        when(eventRepository.changeCapacity(eventId, 500)).thenReturn(1);
         when(eventRepository.save(any(Event.class))).thenReturn(updatedEvent);
         when(eventMapper.toDTO(updatedEvent)).thenReturn(updatedEventDTO);
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
@@ -383,6 +399,55 @@ public class UpdateEventTest {
         verify(categoryValidation).checkIfObjectExist(category);
     }
 
+    @Test
+    void updateEvent_NewVenueSmallerThanReservations_ThrowsCapacityExceeded() {
+        // Given
+        Long eventId = 1L;
+        UpdateEventDTO venueUpdate = new UpdateEventDTO(
+                null,
+                null,
+                futureDate,
+                futureDate.plusHours(3),
+                2L,
+                1L
+        );
+
+        when(eventRepository.findEventById(eventId)).thenReturn(Optional.of(event));
+        when(venueRepository.findById(2L)).thenReturn(Optional.of(newVenue));
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(eventRepository.changeCapacity(eventId, 500)).thenReturn(0);
+
+        // When & Then
+        assertThrows(EventCapacityExceededException.class, () -> eventService.updateEvent(eventId, venueUpdate));
+        verify(eventMapper, never()).updateEntity(any(), any(), any(), any());
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    void updateEvent_SameVenue_KeepsEventCapacity() {
+        // Given
+        Long eventId = 1L;
+        UpdateEventDTO sameVenue = new UpdateEventDTO(
+                "Nowa nazwa",
+                null,
+                futureDate,
+                futureDate.plusHours(3),
+                1L,
+                1L
+        );
+
+        when(eventRepository.findEventById(eventId)).thenReturn(Optional.of(event));
+        when(venueRepository.findById(1L)).thenReturn(Optional.of(venue));
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(eventRepository.save(any(Event.class))).thenReturn(event);
+
+        // When
+        eventService.updateEvent(eventId, sameVenue);
+
+        // Then
+        verify(eventRepository, never()).changeCapacity(anyLong(), any());
+    }
+
     @Test
     void updateEvent_NullEventId_ThrowsException() {
         // Given
@@ -0,0 +1,60 @@
+package com.example.Event_Manager.unit.export;
+
+import com.example.Event_Manager.models._util.export.ExportLimitExceededException;
+import com.example.Event_Manager.models._util.export.ExportLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Export Limiter Unit Test")
+public class ExportLimiterTest {
+
+    private final ExportLimiter exportLimiter = new ExportLimiter(1, Duration.ofMinutes(10));
+
+    @Test
+    @DisplayName("Should release permit on request completion when body is never written")
+    void shouldReleasePermitOnCompletion() {
+        //Given
+        AsyncWebRequest request = mock(AsyncWebRequest.class);
+        exportLimiter.limit(request, out -> {});
+        ArgumentCaptor<Runnable> completion = ArgumentCaptor.forClass(Runnable.class);
+        verify(request).setTimeout(Duration.ofMinutes(10).toMillis());
+        verify(request).addCompletionHandler(completion.capture());
+        assertThrows(ExportLimitExceededException.class, () -> exportLimiter.limit(mock(AsyncWebRequest.class), out -> {}));
+
+        //When
+        completion.getValue().run();
+
+        //Then
+        assertDoesNotThrow(() -> exportLimiter.limit(mock(AsyncWebRequest.class), out -> {}));
+    }
+
+    @Test
+    @DisplayName("Should release permit only once when body is written and request completes")
+    void shouldReleasePermitOnce() throws IOException {
+        //Given
+        AsyncWebRequest request = mock(AsyncWebRequest.class);
+        StreamingResponseBody body = exportLimiter.limit(request, out -> {});
+        ArgumentCaptor<Runnable> completion = ArgumentCaptor.forClass(Runnable.class);
+        verify(request).addCompletionHandler(completion.capture());
+
+        //When
+        body.writeTo(new ByteArrayOutputStream());
+        completion.getValue().run();
+
+        //Then
+        assertDoesNotThrow(() -> exportLimiter.limit(mock(AsyncWebRequest.class), out -> {}));
+        assertThrows(ExportLimitExceededException.class, () -> exportLimiter.limit(mock(AsyncWebRequest.class), out -> {}));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.Event_Manager.unit.export;
+
+import com.example.Event_Manager.models._util.export.ExportFormat;
+import com.example.Event_Manager.models._util.export.ExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Export Writer Unit Test")
+public class ExportWriterTest {
+
+    private record Row(Long id, String name, String note) {
+    }
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Test
+    @DisplayName("Should write one JSON object per line without header")
+    void shouldWriteNdjson() {
+        //Given
+        ExportWriter<Row> writer = writer(ExportFormat.NDJSON);
+
+        //When
+        writer.writeHeader();
+        writer.write(new Row(1L, "Koncert", null));
+        writer.write(new Row(2L, "Festiwal", "plener"));
+        writer.flush();
+
+        //Then
+        assertEquals("{\"id\":1,\"name\":\"Koncert\",\"note\":null}\n"
+                + "{\"id\":2,\"name\":\"Festiwal\",\"note\":\"plener\"}\n", content());
+        assertEquals(2, writer.rows());
+    }
+
+    @Test
+    @DisplayName("Should write CSV header and quote values with separators")
+    void shouldWriteCsvWithEscaping() {
+        //Given
+        ExportWriter<Row> writer = writer(ExportFormat.CSV);
+
+        //When
+        writer.writeHeader();
+        writer.write(new Row(1L, "Rock, pop", "powiedzial \"super\""));
+        writer.write(new Row(2L, "Jazz", null));
+        writer.flush();
+
+        //Then
+        assertEquals("id,name,note\r\n"
+                + "1,\"Rock, pop\",\"powiedzial \"\"super\"\"\"\r\n"
+                + "2,Jazz,\r\n", content());
+        assertEquals(2, writer.rows());
+    }
+
+    private ExportWriter<Row> writer(ExportFormat format) {
+        return new ExportWriter<>(format, out, new ObjectMapper(), List.of("id", "name", "note"),
+                row -> Arrays.asList(row.id(), row.name(), row.note()));
+    }
+
+    private String content() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
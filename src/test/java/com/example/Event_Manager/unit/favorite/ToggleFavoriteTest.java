@@ -1,22 +1,23 @@
 package com.example.Event_Manager.unit.favorite;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
-import com.example.Event_Manager.models.favorite.Favorite;
+import com.example.Event_Manager.models._util.writebehind.WriteBehindQueue;
 import com.example.Event_Manager.models.favorite.exceptions.InvalidFavoriteActionException;
 import com.example.Event_Manager.models.favorite.repository.FavoriteRepository;
 import com.example.Event_Manager.models.favorite.service.FavoriteService;
-import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.user.enums.Role;
 import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
 import com.example.Event_Manager.models.user.validation.UserValidation;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
-import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -30,29 +31,34 @@ public class ToggleFavoriteTest {
     @Mock private FavoriteRepository favoriteRepository;
     @Mock private UserRepository userRepository;
     @Mock private UserValidation userValidation;
+    @Mock private WriteBehindQueue writeBehindQueue;
 
     @InjectMocks private FavoriteService favoriteService;
 
+    // write-behind wylaczony: zapis idzie od razu na watku wolajacego
+    @BeforeEach
+    void setUp() {
+        lenient().when(writeBehindQueue.submit(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     @Test
     @DisplayName("Should add to favorites when not already favorited")
     void toggleFavorite_ShouldAdd_WhenNotExists() {
         //Given
         Long userId = 1L;
         Long organizerId = 2L;
-        User user = User.builder().id(userId).build();
-        User organizer = User.builder().id(organizerId).role(Role.ORGANIZER).build();
 
         doNothing().when(userValidation).checkIfIdValid(any());
-        when(favoriteRepository.findByUserIdAndOrganizerId(userId, organizerId)).thenReturn(Optional.empty());
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
+        when(favoriteRepository.deleteByUserIdAndOrganizerId(userId, organizerId)).thenReturn(0);
+        when(favoriteRepository.insertIfOrganizerExists(userId, organizerId, Role.ORGANIZER)).thenReturn(1);
 
         //When
         String result = favoriteService.toggleFavorite(userId, organizerId);
 
         //Then
         assertEquals("Added to favorites", result);
-        verify(favoriteRepository).save(any(Favorite.class));
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -61,17 +67,35 @@ public class ToggleFavoriteTest {
         //Given
         Long userId = 1L;
         Long organizerId = 2L;
-        Favorite existingFavorite = new Favorite();
 
         doNothing().when(userValidation).checkIfIdValid(any());
-        when(favoriteRepository.findByUserIdAndOrganizerId(userId, organizerId)).thenReturn(Optional.of(existingFavorite));
+        when(favoriteRepository.deleteByUserIdAndOrganizerId(userId, organizerId)).thenReturn(1);
 
         //When
         String result = favoriteService.toggleFavorite(userId, organizerId);
 
         //Then
         assertEquals("Removed from favorites", result);
-        verify(favoriteRepository).delete(existingFavorite);
+        verify(favoriteRepository, never()).insertIfOrganizerExists(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should treat unique constraint violation as concurrent add")
+    void toggleFavorite_ConcurrentInsert_ReturnsAdded() {
+        //Given
+        Long userId = 1L;
+        Long organizerId = 2L;
+
+        doNothing().when(userValidation).checkIfIdValid(any());
+        when(favoriteRepository.deleteByUserIdAndOrganizerId(userId, organizerId)).thenReturn(0);
+        when(favoriteRepository.insertIfOrganizerExists(userId, organizerId, Role.ORGANIZER))
+                .thenThrow(new DataIntegrityViolationException("uk_favorites_user_organizer"));
+
+        //When
+        String result = favoriteService.toggleFavorite(userId, organizerId);
+
+        //Then
+        assertEquals("Added to favorites", result);
     }
 
     @Test
@@ -81,7 +105,7 @@ public class ToggleFavoriteTest {
         doNothing().when(userValidation).checkIfIdValid(any());
 
         assertThrows(InvalidFavoriteActionException.class, () -> favoriteService.toggleFavorite(userId, userId));
-        verify(favoriteRepository, never()).save(any());
+        verifyNoInteractions(favoriteRepository);
     }
 
     @Test
@@ -90,13 +114,13 @@ public class ToggleFavoriteTest {
         //Given
         Long userId = 1L;
         Long targetId = 2L;
-        User user = User.builder().id(userId).build();
-        User target = User.builder().id(targetId).role(Role.ATTENDEE).build(); //zwykły user
 
         doNothing().when(userValidation).checkIfIdValid(any());
-        when(favoriteRepository.findByUserIdAndOrganizerId(userId, targetId)).thenReturn(Optional.empty());
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(userRepository.findById(targetId)).thenReturn(Optional.of(target));
+        when(favoriteRepository.deleteByUserIdAndOrganizerId(userId, targetId)).thenReturn(0);
+        //insert nic nie wstawil, oba konta istnieja - wiec cel nie jest organizatorem
+        when(favoriteRepository.insertIfOrganizerExists(userId, targetId, Role.ORGANIZER)).thenReturn(0);
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(userRepository.existsById(targetId)).thenReturn(true);
 
         //Then
         assertThrows(InvalidFavoriteActionException.class, () -> favoriteService.toggleFavorite(userId, targetId));
@@ -110,13 +134,13 @@ public class ToggleFavoriteTest {
         Long organizerId = 2L;
 
         doNothing().when(userValidation).checkIfIdValid(any());
-        when(favoriteRepository.findByUserIdAndOrganizerId(userId, organizerId)).thenReturn(Optional.empty());
-        //symulujemy że baza zwraca empty
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(favoriteRepository.deleteByUserIdAndOrganizerId(userId, organizerId)).thenReturn(0);
+        when(favoriteRepository.insertIfOrganizerExists(userId, organizerId, Role.ORGANIZER)).thenReturn(0);
+        //symulujemy że baza nie ma usera
+        when(userRepository.existsById(userId)).thenReturn(false);
 
         //Then
         assertThrows(UserNotFoundException.class, () -> favoriteService.toggleFavorite(userId, organizerId));
-        verify(favoriteRepository, never()).save(any());
     }
     @Test
     @DisplayName("Should throw UserNotFoundException when organizer does notexist in database")
@@ -124,16 +148,15 @@ public class ToggleFavoriteTest {
         //Given
         Long userId = 1L;
         Long organizerId = 99L;
-        User user = User.builder().id(userId).build();
 
         doNothing().when(userValidation).checkIfIdValid(any());
-        when(favoriteRepository.findByUserIdAndOrganizerId(userId, organizerId)).thenReturn(Optional.empty());
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(favoriteRepository.deleteByUserIdAndOrganizerId(userId, organizerId)).thenReturn(0);
+        when(favoriteRepository.insertIfOrganizerExists(userId, organizerId, Role.ORGANIZER)).thenReturn(0);
+        when(userRepository.existsById(userId)).thenReturn(true);
         //Symulujemy brak organizatora
-        when(userRepository.findById(organizerId)).thenReturn(Optional.empty());
+        when(userRepository.existsById(organizerId)).thenReturn(false);
 
         //Then
         assertThrows(UserNotFoundException.class, () -> favoriteService.toggleFavorite(userId, organizerId));
-        verify(favoriteRepository, never()).save(any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.example.Event_Manager.unit.geo;
+
+import com.example.Event_Manager.models.city.dto.response.CityDTO;
+import com.example.Event_Manager.models.country.dto.response.CountryDTO;
+import com.example.Event_Manager.models.geo.GeoSnapshot;
+import com.example.Event_Manager.models.venue.dto.response.VenueDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests for the geo catalogue snapshot")
+public class GeoSnapshotTest {
+
+    private GeoSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        CountryDTO poland = new CountryDTO("PL", "Polska");
+        CountryDTO germany = new CountryDTO("DE", "Niemcy");
+        CityDTO warszawa = new CityDTO(1L, "Warszawa", poland);
+        CityDTO lodz = new CityDTO(2L, "Łódź", poland);
+        CityDTO gorzow = new CityDTO(3L, "Gorzów Wielkopolski", poland);
+        CityDTO wielun = new CityDTO(4L, "Wieluń", poland);
+        CityDTO berlin = new CityDTO(5L, "Berlin", germany);
+
+        snapshot = new GeoSnapshot(
+                List.of(warszawa, lodz, gorzow, wielun, berlin),
+                List.of(
+                        new VenueDTO(1L, "Torwar", "Łazienkowska 6a", "Hala", null, warszawa),
+                        new VenueDTO(2L, "Atlas Arena", "Bandurskiego 7", "Hala", null, lodz),
+                        new VenueDTO(3L, "Teatr Wielki", "Plac Teatralny 1", "Opera", null, warszawa),
+                        new VenueDTO(4L, "Tempodrom", "Möckernstraße 10", "Hala", null, berlin)
+                )
+        );
+    }
+
+    @Test
+    @DisplayName("Should return prefix matches before substring matches, ignoring case and accents")
+    void findCities_prefixBeforeSubstring() {
+        // When
+        List<CityDTO> result = snapshot.findCities("wiel", null, 10);
+
+        // Then
+        assertEquals(List.of("Wieluń", "Gorzów Wielkopolski"), result.stream().map(CityDTO::name).toList());
+        assertEquals("Łódź", snapshot.findCities("LODZ", null, 10).get(0).name());
+    }
+
+    @Test
+    @DisplayName("Should restrict cities to the requested countries")
+    void findCities_filteredByCountry() {
+        // When
+        List<CityDTO> all = snapshot.findCities("", List.of("PL"), 10);
+        List<CityDTO> german = snapshot.findCities("er", List.of("DE"), 10);
+
+        // Then
+        assertEquals(List.of("Gorzów Wielkopolski", "Łódź", "Warszawa", "Wieluń"), all.stream().map(CityDTO::name).toList());
+        assertEquals(List.of("Berlin"), german.stream().map(CityDTO::name).toList());
+    }
+
+    @Test
+    @DisplayName("Should restrict venues to the requested cities and respect the limit")
+    void findVenues_filteredByCityAndLimited() {
+        // When
+        List<VenueDTO> inWarsaw = snapshot.findVenues("t", List.of(1L), 10);
+        List<VenueDTO> limited = snapshot.findVenues("t", null, 2);
+
+        // Then
+        assertEquals(List.of("Teatr Wielki", "Torwar"), inWarsaw.stream().map(VenueDTO::name).toList());
+        assertEquals(List.of("Teatr Wielki", "Tempodrom"), limited.stream().map(VenueDTO::name).toList());
+        assertTrue(snapshot.findVenues("xyz", null, 10).isEmpty());
+        assertTrue(snapshot.findVenues("t", List.of(99L), 10).isEmpty());
+    }
+}
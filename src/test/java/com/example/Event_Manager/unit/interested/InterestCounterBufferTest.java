@@ -0,0 +1,163 @@
+package com.example.Event_Manager.unit.interested;
+
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.interested.counter.InterestCounterBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Interest Counter Buffer Unit Test")
+public class InterestCounterBufferTest {
+
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private InterestCounterBuffer interestCounterBuffer;
+
+    @Test
+    @DisplayName("Should flush one update per delta value and skip events that net to zero")
+    void flush_shouldGroupEventsByDelta() {
+        //Given
+        interestCounterBuffer.record(1L, 1);
+        interestCounterBuffer.record(2L, 1);
+        interestCounterBuffer.record(3L, 1);
+        interestCounterBuffer.record(3L, 1);
+        // zaznaczyl i odznaczyl przed zrzutem - nie ma czego zapisywac
+        interestCounterBuffer.record(4L, 1);
+        interestCounterBuffer.record(4L, -1);
+
+        //When
+        interestCounterBuffer.flush();
+
+        //Then
+        verify(eventRepository).adjustInterestedCount(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2), eq(1L));
+        verify(eventRepository).adjustInterestedCount(List.of(3L), 2L);
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("Should not touch database when nothing was recorded since last flush")
+    void flush_shouldDoNothing_whenNothingPending() {
+        //Given
+        interestCounterBuffer.record(1L, 1);
+        interestCounterBuffer.flush();
+        clearInvocations(eventRepository);
+
+        //When
+        interestCounterBuffer.flush();
+
+        //Then
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("Should keep deltas for the next flush when database update fails")
+    void flush_shouldRetainDeltas_whenUpdateFails() {
+        //Given
+        interestCounterBuffer.record(1L, 1);
+        when(eventRepository.adjustInterestedCount(anyCollection(), anyLong()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+        interestCounterBuffer.flush();
+        // klikniecie pomiedzy nieudanym a kolejnym zrzutem
+        interestCounterBuffer.record(1L, 1);
+
+        //When
+        interestCounterBuffer.flush();
+
+        //Then
+        verify(eventRepository).adjustInterestedCount(List.of(1L), 2L);
+    }
+
+    @Test
+    @DisplayName("Should drop entries of events without clicks since the previous flush")
+    void flush_shouldRemoveIdleEntries() {
+        //Given
+        interestCounterBuffer.record(1L, 1);
+        interestCounterBuffer.record(2L, 1);
+        interestCounterBuffer.flush();
+        interestCounterBuffer.record(2L, 1);
+
+        //When
+        interestCounterBuffer.flush();
+
+        //Then
+        assertEquals(Set.of(2L), pending().keySet());
+        interestCounterBuffer.flush();
+        assertTrue(pending().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not lose clicks recorded while flushes remove idle entries")
+    void flush_shouldNotLoseClicks_whenRecordingConcurrently() throws Exception {
+        //Given
+        AtomicLong flushed = new AtomicLong();
+        when(eventRepository.adjustInterestedCount(anyCollection(), anyLong())).thenAnswer(invocation -> {
+            Collection<?> ids = invocation.getArgument(0);
+            long delta = invocation.getArgument(1);
+            flushed.addAndGet(delta * ids.size());
+            return ids.size();
+        });
+        int threads = 4;
+        int clicksPerThread = 20_000;
+
+        //When
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads + 1)) {
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < clicksPerThread; i++) {
+                        // rzadkie klikniecia w kilka eventow, zeby wpisy byly co chwile zdejmowane
+                        interestCounterBuffer.record((long) (i % 8), 1);
+                    }
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                while (workers.stream().anyMatch(worker -> !worker.isDone())) {
+                    interestCounterBuffer.flush();
+                }
+            });
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            flusher.get();
+        }
+        interestCounterBuffer.flush();
+
+        //Then
+        assertEquals((long) threads * clicksPerThread, flushed.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ?> pending() {
+        return (Map<Long, ?>) ReflectionTestUtils.getField(interestCounterBuffer, "pending");
+    }
+}
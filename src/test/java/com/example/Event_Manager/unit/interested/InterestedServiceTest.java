@@ -1,21 +1,26 @@
 package com.example.Event_Manager.unit.interested;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.models._util.writebehind.WriteBehindQueue;
 import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
 import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.event.trending.TrendingEvents;
 import com.example.Event_Manager.models.interested.Interested;
+import com.example.Event_Manager.models.interested.counter.InterestCounterBuffer;
 import com.example.Event_Manager.models.interested.dto.response.InterestedDTO;
 import com.example.Event_Manager.models.interested.repository.InterestedRepository;
 import com.example.Event_Manager.models.interested.service.InterestedService;
-import com.example.Event_Manager.models.user.User;
+import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
 import com.example.Event_Manager.models.user.validation.UserValidation;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -23,7 +28,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.Date;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Supplier;
 
 
 import static org.mockito.ArgumentMatchers.any;
@@ -43,30 +48,42 @@ public class InterestedServiceTest {
     private UserRepository userRepository;
     @Mock
     private UserValidation userValidation;
+    @Mock
+    private InterestCounterBuffer interestCounterBuffer;
+    @Mock
+    private TrendingEvents trendingEvents;
+    @Mock
+    private WriteBehindQueue writeBehindQueue;
 
     @InjectMocks
     private InterestedService interestedService;
 
+    // write-behind wylaczony: zapis idzie od razu na watku wolajacego
+    @BeforeEach
+    void setUp() {
+        lenient().when(writeBehindQueue.submit(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     @Test
     @DisplayName("Should add interest when it does not exist")
     void toggleInterest_shouldAdd_whenNotExists() {
         //Given
         Long userId = 1L;
         Long eventId = 100L;
-        User user = User.builder().id(userId).build();
-        Event event = Event.builder().id(eventId).build();
         doNothing().when(userValidation).checkIfIdValid(userId);
         // mockujemy ze nie ma jeszcze lajka w bazie
-        when(interestedRepository.findByUserIdAndEventId(userId, eventId)).thenReturn(Optional.empty());
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(interestedRepository.deleteByUserIdAndEventId(userId, eventId)).thenReturn(0);
+        when(interestedRepository.insertIfReferencesExist(userId, eventId)).thenReturn(1);
 
         //When
         String result = interestedService.toggleInterest(userId, eventId);
 
         //Then
         assertEquals("Added to interested", result);
-        verify(interestedRepository).save(any(Interested.class));
+        verifyNoInteractions(userRepository, eventRepository); // zadnego ladowania encji
+        verify(interestCounterBuffer).record(eventId, 1);
+        verify(trendingEvents).record(eventId, 1);
     }
 
     @Test
@@ -75,17 +92,38 @@ public class InterestedServiceTest {
         //Given
         Long userId = 1L;
         Long eventId = 100L;
-        Interested existingInterest = new Interested();
         doNothing().when(userValidation).checkIfIdValid(userId);
         // mockujemy ze lajk juz jest
-        when(interestedRepository.findByUserIdAndEventId(userId, eventId)).thenReturn(Optional.of(existingInterest));
+        when(interestedRepository.deleteByUserIdAndEventId(userId, eventId)).thenReturn(1);
 
         //When
         String result = interestedService.toggleInterest(userId, eventId);
 
         //Then
         assertEquals("Removed from interested", result);
-        verify(interestedRepository).delete(existingInterest); // sprawdzamy czy usunal
+        verify(interestedRepository, never()).insertIfReferencesExist(any(), any()); // sprawdzamy czy nie wstawial
+        verify(interestCounterBuffer).record(eventId, -1);
+        verify(trendingEvents).record(eventId, -1);
+    }
+
+    @Test
+    @DisplayName("Should treat unique constraint violation as concurrent add")
+    void toggleInterest_shouldReturnAdded_whenConcurrentInsertWins() {
+        //Given
+        Long userId = 1L;
+        Long eventId = 100L;
+        doNothing().when(userValidation).checkIfIdValid(userId);
+        when(interestedRepository.deleteByUserIdAndEventId(userId, eventId)).thenReturn(0);
+        // drugie klikniecie wstawilo wiersz miedzy naszym deletem a insertem
+        when(interestedRepository.insertIfReferencesExist(userId, eventId))
+                .thenThrow(new DataIntegrityViolationException("uk_interested_user_event"));
+
+        //When
+        String result = interestedService.toggleInterest(userId, eventId);
+
+        //Then
+        assertEquals("Added to interested", result);
+        verifyNoInteractions(interestCounterBuffer, trendingEvents); // licznik podbil juz wygrany request
     }
 
     @Test
@@ -122,16 +160,34 @@ public class InterestedServiceTest {
 
         doNothing().when(userValidation).checkIfIdValid(userId);
 
-        when(interestedRepository.findByUserIdAndEventId(userId, eventId)).thenReturn(Optional.empty());
-        when(userRepository.findById(userId)).thenReturn(Optional.of(User.builder().id(userId).build()));
-        //mockujemy event nie znaleziony,pusty Optional
-        when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+        when(interestedRepository.deleteByUserIdAndEventId(userId, eventId)).thenReturn(0);
+        //insert nic nie wstawil, a user istnieje - wiec brakuje eventu
+        when(interestedRepository.insertIfReferencesExist(userId, eventId)).thenReturn(0);
+        when(userRepository.existsById(userId)).thenReturn(true);
 
         //Then
         assertThrows(EventNotFoundException.class, () ->
             interestedService.toggleInterest(userId, eventId)
         );
     }
+
+    @Test
+    @DisplayName("Should throw UserNotFoundException when user does not exist")
+    void toggleInterest_shouldThrowException_whenUserNotFound() {
+        //Given
+        Long userId = 99L;
+        Long eventId = 100L;
+
+        doNothing().when(userValidation).checkIfIdValid(userId);
+        when(interestedRepository.deleteByUserIdAndEventId(userId, eventId)).thenReturn(0);
+        when(interestedRepository.insertIfReferencesExist(userId, eventId)).thenReturn(0);
+        when(userRepository.existsById(userId)).thenReturn(false);
+
+        //Then
+        assertThrows(UserNotFoundException.class, () ->
+            interestedService.toggleInterest(userId, eventId)
+        );
+    }
     @Test
     @DisplayName("Should return empty list when user has empty list(no interests)")
     void getUserInterests_shouldReturnEmptyList_whenNoInterestsFound() {
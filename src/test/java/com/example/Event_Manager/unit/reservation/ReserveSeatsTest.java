@@ -0,0 +1,146 @@
+package com.example.Event_Manager.unit.reservation;
+
+import com.example.Event_Manager.models.event.enums.Status;
+import com.example.Event_Manager.models.event.exceptions.EventAlreadyStartedException;
+import com.example.Event_Manager.models.event.exceptions.EventCapacityExceededException;
+import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
+import com.example.Event_Manager.models.event.repository.EventCapacityView;
+import com.example.Event_Manager.models.event.repository.EventRepository;
+import com.example.Event_Manager.models.reservation.exceptions.DuplicateReservationException;
+import com.example.Event_Manager.models.reservation.exceptions.InvalidReservationException;
+import com.example.Event_Manager.models.reservation.repository.ReservationRepository;
+import com.example.Event_Manager.models.reservation.service.ReservationService;
+import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
+import com.example.Event_Manager.models.user.validation.UserValidation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for Reserving Seats")
+public class ReserveSeatsTest {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private UserValidation userValidation;
+    @Mock
+    private EventCapacityView event;
+
+    @InjectMocks
+    private ReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reservationService, "maxSeats", 4);
+    }
+
+    @Test
+    @DisplayName("Should take seats from the event counter and insert the reservation")
+    void reserve_whenSeatsLeft_insertsReservation() {
+        //Given
+        when(eventRepository.reserveSeats(eq(1L), eq(2), eq(Status.PUBLISHED), any(Date.class))).thenReturn(1);
+        when(reservationRepository.insertIfReferencesExist(10L, 1L, 2)).thenReturn(1);
+
+        //When
+        String result = reservationService.reserve(10L, 1L, 2);
+
+        //Then
+        assertEquals("Reserved 2 seat(s)", result);
+        verify(eventRepository, never()).findCapacityById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject seat count above the configured maximum without touching the database")
+    void reserve_whenTooManySeats_throwsInvalidReservation() {
+        assertThrows(InvalidReservationException.class, () -> reservationService.reserve(10L, 1L, 5));
+
+        verifyNoInteractions(eventRepository, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("Should report sold out event when the conditional update matches no row")
+    void reserve_whenSoldOut_throwsCapacityExceeded() {
+        //Given
+        when(eventRepository.reserveSeats(eq(1L), eq(1), eq(Status.PUBLISHED), any(Date.class))).thenReturn(0);
+        when(eventRepository.findCapacityById(1L)).thenReturn(Optional.of(event));
+        when(event.getStatus()).thenReturn(Status.PUBLISHED);
+        when(event.getStartTime()).thenReturn(new Date(System.currentTimeMillis() + HOUR));
+        when(event.getCapacity()).thenReturn(100);
+        when(event.getReservedCount()).thenReturn(100);
+
+        //When
+        EventCapacityExceededException exception = assertThrows(EventCapacityExceededException.class,
+                () -> reservationService.reserve(10L, 1L, 1));
+
+        //Then
+        assertEquals("Not enough seats left, remaining: 0.", exception.getMessage());
+        verify(reservationRepository, never()).insertIfReferencesExist(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should report started event when the conditional update matches no row")
+    void reserve_whenEventStarted_throwsAlreadyStarted() {
+        //Given
+        when(eventRepository.reserveSeats(eq(1L), eq(1), eq(Status.PUBLISHED), any(Date.class))).thenReturn(0);
+        when(eventRepository.findCapacityById(1L)).thenReturn(Optional.of(event));
+        when(event.getStatus()).thenReturn(Status.ONGOING);
+
+        //When & Then
+        assertThrows(EventAlreadyStartedException.class, () -> reservationService.reserve(10L, 1L, 1));
+    }
+
+    @Test
+    @DisplayName("Should throw EventNotFoundException when event does not exist")
+    void reserve_whenEventMissing_throwsEventNotFound() {
+        //Given
+        when(eventRepository.reserveSeats(eq(1L), eq(1), eq(Status.PUBLISHED), any(Date.class))).thenReturn(0);
+        when(eventRepository.findCapacityById(1L)).thenReturn(Optional.empty());
+
+        //When & Then
+        assertThrows(EventNotFoundException.class, () -> reservationService.reserve(10L, 1L, 1));
+    }
+
+    @Test
+    @DisplayName("Should throw UserNotFoundException when user row does not exist")
+    void reserve_whenUserMissing_throwsUserNotFound() {
+        //Given
+        when(eventRepository.reserveSeats(eq(1L), eq(1), eq(Status.PUBLISHED), any(Date.class))).thenReturn(1);
+        when(reservationRepository.insertIfReferencesExist(10L, 1L, 1)).thenReturn(0);
+
+        //When & Then
+        assertThrows(UserNotFoundException.class, () -> reservationService.reserve(10L, 1L, 1));
+    }
+
+    @Test
+    @DisplayName("Should translate unique key violation into DuplicateReservationException")
+    void reserve_whenAlreadyReserved_throwsDuplicate() {
+        //Given
+        when(eventRepository.reserveSeats(eq(1L), eq(1), eq(Status.PUBLISHED), any(Date.class))).thenReturn(1);
+        when(reservationRepository.insertIfReferencesExist(10L, 1L, 1))
+                .thenThrow(new DataIntegrityViolationException("uk_reservations_user_event"));
+
+        //When & Then
+        assertThrows(DuplicateReservationException.class, () -> reservationService.reserve(10L, 1L, 1));
+    }
+}
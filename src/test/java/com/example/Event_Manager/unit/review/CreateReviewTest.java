@@ -1,6 +1,7 @@
 package com.example.Event_Manager.unit.review;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.models._util.writebehind.WriteBehindQueue;
 import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
 import com.example.Event_Manager.models.event.repository.EventRepository;
@@ -9,6 +10,7 @@ import com.example.Event_Manager.models.review.Review;
 import com.example.Event_Manager.models.review.dto.request.CreateReviewDTO;
 import com.example.Event_Manager.models.review.dto.response.ReviewDTO;
 import com.example.Event_Manager.models.review.mapper.ReviewMapper;
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
 import com.example.Event_Manager.models.review.repository.ReviewRepository;
 import com.example.Event_Manager.models.review.service.ReviewService;
 import com.example.Event_Manager.models.review.validation.ReviewValidation;
@@ -16,15 +18,19 @@ import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
 import com.example.Event_Manager.models.user.validation.UserValidation;
 import com.example.Event_Manager.models.venue.validation.VenueValidation;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,6 +42,9 @@ public class CreateReviewTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private EventRatingBucketRepository eventRatingBucketRepository;
+
     @Mock
     private EventRepository eventRepository;
 
@@ -57,9 +66,22 @@ public class CreateReviewTest {
     @Mock
     private ReviewMapper reviewMapper;
 
+    @Mock
+    private WriteBehindQueue writeBehindQueue;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ReviewService reviewService;
 
+    // write-behind wylaczony: zapis idzie od razu na watku wolajacego
+    @BeforeEach
+    void setUp() {
+        lenient().when(writeBehindQueue.submit(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     @Test
     @DisplayName("Should create review successfully with valid data")
     void createReview_shouldSucceed_whenDataIsValid() {
@@ -101,6 +123,39 @@ public class CreateReviewTest {
         verify(userRepository).findById(userId);
         verify(reviewRepository).save(reviewToSave);
         verify(reviewMapper).toDTO(savedReview);
+        // blokada eventu przed pierwszym UPDATE nowego kubelka
+        InOrder inOrder = inOrder(eventRepository, eventRatingBucketRepository);
+        inOrder.verify(eventRepository).lockById(eventId);
+        inOrder.verify(eventRatingBucketRepository).adjustReviewCount(eventId, 5, 1);
+        inOrder.verify(eventRatingBucketRepository).insertBucket(eventId, 5, 1);
+    }
+
+    @Test
+    @DisplayName("Should increment existing rating bucket without locking the event")
+    void createReview_shouldIncrementExistingRatingBucket() {
+        // Given
+        Long userId = 1L;
+        Long eventId = 1L;
+        CreateReviewDTO createDTO = new CreateReviewDTO(eventId, 1L, 7, "Nice");
+        User user = User.builder().id(userId).build();
+        Event event = Event.builder().id(eventId).build();
+        Review reviewToSave = Review.builder().user(user).event(event).rating(7).build();
+        Review savedReview = Review.builder().id(2L).user(user).event(event).rating(7).build();
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(reviewMapper.toEntity(createDTO, event, user)).thenReturn(reviewToSave);
+        when(reviewRepository.save(reviewToSave)).thenReturn(savedReview);
+        when(eventRatingBucketRepository.existsByEventIdAndRating(eventId, 7)).thenReturn(true);
+        when(eventRatingBucketRepository.adjustReviewCount(eventId, 7, 1)).thenReturn(1);
+
+        // When
+        reviewService.createReview(createDTO, userId);
+
+        // Then
+        verify(eventRatingBucketRepository).adjustReviewCount(eventId, 7, 1);
+        verify(eventRepository, never()).lockById(anyLong());
+        verify(eventRatingBucketRepository, never()).insertBucket(anyLong(), anyInt(), anyLong());
     }
 
     @Test
@@ -1,8 +1,10 @@
 package com.example.Event_Manager.unit.review;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.review.Review;
 import com.example.Event_Manager.models.review.exceptions.ReviewNotFoundException;
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
 import com.example.Event_Manager.models.review.repository.ReviewRepository;
 import com.example.Event_Manager.models.review.service.ReviewService;
 import com.example.Event_Manager.models.review.validation.ReviewValidation;
@@ -29,6 +31,9 @@ public class DeleteReviewTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private EventRatingBucketRepository eventRatingBucketRepository;
+
     @Mock
     private UserRepository userRepository;
 
@@ -50,6 +55,8 @@ public class DeleteReviewTest {
 
         Review review = new Review();
         review.setId(reviewId);
+        review.setEvent(Event.builder().id(3L).build());
+        review.setRating(8);
 
         User user = new User();
         user.setId(userId);
@@ -78,6 +85,7 @@ public class DeleteReviewTest {
         verify(userRepository).findById(userId);
         verify(userValidation).checkIfObjectExist(user);
         verify(reviewRepository).deleteById(reviewId);
+        verify(eventRatingBucketRepository).adjustReviewCount(3L, 8, -1);
     }
 
     @Test
@@ -1,17 +1,17 @@
 package com.example.Event_Manager.unit.review;
 
+import com.example.Event_Manager.models._util.conditional.ResourceVersion;
 import com.example.Event_Manager.models.event.Event;
 import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
 import com.example.Event_Manager.models.event.repository.EventRepository;
 import com.example.Event_Manager.models.event.validation.EventValidation;
-import com.example.Event_Manager.models.review.Review;
-import com.example.Event_Manager.models.review.dto.response.ReviewDTO;
 import com.example.Event_Manager.models.review.dto.response.ReviewSummaryDTO;
 import com.example.Event_Manager.models.review.exceptions.ReviewsNotFoundException;
 import com.example.Event_Manager.models.review.mapper.ReviewMapper;
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
+import com.example.Event_Manager.models.review.repository.EventRatingCount;
 import com.example.Event_Manager.models.review.repository.ReviewRepository;
 import com.example.Event_Manager.models.review.service.ReviewService;
-import com.example.Event_Manager.models.user.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,12 +19,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +36,9 @@ public class GetEventSummaryTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private EventRatingBucketRepository eventRatingBucketRepository;
+
     @Mock
     private EventRepository eventRepository;
 
@@ -52,26 +57,11 @@ public class GetEventSummaryTest {
         // Given
         Long eventId = 1L;
         Event event = Event.builder().id(eventId).name("Koncert Rockowy").build();
-        User user1 = User.builder().id(1L).firstName("Jan").lastName("Kowalski").build();
-        User user2 = User.builder().id(2L).firstName("Anna").lastName("Nowak").build();
-        LocalDateTime now = LocalDateTime.now();
-
-        Review review1 = Review.builder().id(101L).event(event).user(user1).rating(8)
-                .comment("fajen generalnie").createdAt(now).build();
-        Review review2 = Review.builder().id(102L).event(event).user(user2).rating(6)
-                .comment("spoko ale dj wheelitup lepszy na sc").createdAt(now).build();
-        List<Review> reviews = List.of(review1, review2);
-
-        ReviewDTO reviewDTO1 = new ReviewDTO(101L, eventId, "Koncert Rockowy",
-                1L, "Jan Kowalski", 8, "fajen generalnie", now);
-        ReviewDTO reviewDTO2 = new ReviewDTO(102L, eventId, "Koncert Rockowy",
-                2L, "Anna Nowak", 6, "spoko ale dj wheelitup lepszy na sc", now);
 
         doNothing().when(eventValidation).checkIfIdValid(eventId);
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(reviewRepository.findByEventId(eventId)).thenReturn(reviews);
-        when(reviewMapper.toDTO(review1)).thenReturn(reviewDTO1);
-        when(reviewMapper.toDTO(review2)).thenReturn(reviewDTO2);
+        when(eventRatingBucketRepository.findRatingCounts(eventId))
+                .thenReturn(List.of(new EventRatingCount(8, 1), new EventRatingCount(6, 1)));
 
         // When
         ReviewSummaryDTO summary = reviewService.getEventReviewSummary(eventId);
@@ -82,13 +72,12 @@ public class GetEventSummaryTest {
         assertEquals("Koncert Rockowy", summary.eventName());
         assertEquals(2, summary.totalReviews());
         assertEquals(7.0, summary.averageRating());
-        assertTrue(summary.eventRatings().containsKey(event));
-        assertEquals(2, summary.eventRatings().get(event).size());
+        assertEquals(Map.of(6, 1L, 8, 1L), summary.ratingHistogram());
 
         verify(eventValidation).checkIfIdValid(eventId);
         verify(eventRepository).findById(eventId);
-        verify(reviewRepository).findByEventId(eventId);
-        verify(reviewMapper, times(2)).toDTO(any(Review.class));
+        verify(eventRatingBucketRepository).findRatingCounts(eventId);
+        verifyNoInteractions(reviewRepository, reviewMapper);
     }
 
     @Test
@@ -100,7 +89,7 @@ public class GetEventSummaryTest {
 
         doNothing().when(eventValidation).checkIfIdValid(eventId);
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(reviewRepository.findByEventId(eventId)).thenReturn(Collections.emptyList());
+        when(eventRatingBucketRepository.findRatingCounts(eventId)).thenReturn(Collections.emptyList());
 
         // When & Then
         ReviewsNotFoundException exception = assertThrows(ReviewsNotFoundException.class, () -> {
@@ -111,8 +100,7 @@ public class GetEventSummaryTest {
 
         verify(eventValidation).checkIfIdValid(eventId);
         verify(eventRepository).findById(eventId);
-        verify(reviewRepository).findByEventId(eventId);
-        verify(reviewMapper, never()).toDTO(any(Review.class));
+        verify(eventRatingBucketRepository).findRatingCounts(eventId);
     }
 
     @Test
@@ -133,7 +121,7 @@ public class GetEventSummaryTest {
 
         verify(eventValidation).checkIfIdValid(eventId);
         verify(eventRepository).findById(eventId);
-        verify(reviewRepository, never()).findByEventId(anyLong());
+        verify(eventRatingBucketRepository, never()).findRatingCounts(anyLong());
     }
 
     @Test
@@ -153,7 +141,7 @@ public class GetEventSummaryTest {
 
         verify(eventValidation).checkIfIdValid(invalidEventId);
         verify(eventRepository, never()).findById(anyLong());
-        verify(reviewRepository, never()).findByEventId(anyLong());
+        verify(eventRatingBucketRepository, never()).findRatingCounts(anyLong());
     }
 
     @Test
@@ -162,15 +150,10 @@ public class GetEventSummaryTest {
         // Given
         Long eventId = 4L;
         Event event = Event.builder().id(eventId).name("Wystawa Sztuki").build();
-        User user = User.builder().id(3L).firstName("Piotr").lastName("Zieliński").build();
-        Review review = Review.builder().id(104L).event(event).user(user).rating(10).build();
-        ReviewDTO reviewDTO = new ReviewDTO(104L, eventId, "Wystawa Sztuki", 3L,
-                "Piotr Zieliński", 10, null, null);
 
         doNothing().when(eventValidation).checkIfIdValid(eventId);
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(reviewRepository.findByEventId(eventId)).thenReturn(List.of(review));
-        when(reviewMapper.toDTO(review)).thenReturn(reviewDTO);
+        when(eventRatingBucketRepository.findRatingCounts(eventId)).thenReturn(List.of(new EventRatingCount(10, 1)));
 
         // When
         ReviewSummaryDTO summary = reviewService.getEventReviewSummary(eventId);
@@ -179,70 +162,65 @@ public class GetEventSummaryTest {
         assertNotNull(summary);
         assertEquals(1, summary.totalReviews());
         assertEquals(10.0, summary.averageRating());
-
-        verify(eventValidation).checkIfIdValid(eventId);
-        verify(eventRepository).findById(eventId);
-        verify(reviewRepository).findByEventId(eventId);
-        verify(reviewMapper).toDTO(review);
+        assertEquals(Map.of(10, 1L), summary.ratingHistogram());
     }
 
     @Test
-    @DisplayName("Should throw ReviewsNotFoundException when reviews list is null")
-    void getEventReviewSummary_shouldThrowException_whenReviewsListIsNull() {
+    @DisplayName("Should correctly calculate weighted average from rating buckets")
+    void getEventReviewSummary_shouldCalculateAverageCorrectly_forMultipleBuckets() {
         // Given
-        Long eventId = 5L;
-        Event event = Event.builder().id(eventId).name("Null Reviews Event").build();
+        Long eventId = 6L;
+        Event event = Event.builder().id(eventId).name("Festival").build();
 
         doNothing().when(eventValidation).checkIfIdValid(eventId);
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(reviewRepository.findByEventId(eventId)).thenReturn(null);
+        when(eventRatingBucketRepository.findRatingCounts(eventId)).thenReturn(List.of(
+                new EventRatingCount(6, 30_000),
+                new EventRatingCount(10, 20_000)
+        ));
 
-        // When & Then
-        ReviewsNotFoundException exception = assertThrows(ReviewsNotFoundException.class, () -> {
-            reviewService.getEventReviewSummary(eventId);
-        });
-
-        assertEquals("No reviews summary found for event with id: " + eventId, exception.getMessage());
+        // When
+        ReviewSummaryDTO summary = reviewService.getEventReviewSummary(eventId);
 
-        verify(eventValidation).checkIfIdValid(eventId);
-        verify(eventRepository).findById(eventId);
-        verify(reviewRepository).findByEventId(eventId);
+        // Then
+        assertNotNull(summary);
+        assertEquals(50_000, summary.totalReviews());
+        assertEquals(7.6, summary.averageRating(), 0.0001);
+        assertEquals(Map.of(6, 30_000L, 10, 20_000L), summary.ratingHistogram());
     }
 
     @Test
-    @DisplayName("Should correctly calculate average rating for multiple reviews with different ratings")
-    void getEventReviewSummary_shouldCalculateAverageCorrectly_forMultipleReviews() {
+    @DisplayName("Should change summary version when rating buckets change")
+    void getEventReviewSummaryVersion_shouldChange_whenBucketsChange() {
         // Given
-        Long eventId = 6L;
-        Event event = Event.builder().id(eventId).name("Festival").build();
-
-        Review review1 = Review.builder().id(201L).event(event).rating(10).build();
-        Review review2 = Review.builder().id(202L).event(event).rating(8).build();
-        Review review3 = Review.builder().id(203L).event(event).rating(6).build();
-        List<Review> reviews = List.of(review1, review2, review3);
-
-        ReviewDTO dto1 = new ReviewDTO(201L, eventId, "Festival", 1L, "User1", 10, null, null);
-        ReviewDTO dto2 = new ReviewDTO(202L, eventId, "Festival", 2L, "User2", 8, null, null);
-        ReviewDTO dto3 = new ReviewDTO(203L, eventId, "Festival", 3L, "User3", 6, null, null);
-
+        Long eventId = 7L;
         doNothing().when(eventValidation).checkIfIdValid(eventId);
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(reviewRepository.findByEventId(eventId)).thenReturn(reviews);
-        when(reviewMapper.toDTO(review1)).thenReturn(dto1);
-        when(reviewMapper.toDTO(review2)).thenReturn(dto2);
-        when(reviewMapper.toDTO(review3)).thenReturn(dto3);
+        when(eventRepository.findLastModifiedById(eventId)).thenReturn(Optional.of(new Date(1_000)));
+        when(eventRatingBucketRepository.findRatingCounts(eventId)).thenReturn(
+                List.of(new EventRatingCount(5, 1), new EventRatingCount(7, 1)),
+                List.of(new EventRatingCount(6, 2))
+        );
 
         // When
-        ReviewSummaryDTO summary = reviewService.getEventReviewSummary(eventId);
+        ResourceVersion first = reviewService.getEventReviewSummaryVersion(eventId);
+        ResourceVersion second = reviewService.getEventReviewSummaryVersion(eventId);
 
         // Then
-        assertNotNull(summary);
-        assertEquals(3, summary.totalReviews());
-        assertEquals(8.0, summary.averageRating());
+        assertNotEquals(first.etag(), second.etag());
+        assertEquals(-1, first.lastModified());
+        verify(eventRepository, never()).findById(any());
+    }
 
-        verify(eventValidation).checkIfIdValid(eventId);
-        verify(eventRepository).findById(eventId);
-        verify(reviewRepository).findByEventId(eventId);
-        verify(reviewMapper, times(3)).toDTO(any(Review.class));
+    @Test
+    @DisplayName("Should throw EventNotFoundException for summary version of unknown event")
+    void getEventReviewSummaryVersion_shouldThrow_whenEventDoesNotExist() {
+        // Given
+        Long eventId = 404L;
+        doNothing().when(eventValidation).checkIfIdValid(eventId);
+        when(eventRepository.findLastModifiedById(eventId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(EventNotFoundException.class, () -> reviewService.getEventReviewSummaryVersion(eventId));
+        verifyNoInteractions(eventRatingBucketRepository);
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import com.example.Event_Manager.models.review.dto.request.UpdateReviewDTO;
 import com.example.Event_Manager.models.review.dto.response.ReviewDTO;
 import com.example.Event_Manager.models.review.exceptions.ReviewNotFoundException;
 import com.example.Event_Manager.models.review.mapper.ReviewMapper;
+import com.example.Event_Manager.models.review.repository.EventRatingBucketRepository;
 import com.example.Event_Manager.models.review.repository.ReviewRepository;
 import com.example.Event_Manager.models.review.service.ReviewService;
 import com.example.Event_Manager.models.review.validation.ReviewValidation;
@@ -34,6 +35,9 @@ public class UpdateReviewTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private EventRatingBucketRepository eventRatingBucketRepository;
+
     @Mock
     private UserRepository userRepository;
 
@@ -93,6 +97,9 @@ public class UpdateReviewTest {
         doNothing().when(reviewMapper).updateEntity(existingReview, updateDTO);
         when(reviewRepository.save(existingReview)).thenReturn(updatedReview);
         when(reviewMapper.toDTO(updatedReview)).thenReturn(expectedDTO);
+        when(eventRatingBucketRepository.adjustReviewCount(event.getId(), 5, -1)).thenReturn(1);
+        when(eventRatingBucketRepository.existsByEventIdAndRating(event.getId(), 9)).thenReturn(true);
+        when(eventRatingBucketRepository.adjustReviewCount(event.getId(), 9, 1)).thenReturn(1);
 
         // When
         ReviewDTO result = reviewService.updateReview(reviewId, updateDTO, userId);
@@ -112,6 +119,8 @@ public class UpdateReviewTest {
         verify(reviewMapper).updateEntity(existingReview, updateDTO);
         verify(reviewRepository).save(existingReview);
         verify(reviewMapper).toDTO(updatedReview);
+        verify(eventRatingBucketRepository).adjustReviewCount(event.getId(), 5, -1);
+        verify(eventRatingBucketRepository).adjustReviewCount(event.getId(), 9, 1);
     }
 
     @Test
@@ -291,6 +300,9 @@ public class UpdateReviewTest {
         doNothing().when(reviewMapper).updateEntity(existingReview, updateDTO);
         when(reviewRepository.save(existingReview)).thenReturn(updatedReview);
         when(reviewMapper.toDTO(updatedReview)).thenReturn(expectedDTO);
+        when(eventRatingBucketRepository.adjustReviewCount(event.getId(), 5, -1)).thenReturn(1);
+        when(eventRatingBucketRepository.existsByEventIdAndRating(event.getId(), 10)).thenReturn(true);
+        when(eventRatingBucketRepository.adjustReviewCount(event.getId(), 10, 1)).thenReturn(1);
 
         // When
         ReviewDTO result = reviewService.updateReview(reviewId, updateDTO, userId);
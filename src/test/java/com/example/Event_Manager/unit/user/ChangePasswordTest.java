@@ -1,6 +1,7 @@
 package com.example.Event_Manager.unit.user;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.auth.service.TokenVersionRegistry;
 import com.example.Event_Manager.models.user.User;
 import com.example.Event_Manager.models.user.dto.request.ChangePasswordRequest;
 import com.example.Event_Manager.models.user.service.UserService;
@@ -27,6 +28,7 @@ public class ChangePasswordTest {
     private UserRepository userRepository;
     @Mock private UserValidation userValidation;
     @Mock private PasswordEncoder passwordEncoder;
+    @Mock private TokenVersionRegistry tokenVersionRegistry;
 
     @InjectMocks
     private UserService userService;
@@ -50,6 +52,7 @@ public class ChangePasswordTest {
         //Then
         verify(userRepository).save(user);
         verify(passwordEncoder).encode("noweHaslo");
+        verify(tokenVersionRegistry).revoke(userId);
     }
 
     @Test
@@ -1,6 +1,7 @@
 package com.example.Event_Manager.unit.user;
 
 import com.example.Event_Manager.auth.repository.UserRepository;
+import com.example.Event_Manager.auth.service.TokenVersionRegistry;
 import com.example.Event_Manager.models.user.exceptions.UserNotFoundException;
 import com.example.Event_Manager.models.user.service.UserService;
 import com.example.Event_Manager.models.user.validation.UserValidation;
@@ -20,6 +21,7 @@ public class DeleteUserTest {
 
     @Mock private UserRepository userRepository;
     @Mock private UserValidation userValidation;
+    @Mock private TokenVersionRegistry tokenVersionRegistry;
 
     @InjectMocks private UserService userService;
 
@@ -34,6 +36,7 @@ public class DeleteUserTest {
         //When
         userService.deleteUser(userId);
         //Then
+        verify(tokenVersionRegistry).revoke(userId);
         verify(userRepository).deleteById(userId);
     }
 
@@ -48,5 +51,6 @@ public class DeleteUserTest {
         //Then
         assertThrows(UserNotFoundException.class, () -> userService.deleteUser(userId));
         verify(userRepository, never()).deleteById(any());
+        verify(tokenVersionRegistry, never()).revoke(any());
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.example.Event_Manager.models.city.exceptions.CityNotFoundException;
 import com.example.Event_Manager.models.city.repository.CityRepository;
 import com.example.Event_Manager.models.country.Country;
 import com.example.Event_Manager.models.country.dto.response.CountryDTO;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import com.example.Event_Manager.models.venue.Venue;
 import com.example.Event_Manager.models.venue.dto.request.CreateVenueDTO;
 import com.example.Event_Manager.models.venue.dto.response.VenueDTO;
@@ -38,6 +39,9 @@ public class CreateVenueTest {
     @Mock
     private VenueMapper venueMapper;
 
+    @Mock
+    private GeoCatalogue geoCatalogue;
+
     @InjectMocks
     private VenueService venueService;
 
@@ -71,7 +75,8 @@ public class CreateVenueTest {
                 "PGE Narodowy",
                 "Al. Poniatowskiego 1",
                 "Stadion Narodowy w Warszawie",
-                1L
+                1L,
+                null
         );
         Venue venueToSave = Venue.builder()
                 .name(createDTO.name())
@@ -92,6 +97,7 @@ public class CreateVenueTest {
                 "PGE Narodowy",
                 "Al. Poniatowskiego 1",
                 "Stadion Narodowy w Warszawie",
+                null,
                 cityDTO
         );
 
@@ -116,7 +122,8 @@ public class CreateVenueTest {
                 "PGE Narodowy",
                 "Al. Poniatowskiego 1",
                 "Stadion Narodowy w Warszawie",
-                1L
+                1L,
+                null
         );
         Long cityId = createDTO.cityId();
 
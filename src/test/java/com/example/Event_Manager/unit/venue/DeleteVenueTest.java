@@ -3,6 +3,7 @@ package com.example.Event_Manager.unit.venue;
 import com.example.Event_Manager.models.city.City;
 import com.example.Event_Manager.models.city.repository.CityRepository;
 import com.example.Event_Manager.models.country.Country;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import com.example.Event_Manager.models.venue.Venue;
 import com.example.Event_Manager.models.venue.exceptions.VenueNotFoundException;
 import com.example.Event_Manager.models.venue.repository.VenueRepository;
@@ -27,6 +28,8 @@ public class DeleteVenueTest {
     @Mock
     private VenueRepository venueRepository;
 
+    @Mock
+    private GeoCatalogue geoCatalogue;
 
     @InjectMocks
     private VenueService venueService;
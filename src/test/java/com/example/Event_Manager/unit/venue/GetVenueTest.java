@@ -67,6 +67,7 @@ public class GetVenueTest {
                 "PGE Narodowy",
                 "Al. Poniatowskiego 1",
                 "Stadion Narodowy w Warszawie",
+                null,
                 new CityDTO(
                         1L,
                         "Warsaw",
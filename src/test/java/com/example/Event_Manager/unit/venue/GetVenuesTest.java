@@ -72,6 +72,7 @@ public class GetVenuesTest {
                 "PGE Narodowy",
                 "Al. Poniatowskiego 1",
                 "Stadion Narodowy w Warszawie",
+                null,
                 new CityDTO(
                         1L,
                         "Warsaw",
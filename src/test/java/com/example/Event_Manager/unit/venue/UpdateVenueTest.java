@@ -6,6 +6,8 @@ import com.example.Event_Manager.models.city.exceptions.CityNotFoundException;
 import com.example.Event_Manager.models.city.repository.CityRepository;
 import com.example.Event_Manager.models.country.Country;
 import com.example.Event_Manager.models.country.dto.response.CountryDTO;
+import com.example.Event_Manager.models.event.search.EventSearchIndex;
+import com.example.Event_Manager.models.geo.GeoCatalogue;
 import com.example.Event_Manager.models.venue.Venue;
 import com.example.Event_Manager.models.venue.dto.request.UpdateVenueDTO;
 import com.example.Event_Manager.models.venue.dto.response.VenueDTO;
@@ -40,6 +42,12 @@ public class UpdateVenueTest {
     @Mock
     private VenueMapper venueMapper;
 
+    @Mock
+    private GeoCatalogue geoCatalogue;
+
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
     @InjectMocks
     private VenueService venueService;
 
@@ -74,7 +82,8 @@ public class UpdateVenueTest {
                 "PGE Narodowy",
                 "Al. Poniatowskiego 1",
                 "Stadion Narodowy w Warszawie",
-                1L
+                1L,
+                null
         );
 
         Venue venue = Venue.builder()
@@ -90,6 +99,7 @@ public class UpdateVenueTest {
                 "PGE Narodowy",
                 "Al. Poniatowskiego 1",
                 "Stadion Narodowy w Warszawie",
+                null,
                 cityDTO
         );
 
@@ -106,6 +116,7 @@ public class UpdateVenueTest {
         verify(venueMapper).updateEntity(venue, updateVenueDTO, city);
         verify(venueRepository).save(venue);
         verify(venueMapper).toDTO(venue);
+        verify(eventSearchIndex).reindexVenue(venueId);
     }
 
     @Test
@@ -116,7 +127,8 @@ public class UpdateVenueTest {
                 "PGE Narodowy",
                 "Al. Poniatowskiego 1",
                 "Stadion Narodowy w Warszawie",
-                1L
+                1L,
+                null
         );
 
         when(venueRepository.findById(venueId)).thenReturn(Optional.empty());
@@ -138,7 +150,8 @@ public class UpdateVenueTest {
                 "PGE Narodowy",
                 "Al. Poniatowskiego 1",
                 "Stadion Narodowy w Warszawie",
-                nonExistentCityId
+                nonExistentCityId,
+                null
         );
 
         Venue venue = Venue.builder()
@@ -0,0 +1,226 @@
+package com.example.Event_Manager.unit.writebehind;
+
+import com.example.Event_Manager.models._util.writebehind.WriteBehindOverloadedException;
+import com.example.Event_Manager.models._util.writebehind.WriteBehindQueue;
+import com.example.Event_Manager.models._util.writebehind.WriteDurability;
+import com.example.Event_Manager.models.event.exceptions.EventNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Write-Behind Queue Unit Test")
+public class WriteBehindQueueTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WriteBehindQueue writeBehindQueue;
+    private ExecutorService executor;
+    private Duration commitTimeout = Duration.ofSeconds(10);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        if (writeBehindQueue != null) {
+            writeBehindQueue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write inline without queueing when write-behind is disabled")
+    void submit_shouldWriteInline_whenDisabled() {
+        //Given
+        writeBehindQueue = queue(false, WriteDurability.COMMIT, 10, Duration.ofSeconds(1), 10);
+
+        //When
+        String result = writeBehindQueue.submit(() -> "written", "accepted");
+
+        //Then
+        assertEquals("written", result);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should commit concurrent writes together in one transaction")
+    void submit_shouldGroupConcurrentWritesIntoOneCommit() throws Exception {
+        //Given
+        int writes = 20;
+        writeBehindQueue = queue(true, WriteDurability.COMMIT, writes, Duration.ofSeconds(5), 100);
+        executor = Executors.newFixedThreadPool(writes);
+        AtomicInteger written = new AtomicInteger();
+
+        //When
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < writes; i++) {
+            int value = i;
+            results.add(executor.submit(() -> writeBehindQueue.submit(() -> {
+                written.incrementAndGet();
+                return value;
+            }, -1)));
+        }
+
+        //Then
+        for (int i = 0; i < writes; i++) {
+            assertEquals(i, results.get(i).get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(writes, written.get());
+        // 20 zapisow, jeden commit
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should retry each write alone and fail only the broken one when batch fails")
+    void submit_shouldRetryWritesOneByOne_whenBatchFails() throws Exception {
+        //Given
+        writeBehindQueue = queue(true, WriteDurability.COMMIT, 3, Duration.ofSeconds(5), 10);
+        executor = Executors.newFixedThreadPool(3);
+        AtomicInteger brokenAttempts = new AtomicInteger();
+
+        //When
+        Future<String> first = executor.submit(() -> writeBehindQueue.submit(() -> "first", "accepted"));
+        Future<String> broken = executor.submit(() -> writeBehindQueue.submit(() -> {
+            brokenAttempts.incrementAndGet();
+            throw new EventNotFoundException("Event not found");
+        }, "accepted"));
+        Future<String> third = executor.submit(() -> writeBehindQueue.submit(() -> "third", "accepted"));
+
+        //Then
+        assertEquals("first", first.get(10, TimeUnit.SECONDS));
+        assertEquals("third", third.get(10, TimeUnit.SECONDS));
+        Exception exception = assertThrows(Exception.class, () -> broken.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(EventNotFoundException.class, exception.getCause());
+        // raz w paczce (wycofanej) i raz osobno
+        assertEquals(2, brokenAttempts.get());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should answer before the write is committed in QUEUED mode")
+    void submit_shouldReturnAccepted_whenDurabilityIsQueued() throws InterruptedException {
+        //Given
+        writeBehindQueue = queue(true, WriteDurability.QUEUED, 10, Duration.ofMillis(10), 10);
+        CountDownLatch written = new CountDownLatch(1);
+
+        //When
+        String result = writeBehindQueue.submit(() -> {
+            written.countDown();
+            return "written";
+        }, "accepted");
+
+        //Then
+        assertEquals("accepted", result);
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should reject writes when queue stays full past enqueue timeout")
+    void submit_shouldThrowOverloaded_whenQueueIsFull() throws InterruptedException {
+        //Given
+        writeBehindQueue = queue(true, WriteDurability.QUEUED, 1, Duration.ZERO, 1);
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // flusher utyka na pierwszym zapisie, drugi zajmuje jedyne miejsce w kolejce
+        writeBehindQueue.submit(() -> {
+            flushing.countDown();
+            awaitQuietly(release);
+            return "first";
+        }, "accepted");
+        assertTrue(flushing.await(10, TimeUnit.SECONDS));
+        writeBehindQueue.submit(() -> "second", "accepted");
+
+        //When & Then
+        try {
+            assertThrows(WriteBehindOverloadedException.class,
+                    () -> writeBehindQueue.submit(() -> "third", "accepted"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail the batch and keep flushing when a write throws an Error")
+    void submit_shouldKeepFlusherAlive_whenWriteThrowsError() {
+        //Given
+        writeBehindQueue = queue(true, WriteDurability.COMMIT, 1, Duration.ofMillis(10), 10);
+
+        //When & Then
+        assertThrows(IllegalStateException.class, () -> writeBehindQueue.submit(() -> {
+            throw new StackOverflowError();
+        }, "accepted"));
+        assertEquals("after", writeBehindQueue.submit(() -> "after", "accepted"));
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for the commit after commit timeout")
+    void submit_shouldThrowOverloaded_whenCommitTakesTooLong() {
+        //Given
+        commitTimeout = Duration.ofMillis(100);
+        writeBehindQueue = queue(true, WriteDurability.COMMIT, 1, Duration.ZERO, 10);
+        CountDownLatch release = new CountDownLatch(1);
+
+        //When & Then
+        try {
+            assertThrows(WriteBehindOverloadedException.class, () -> writeBehindQueue.submit(() -> {
+                awaitQuietly(release);
+                return "slow";
+            }, "accepted"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write inline once the queue is stopped")
+    void submit_shouldWriteInline_afterStop() throws InterruptedException {
+        //Given
+        writeBehindQueue = queue(true, WriteDurability.COMMIT, 10, Duration.ofMillis(10), 10);
+        writeBehindQueue.stop();
+
+        //When
+        String result = writeBehindQueue.submit(() -> "written", "accepted");
+
+        //Then
+        assertEquals("written", result);
+    }
+
+    private WriteBehindQueue queue(boolean enabled, WriteDurability durability, int batchSize, Duration maxDelay, int capacity) {
+        WriteBehindQueue queue = new WriteBehindQueue(transactionManager, new SimpleMeterRegistry(),
+                enabled, durability, batchSize, maxDelay, capacity, Duration.ofMillis(50), commitTimeout);
+        queue.start();
+        return queue;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}